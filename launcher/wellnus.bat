@@ -0,0 +1,23 @@
+@echo off
+setlocal enableextensions
+
+REM Launches WellNUS++ with the class data sharing archive built by `gradlew cdsArchive`, if it is present.
+REM Keep this script next to the WellNUS++ jar and WellNus.jsa; all arguments are passed on to WellNUS++.
+
+set jarloc=
+for /f "tokens=*" %%a in (
+    'dir /b "%~dp0WellNus*.jar"'
+) do (
+    set jarloc=%~dp0%%a
+)
+if not defined jarloc (
+    echo WellNUS++ jar not found in %~dp0, run gradlew cdsArchive first! 1>&2
+    exit /b 1
+)
+
+REM Short runs spend most of their time loading classes and compiling, not running WellNUS++ itself,
+REM so only the quick first tier of the JIT compiler is used
+set opts=-XX:TieredStopAtLevel=1
+if exist "%~dp0WellNus.jsa" set opts=%opts% -XX:SharedArchiveFile="%~dp0WellNus.jsa"
+
+java %opts% -jar "%jarloc%" %*
@@ -0,0 +1,24 @@
+#!/usr/bin/env bash
+
+# Launches WellNUS++ with the class data sharing archive built by `gradlew cdsArchive`, if it is present.
+# Keep this script next to the WellNUS++ jar and WellNus.jsa; all arguments are passed on to WellNUS++.
+
+# directory of this script, which holds the jar and the archive
+dir="$(cd "${0%/*}" && pwd)"
+
+jar=$(find "$dir" -maxdepth 1 -name 'WellNus*.jar' -print -quit)
+if [ -z "$jar" ]
+then
+    echo "WellNUS++ jar not found in $dir, run ./gradlew cdsArchive first!" >&2
+    exit 1
+fi
+
+# Short runs spend most of their time loading classes and compiling, not running WellNUS++ itself,
+# so only the quick first tier of the JIT compiler is used
+opts="-XX:TieredStopAtLevel=1"
+if [ -f "$dir/WellNus.jsa" ]
+then
+    opts="$opts -XX:SharedArchiveFile=$dir/WellNus.jsa"
+fi
+
+exec java $opts -jar "$jar" "$@"
@@ -0,0 +1,90 @@
+package wellnus.command;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import wellnus.exception.BadCommandException;
+
+/**
+ * Measures how long CommandParser takes to parse the commands a user typically issues. <br>
+ * <p>
+ * Every invocation parses the next command of USER_COMMANDS, so the numbers are an average over the whole mix.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CommandParserBenchmark {
+    // Commands from the user guide, weighted roughly by how often they are used
+    private static final String[] USER_COMMANDS = {
+        "hb",
+        "add --name make bed every morning",
+        "update --id 1",
+        "update --id 2 --by 3",
+        "list",
+        "home",
+        "reflect",
+        "get",
+        "like 2",
+        "fav",
+        "home",
+        "ft",
+        "config --cycle 2 --work 25 --break 5 --longbreak 15",
+        "start",
+        "next",
+        "stop",
+        "home",
+        "gamif",
+        "stats",
+        "help hb",
+        "home",
+        "exit"
+    };
+    private final CommandParser parser = new CommandParser();
+    private int nextCommandIndex = 0;
+
+    /**
+     * Parses the next command in the mix into a ParsedCommand.
+     *
+     * @return ParsedCommand of the command
+     * @throws BadCommandException If the command is invalid, which none in the mix is
+     */
+    @Benchmark
+    public ParsedCommand parse() throws BadCommandException {
+        return parser.parse(getNextCommand());
+    }
+
+    /**
+     * Parses the arguments and payloads of the next command in the mix.
+     *
+     * @return Arguments and payloads of the command
+     * @throws BadCommandException If the command is invalid, which none in the mix is
+     */
+    @Benchmark
+    public HashMap<String, String> parseUserInput() throws BadCommandException {
+        return parser.parseUserInput(getNextCommand());
+    }
+
+    /**
+     * Parses the main argument of the next command in the mix, as every Manager does before dispatching it.
+     *
+     * @return Main argument of the command
+     * @throws BadCommandException If the command is invalid, which none in the mix is
+     */
+    @Benchmark
+    public String getMainArgument() throws BadCommandException {
+        return parser.getMainArgument(getNextCommand());
+    }
+
+    private String getNextCommand() {
+        String command = USER_COMMANDS[nextCommandIndex];
+        nextCommandIndex = (nextCommandIndex + 1) % USER_COMMANDS.length;
+        return command;
+    }
+}
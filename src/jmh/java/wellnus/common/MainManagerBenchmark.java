@@ -0,0 +1,60 @@
+package wellnus.common;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import wellnus.command.ParsedCommand;
+import wellnus.exception.BadCommandException;
+import wellnus.manager.Manager;
+
+/**
+ * Measures how long MainManager takes to dispatch a command to the feature Manager or main Command
+ * that handles it, without running them. <br>
+ * <p>
+ * The feature Managers load their data from the data directory of the working directory, like WellNUS++ does.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MainManagerBenchmark {
+    private static final String[] MAIN_COMMANDS = {"hb", "reflect", "ft", "gamif", "help", "help hb", "exit"};
+    private MainManager mainManager;
+    private int nextCommandIndex = 0;
+
+    /**
+     * Creates a MainManager and enters every feature once, so that only lookups of existing Managers are measured.
+     */
+    @Setup
+    public void setUp() {
+        mainManager = new MainManager();
+        for (String command : MAIN_COMMANDS) {
+            mainManager.getManagerFor(command.split(" ")[0]);
+        }
+    }
+
+    /**
+     * Finds the feature Manager of the next command in the mix, or creates its main Command if it has none.
+     *
+     * @return Feature Manager or main Command that handles the command
+     * @throws BadCommandException If the command is invalid, which none in the mix is
+     */
+    @Benchmark
+    public Object dispatch() throws BadCommandException {
+        String command = MAIN_COMMANDS[nextCommandIndex];
+        nextCommandIndex = (nextCommandIndex + 1) % MAIN_COMMANDS.length;
+        ParsedCommand parsedCommand = mainManager.getCommandParser().parse(command);
+        Optional<Manager> featureManager = mainManager.getManagerFor(parsedCommand.getMainArgument());
+        if (featureManager.isPresent()) {
+            return featureManager.get();
+        }
+        return mainManager.getMainCommandFor(parsedCommand);
+    }
+}
@@ -0,0 +1,67 @@
+package wellnus.focus;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import wellnus.focus.feature.FocusUi;
+import wellnus.focus.feature.ManualClock;
+import wellnus.focus.feature.Session;
+
+/**
+ * Measures how long the Focus Timer takes to run a whole session of the default configuration,
+ * on a ManualClock so that no real time passes. <br>
+ * <p>
+ * This is the overhead of the Focus Timer itself: scheduling, waking and completing every countdown,
+ * and printing to an output that discards everything.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FocusSessionBenchmark {
+    private PrintStream standardOutput;
+    private ManualClock clock;
+    private Session session;
+
+    /**
+     * Discards the output of the Focus Timer and creates a Session on a ManualClock.
+     */
+    @Setup
+    public void setUp() {
+        standardOutput = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        clock = new ManualClock();
+        session = new Session(new FocusUi(), clock);
+    }
+
+    /**
+     * Restores the standard output.
+     */
+    @TearDown
+    public void tearDown() {
+        System.setOut(standardOutput);
+    }
+
+    /**
+     * Starts every countdown of the session in turn and fast-forwards the clock through it.
+     *
+     * @return Session that was run, which is ready for the next run
+     */
+    @Benchmark
+    public Session runSession() {
+        do {
+            session.startTimer();
+            clock.advanceUntilIdle();
+        } while (!session.isSessionReady());
+        return session;
+    }
+}
@@ -0,0 +1,96 @@
+package wellnus.storage;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import wellnus.atomichabit.feature.AtomicHabit;
+import wellnus.exception.StorageException;
+
+/**
+ * Measures how long Storage takes to save and load pre-tokenized data with <code>saveData()</code>
+ * and <code>loadData()</code>. <br>
+ * <p>
+ * The data is written to the debug data file, so the data of the features is left untouched.
+ * Files are not forced onto the disk, so that the numbers do not depend on the disk of the machine.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StorageBenchmark {
+    @Param({"10", "10000", "1000000"})
+    private int numOfRecords;
+    // Journaled mode diffs every save against the data file, while unjournaled mode rewrites it
+    @Param({"true", "false"})
+    private boolean isJournaled;
+    private Storage storage;
+    private ArrayList<String> tokenizedHabits;
+
+    /**
+     * Writes the data file that the load benchmarks read.
+     *
+     * @throws StorageException If the data file cannot be written
+     */
+    @Setup
+    public void setUp() throws StorageException {
+        storage = new Storage();
+        storage.setJournaled(isJournaled);
+        storage.setFsyncPolicy(FsyncPolicy.NEVER);
+        tokenizedHabits = new AtomicHabitTokenizer().tokenize(getHabits(numOfRecords));
+        storage.saveData(tokenizedHabits, Storage.FILE_DEBUG);
+    }
+
+    /**
+     * Removes the data file written by the benchmarks.
+     *
+     * @throws StorageException If the data file cannot be deleted
+     */
+    @TearDown
+    public void tearDown() throws StorageException {
+        storage.deleteFile(Storage.FILE_DEBUG);
+    }
+
+    /**
+     * Saves the same tokenized habits again, as a feature does after every command.
+     *
+     * @throws StorageException If the data file cannot be written
+     */
+    @Benchmark
+    public void saveData() throws StorageException {
+        storage.saveData(tokenizedHabits, Storage.FILE_DEBUG);
+    }
+
+    /**
+     * Loads the tokenized habits, as a feature does when WellNUS++ starts.
+     *
+     * @return Tokenized habits in the data file
+     * @throws StorageException If the data file cannot be read
+     */
+    @Benchmark
+    public ArrayList<String> loadData() throws StorageException {
+        return storage.loadData(Storage.FILE_DEBUG);
+    }
+
+    /**
+     * Returns habits with distinct descriptions and counts, the same ones on every run.
+     *
+     * @param numOfHabits Number of habits to return
+     * @return ArrayList of habits
+     */
+    static ArrayList<AtomicHabit> getHabits(int numOfHabits) {
+        ArrayList<AtomicHabit> habits = new ArrayList<>();
+        for (int i = 0; i < numOfHabits; i++) {
+            habits.add(new AtomicHabit("drink a glass of water before lecture " + i, i % 100));
+        }
+        return habits;
+    }
+}
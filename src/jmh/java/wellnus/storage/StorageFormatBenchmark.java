@@ -0,0 +1,84 @@
+package wellnus.storage;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import wellnus.atomichabit.feature.AtomicHabit;
+import wellnus.exception.StorageException;
+import wellnus.exception.TokenizerException;
+
+/**
+ * Measures how long Storage takes to save and load data objects with <code>saveObjects()</code>
+ * and <code>loadObjects()</code>, in each StorageFormat. <br>
+ * <p>
+ * Like StorageBenchmark, it only writes the debug data file and never forces it onto the disk.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StorageFormatBenchmark {
+    @Param({"10", "10000", "1000000"})
+    private int numOfRecords;
+    @Param({"TEXT", "BINARY"})
+    private StorageFormat storageFormat;
+    private final AtomicHabitTokenizer tokenizer = new AtomicHabitTokenizer();
+    private Storage storage;
+    private ArrayList<AtomicHabit> habits;
+
+    /**
+     * Writes the data file that the load benchmarks read.
+     *
+     * @throws StorageException If the data file cannot be written
+     */
+    @Setup
+    public void setUp() throws StorageException {
+        storage = new Storage();
+        storage.setJournaled(false);
+        storage.setFsyncPolicy(FsyncPolicy.NEVER);
+        storage.setStorageFormat(storageFormat);
+        habits = StorageBenchmark.getHabits(numOfRecords);
+        storage.saveObjects(habits, tokenizer, Storage.FILE_DEBUG);
+    }
+
+    /**
+     * Removes the data file written by the benchmarks.
+     *
+     * @throws StorageException If the data file cannot be deleted
+     */
+    @TearDown
+    public void tearDown() throws StorageException {
+        storage.deleteFile(Storage.FILE_DEBUG);
+    }
+
+    /**
+     * Saves the habits, tokenizing them as they are written.
+     *
+     * @throws StorageException If the data file cannot be written
+     */
+    @Benchmark
+    public void saveObjects() throws StorageException {
+        storage.saveObjects(habits, tokenizer, Storage.FILE_DEBUG);
+    }
+
+    /**
+     * Loads the habits, detokenizing them as they are read.
+     *
+     * @return Habits in the data file
+     * @throws StorageException If the data file cannot be read
+     * @throws TokenizerException If the data file does not hold valid habits
+     */
+    @Benchmark
+    public ArrayList<AtomicHabit> loadObjects() throws StorageException, TokenizerException {
+        return storage.loadObjects(Storage.FILE_DEBUG, tokenizer);
+    }
+}
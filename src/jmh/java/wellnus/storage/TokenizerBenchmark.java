@@ -0,0 +1,164 @@
+package wellnus.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import wellnus.atomichabit.feature.AtomicHabit;
+import wellnus.exception.TokenizerException;
+import wellnus.gamification.util.GamificationData;
+
+/**
+ * Measures the round-trip of every feature's data through its Tokenizer: tokenizing the data objects
+ * and detokenizing the result back into data objects, in both the text and the binary format. <br>
+ * <p>
+ * Reflection data is always a set of liked questions and a set of previous questions,
+ * so its round-trip does not depend on the number of records.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TokenizerBenchmark {
+    /**
+     * Data objects of the habit and gamification features, with the given number of records.
+     */
+    @State(Scope.Benchmark)
+    public static class RecordState {
+        @Param({"10", "10000", "1000000"})
+        private int numOfRecords;
+        private final AtomicHabitTokenizer habitTokenizer = new AtomicHabitTokenizer();
+        private final GamificationTokenizer gamificationTokenizer = new GamificationTokenizer();
+        private ArrayList<AtomicHabit> habits;
+        private ArrayList<GamificationData> gamificationData;
+
+        /**
+         * Creates the same data objects on every run.
+         */
+        @Setup
+        public void setUp() {
+            habits = StorageBenchmark.getHabits(numOfRecords);
+            gamificationData = new ArrayList<>();
+            for (int i = 0; i < numOfRecords; i++) {
+                gamificationData.add(new GamificationData(i));
+            }
+        }
+    }
+
+    /**
+     * Data of the reflection feature.
+     */
+    @State(Scope.Benchmark)
+    public static class ReflectionState {
+        private final ReflectionTokenizer reflectionTokenizer = new ReflectionTokenizer();
+        private final ArrayList<Set<Integer>> indexes = new ArrayList<>();
+
+        /**
+         * Creates a typical set of liked questions and set of previous questions.
+         */
+        @Setup
+        public void setUp() {
+            indexes.add(new HashSet<>(Arrays.asList(0, 3, 4, 7)));
+            indexes.add(new HashSet<>(Arrays.asList(1, 2, 5, 8, 9)));
+        }
+    }
+
+    /**
+     * Tokenizes the habits and detokenizes them back.
+     *
+     * @param state Habits to round-trip
+     * @return Detokenized habits
+     * @throws TokenizerException If the tokenized habits cannot be detokenized
+     */
+    @Benchmark
+    public ArrayList<AtomicHabit> roundTripHabits(RecordState state) throws TokenizerException {
+        return state.habitTokenizer.detokenize(state.habitTokenizer.tokenize(state.habits));
+    }
+
+    /**
+     * Writes the habits as binary records and reads them back.
+     *
+     * @param state Habits to round-trip
+     * @return Habits read back
+     * @throws IOException If the records cannot be written or read
+     * @throws TokenizerException If the records do not hold valid habits
+     */
+    @Benchmark
+    public ArrayList<AtomicHabit> roundTripHabitsBinary(RecordState state) throws IOException, TokenizerException {
+        return state.habitTokenizer.readBinary(getInputOf(state.habitTokenizer, state.habits));
+    }
+
+    /**
+     * Tokenizes the gamification data and detokenizes it back.
+     *
+     * @param state Gamification data to round-trip
+     * @return Detokenized gamification data
+     * @throws TokenizerException If the tokenized gamification data cannot be detokenized
+     */
+    @Benchmark
+    public ArrayList<GamificationData> roundTripGamification(RecordState state) throws TokenizerException {
+        return state.gamificationTokenizer.detokenize(state.gamificationTokenizer.tokenize(state.gamificationData));
+    }
+
+    /**
+     * Writes the gamification data as binary records and reads it back.
+     *
+     * @param state Gamification data to round-trip
+     * @return Gamification data read back
+     * @throws IOException If the records cannot be written or read
+     * @throws TokenizerException If the records do not hold valid gamification data
+     */
+    @Benchmark
+    public ArrayList<GamificationData> roundTripGamificationBinary(RecordState state)
+            throws IOException, TokenizerException {
+        return state.gamificationTokenizer.readBinary(getInputOf(state.gamificationTokenizer,
+                state.gamificationData));
+    }
+
+    /**
+     * Tokenizes the reflection data and detokenizes it back.
+     *
+     * @param state Reflection data to round-trip
+     * @return Detokenized reflection data
+     * @throws TokenizerException If the tokenized reflection data cannot be detokenized
+     */
+    @Benchmark
+    public ArrayList<Set<Integer>> roundTripReflection(ReflectionState state) throws TokenizerException {
+        return state.reflectionTokenizer.detokenize(state.reflectionTokenizer.tokenize(state.indexes));
+    }
+
+    /**
+     * Writes the reflection data as binary records and reads it back.
+     *
+     * @param state Reflection data to round-trip
+     * @return Reflection data read back
+     * @throws IOException If the records cannot be written or read
+     * @throws TokenizerException If the records do not hold valid reflection data
+     */
+    @Benchmark
+    public ArrayList<Set<Integer>> roundTripReflectionBinary(ReflectionState state)
+            throws IOException, TokenizerException {
+        return state.reflectionTokenizer.readBinary(getInputOf(state.reflectionTokenizer, state.indexes));
+    }
+
+    private static <T> DataInputStream getInputOf(BinaryTokenizer<T> tokenizer, Iterable<T> dataObjects)
+            throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        tokenizer.writeBinary(dataObjects, new DataOutputStream(bytes));
+        return new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+    }
+}
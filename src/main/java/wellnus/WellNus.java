@@ -1,30 +1,47 @@
 package wellnus;
 
+import java.io.IOException;
+
 import wellnus.common.MainManager;
+import wellnus.common.StartupTimer;
+import wellnus.common.WellNusLogger;
+import wellnus.exception.EndOfScriptException;
 import wellnus.manager.Manager;
+import wellnus.ui.BatchMode;
 import wellnus.ui.TextUi;
+import wellnus.ui.UiContext;
 
 /**
  * Main class of our WellNUS++ application. main() is executed when the application is launched.<br/>
  * <p>
  * Control is then passed to MainManager.runEventDriver().
+ * <p>
+ * When launched with <code>--script (file)</code>, the commands in the file are run in batch mode instead.
  *
+ * @see BatchMode
  * @see MainManager#runEventDriver()
  */
 public class WellNus {
     private static final String BYE_MESSAGE = "Thank you for using WellNUS++! See you again soon Dx";
     private static final String GREETING_MESSAGE = "Very good day to you! Welcome to ";
     private static final String NEWLINE = System.lineSeparator();
+    private static final int NUM_OF_SCRIPT_ARGUMENTS = 2;
+    private static final int EXIT_STATUS_SUCCESS = 0;
+    private static final int EXIT_STATUS_FAILURE = 1;
+    private static final String SCRIPT_ERROR_MESSAGE = "Script '%s' could not be opened, "
+            + "please check that it exists and can be read!";
     private final TextUi textUi;
     private final MainManager mainManager;
 
     /**
      * Initialises an instance of WellNUS++, which needs <code>TextUi</code>
-     * and <code>MainManager</code>.
+     * and <code>MainManager</code>, sharing one <code>UiContext</code>.
      */
     public WellNus() {
-        this.textUi = new TextUi();
-        this.mainManager = new MainManager();
+        UiContext uiContext = UiContext.getStandard();
+        this.textUi = new TextUi(uiContext);
+        this.mainManager = new MainManager(uiContext);
+        StartupTimer.markManagersReady();
     }
 
     private static String getWellNusLogo() {
@@ -68,9 +85,38 @@ public class WellNus {
      * @param args Commandline arguments passed to the WellNus Java ARchive
      */
     public static void main(String[] args) {
+        StartupTimer.markMainEntered();
+        if (args.length == NUM_OF_SCRIPT_ARGUMENTS && args[0].equals(BatchMode.SCRIPT_FLAG)) {
+            System.exit(runScript(args[1]));
+        }
         new WellNus().start();
     }
 
+    /**
+     * Runs the commands in a script through WellNUS++ in batch mode and prints a summary of failures.
+     *
+     * @param scriptPath Path of the script, or <code>-</code> to read the script from stdin
+     * @return Exit status of WellNUS++, which is non-zero if the script could not be opened or any command failed
+     */
+    private static int runScript(String scriptPath) {
+        try {
+            BatchMode.start(scriptPath);
+        } catch (IOException exception) {
+            new TextUi().printErrorFor(exception, String.format(SCRIPT_ERROR_MESSAGE, scriptPath));
+            return EXIT_STATUS_FAILURE;
+        }
+        WellNus wellNus = new WellNus();
+        try {
+            wellNus.executeUserCommands();
+        } catch (EndOfScriptException exception) {
+            // Scripts may end without an exit command, in which case the log file is still open
+            WellNusLogger.closeLogFile();
+        }
+        BatchMode batchMode = BatchMode.getInstance();
+        wellNus.getTextUi().printOutputMessage(batchMode.finish());
+        return batchMode.hasFailures() ? EXIT_STATUS_FAILURE : EXIT_STATUS_SUCCESS;
+    }
+
     /**
      * Starts up WellNUS++: Greets the user, reads for commands until a exit command is given,
      * and bids the user goodbye.<br/>
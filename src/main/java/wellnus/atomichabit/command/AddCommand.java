@@ -41,13 +41,14 @@ public class AddCommand extends Command {
     /**
      * Constructs an AddCommand object.<br>
      *
-     * @param arguments    Argument-Payload map generated by CommandParser.
-     * @param atomicHabits The AtomicHabitList object to add the habit to.
+     * @param arguments     Argument-Payload map generated by CommandParser.
+     * @param atomicHabits  The AtomicHabitList object to add the habit to.
+     * @param atomicHabitUi The AtomicHabitUi shared by the atomic habit commands.
      */
-    public AddCommand(HashMap<String, String> arguments, AtomicHabitList atomicHabits) {
+    public AddCommand(HashMap<String, String> arguments, AtomicHabitList atomicHabits, AtomicHabitUi atomicHabitUi) {
         super(arguments);
         this.atomicHabits = atomicHabits;
-        this.atomicHabitUi = new AtomicHabitUi();
+        this.atomicHabitUi = atomicHabitUi;
     }
 
     private AtomicHabitList getAtomicHabits() {
@@ -51,13 +51,15 @@ public class DeleteCommand extends Command {
     /**
      * Constructs an DeleteCommand object with the given arguments and AtomicHabitList.<br>
      *
-     * @param arguments    Argument-Payload map generated by CommandParser.
-     * @param atomicHabits The AtomicHabitList object containing habit to be deleted.
+     * @param arguments     Argument-Payload map generated by CommandParser.
+     * @param atomicHabits  The AtomicHabitList object containing habit to be deleted.
+     * @param atomicHabitUi The AtomicHabitUi shared by the atomic habit commands.
      */
-    public DeleteCommand(HashMap<String, String> arguments, AtomicHabitList atomicHabits) {
+    public DeleteCommand(HashMap<String, String> arguments, AtomicHabitList atomicHabits,
+                         AtomicHabitUi atomicHabitUi) {
         super(arguments);
         this.atomicHabits = atomicHabits;
-        this.atomicHabitUi = new AtomicHabitUi();
+        this.atomicHabitUi = atomicHabitUi;
     }
 
     /**
@@ -36,11 +36,12 @@ public class HelpCommand extends Command {
     /**
      * Initialises a HelpCommand Object using the command arguments issued by the user.
      *
-     * @param arguments Command arguments issued by the user
+     * @param arguments     Command arguments issued by the user
+     * @param atomicHabitUi The AtomicHabitUi shared by the atomic habit commands.
      */
-    public HelpCommand(HashMap<String, String> arguments) {
+    public HelpCommand(HashMap<String, String> arguments, AtomicHabitUi atomicHabitUi) {
         super(arguments);
-        this.atomicHabitUi = new AtomicHabitUi();
+        this.atomicHabitUi = atomicHabitUi;
     }
 
     private AtomicHabitUi getTextUi() {
@@ -25,11 +25,12 @@ public class HomeCommand extends Command {
     /**
      * Constructs an HomeCommand object.<br>
      *
-     * @param arguments Argument-Payload map generated by CommandParser.
+     * @param arguments     Argument-Payload map generated by CommandParser.
+     * @param atomicHabitUi The AtomicHabitUi shared by the atomic habit commands.
      */
-    public HomeCommand(HashMap<String, String> arguments) {
+    public HomeCommand(HashMap<String, String> arguments, AtomicHabitUi atomicHabitUi) {
         super(arguments);
-        this.atomicHabitUi = new AtomicHabitUi();
+        this.atomicHabitUi = atomicHabitUi;
     }
 
     private AtomicHabitUi getTextUi() {
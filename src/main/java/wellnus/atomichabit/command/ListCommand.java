@@ -34,13 +34,14 @@ public class ListCommand extends Command {
     /**
      * Constructs an ListCommand object.<br>
      *
-     * @param arguments    Argument-Payload map generated by CommandParser.
-     * @param atomicHabits The AtomicHabitList object to get all atomic habit.
+     * @param arguments     Argument-Payload map generated by CommandParser.
+     * @param atomicHabits  The AtomicHabitList object to get all atomic habit.
+     * @param atomicHabitUi The AtomicHabitUi shared by the atomic habit commands.
      */
-    public ListCommand(HashMap<String, String> arguments, AtomicHabitList atomicHabits) {
+    public ListCommand(HashMap<String, String> arguments, AtomicHabitList atomicHabits, AtomicHabitUi atomicHabitUi) {
         super(arguments);
         this.atomicHabits = atomicHabits;
-        this.atomicHabitUi = new AtomicHabitUi();
+        this.atomicHabitUi = atomicHabitUi;
     }
 
     private AtomicHabitUi getTextUi() {
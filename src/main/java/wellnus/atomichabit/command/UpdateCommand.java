@@ -70,15 +70,17 @@ public class UpdateCommand extends Command {
     /**
      * Constructs an UpdateCommand object with the given arguments and AtomicHabitList.<br>
      *
-     * @param arguments    Argument-Payload map generated by CommandParser.
-     * @param atomicHabits The AtomicHabitList object containing habit to be updates.
+     * @param arguments        Argument-Payload map generated by CommandParser.
+     * @param atomicHabits     The AtomicHabitList object containing habit to be updates.
+     * @param gamificationData The GamificationData to award XP to.
+     * @param atomicHabitUi    The AtomicHabitUi shared by the atomic habit commands.
      */
     public UpdateCommand(HashMap<String, String> arguments, AtomicHabitList atomicHabits,
-                         GamificationData gamificationData) {
+                         GamificationData gamificationData, AtomicHabitUi atomicHabitUi) {
         super(arguments);
         this.atomicHabits = atomicHabits;
         this.gamificationData = gamificationData;
-        this.atomicHabitUi = new AtomicHabitUi();
+        this.atomicHabitUi = atomicHabitUi;
     }
 
     /**
@@ -200,7 +202,7 @@ public class UpdateCommand extends Command {
                 return;
             }
             if (changeCount > ZERO) {
-                habit.increaseCount(changeCount);
+                getAtomicHabits().increaseHabitCount(habit, changeCount);
                 // Add XP for completing atomic habits as an incentive
                 hasLevelUp = gamificationData.addXp(
                         changeCount * NUM_OF_XP_PER_INCREMENT);
@@ -208,7 +210,7 @@ public class UpdateCommand extends Command {
                 if (getPositive(changeCount) > habit.getCount()) {
                     throw new AtomicHabitException(FEEDBACK_DECREMENT_ERROR);
                 }
-                habit.decreaseCount(getPositive(changeCount));
+                getAtomicHabits().decreaseHabitCount(habit, getPositive(changeCount));
             }
             String stringOfUpdatedHabit = (index + 1) + DOT + habit + " " + "[" + habit.getCount() + "]"
                     + LINE_SEPARATOR;
@@ -21,22 +21,41 @@ public class AtomicHabitList {
     private static final Logger LOGGER = WellNusLogger.getLogger("AtomicHabitListLogger");
     private static final AtomicHabitTokenizer atomicHabitTokenizer = new AtomicHabitTokenizer();
     private ArrayList<AtomicHabit> allAtomicHabits;
+    // Bumped on every change to the habits; storeHabitData() only writes when it differs from savedVersion
+    private long version = 0;
+    private long savedVersion = 0;
 
     private Storage storage;
     private TextUi textUi;
 
     /**
-     * Constructor for AtomicHabitList class, initializes the storage,textUi and allAtomicHabits objects.
+     * Constructor for AtomicHabitList class that uses the Storage shared by all features.
      * Loads the data from the data file into the arraylist of atomic habits.
      */
     public AtomicHabitList() {
-        try {
-            this.storage = new Storage();
-        } catch (StorageException storageException) {
-            LOGGER.log(Level.WARNING, STORAGE_ERROR);
-            textUi.printErrorFor(storageException, STORAGE_ERROR);
-        }
-        textUi = new TextUi();
+        this(Storage.getInstance());
+    }
+
+    /**
+     * Constructor for AtomicHabitList class, initializes the storage,textUi and allAtomicHabits objects.
+     * Loads the data from the data file into the arraylist of atomic habits.
+     *
+     * @param storage Storage to load and store the habits with
+     */
+    public AtomicHabitList(Storage storage) {
+        this(storage, new AtomicHabitUi());
+    }
+
+    /**
+     * Constructor for AtomicHabitList class, initializes the storage,textUi and allAtomicHabits objects.
+     * Loads the data from the data file into the arraylist of atomic habits, reporting errors through the given UI.
+     *
+     * @param storage Storage to load and store the habits with
+     * @param atomicHabitUi AtomicHabitUi shared by the atomic habits feature
+     */
+    public AtomicHabitList(Storage storage, AtomicHabitUi atomicHabitUi) {
+        this.storage = storage;
+        textUi = atomicHabitUi;
         allAtomicHabits = new ArrayList<>();
         try {
             this.loadHabitData();
@@ -67,6 +86,7 @@ public class AtomicHabitList {
 
     public void addAtomicHabit(AtomicHabit atomicHabit) {
         allAtomicHabits.add(atomicHabit);
+        markModified();
     }
 
     /**
@@ -76,17 +96,69 @@ public class AtomicHabitList {
      */
     public void deleteAtomicHabit(AtomicHabit atomicHabit) {
         allAtomicHabits.remove(atomicHabit);
+        markModified();
+    }
+
+    /**
+     * Method to increase the count of a habit in the list.
+     *
+     * @param atomicHabit Atomic habit to be updated
+     * @param increment   Amount to increase the count of the habit by
+     */
+    public void increaseHabitCount(AtomicHabit atomicHabit, int increment) {
+        atomicHabit.increaseCount(increment);
+        markModified();
     }
 
     /**
-     * Tokenize the atomic habits and store them in a data file.
+     * Method to decrease the count of a habit in the list.
+     *
+     * @param atomicHabit Atomic habit to be updated
+     * @param decrement   Amount to decrease the count of the habit by
+     */
+    public void decreaseHabitCount(AtomicHabit atomicHabit, int decrement) {
+        atomicHabit.decreaseCount(decrement);
+        markModified();
+    }
+
+    /**
+     * Records that the habits have changed and need to be stored again.
+     * Call this after changing an AtomicHabit in this list without going through this class.
+     */
+    public void markModified() {
+        version += 1;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Checks if the habits have changed since they were last stored or loaded.
+     *
+     * @return boolean representing if there are changes that have not been stored
+     */
+    public boolean isModified() {
+        return version != savedVersion;
+    }
+
+    /**
+     * Store the atomic habits in a data file, in the storage format selected in Storage.
+     * Nothing is written if the habits have not changed since they were last stored.
      *
-     * @throws TokenizerException If there is error during tokenization
      * @throws StorageException   If data cannot be stored properly
      */
     public void storeHabitData() throws StorageException {
-        ArrayList<String> tokenizedHabitList = atomicHabitTokenizer.tokenize(allAtomicHabits);
-        storage.saveData(tokenizedHabitList, Storage.FILE_HABIT);
+        if (!isModified()) {
+            return;
+        }
+        ArrayList<AtomicHabit> habitsToStore = new ArrayList<>();
+        for (AtomicHabit habit : allAtomicHabits) {
+            // The save is written later, by which time the habit may have changed again
+            habitsToStore.add(new AtomicHabit(habit.getDescription(), habit.getCount()));
+        }
+        storage.scheduleSave(habitsToStore, atomicHabitTokenizer, Storage.FILE_HABIT);
+        savedVersion = version;
     }
 
     /**
@@ -97,11 +169,13 @@ public class AtomicHabitList {
      */
     public void loadHabitData() throws StorageException, TokenizerException {
         boolean fileExists = storage.checkFileExists(Storage.FILE_HABIT);
-        ArrayList<String> loadedHabitList = storage.loadData(Storage.FILE_HABIT);
+        // Each habit is detokenized as it is read, so the data file is never held in memory as a whole
+        ArrayList<AtomicHabit> detokenizedHabitList = storage.loadObjects(Storage.FILE_HABIT, atomicHabitTokenizer);
         if (fileExists) {
-            ArrayList<AtomicHabit> detokenizedHabitList = atomicHabitTokenizer.detokenize(loadedHabitList);
             allAtomicHabits = detokenizedHabitList;
         }
+        // What is in memory now matches what is on disk
+        savedVersion = version;
     }
 
     /**
@@ -9,12 +9,16 @@ import wellnus.atomichabit.command.HomeCommand;
 import wellnus.atomichabit.command.ListCommand;
 import wellnus.atomichabit.command.UpdateCommand;
 import wellnus.command.Command;
+import wellnus.command.ParsedCommand;
 import wellnus.exception.AtomicHabitException;
 import wellnus.exception.BadCommandException;
 import wellnus.exception.StorageException;
 import wellnus.exception.WellNusException;
 import wellnus.gamification.util.GamificationData;
 import wellnus.manager.Manager;
+import wellnus.storage.Storage;
+import wellnus.ui.BatchMode;
+import wellnus.ui.UiContext;
 
 
 /**
@@ -38,7 +42,6 @@ public class AtomicHabitManager extends Manager {
             + System.lineSeparator() + "Track and inculcate good habits into your life with us!";
     private static final String HOME_COMMAND_KEYWORD = "home";
     private static final String LIST_COMMAND_KEYWORD = "list";
-    private static final String UNKNOWN_COMMAND_MESSAGE = "Invalid command issued!";
     private static final String UPDATE_COMMAND_KEYWORD = "update";
     private static final String HELP_COMMAND_KEYWORD = "help";
     private static final String DELETE_COMMAND_KEYWORD = "delete";
@@ -65,10 +68,34 @@ public class AtomicHabitManager extends Manager {
      * Will initialise the private objects habitList and textUi
      */
     public AtomicHabitManager(GamificationData gamificationData) {
+        this(gamificationData, Storage.getInstance());
+    }
+
+    /**
+     * Constructor of AtomicHabitManager
+     * Will initialise the private objects habitList and textUi, storing the habits with the given Storage
+     *
+     * @param gamificationData GamificationData to award XP to when habits are completed
+     * @param storage          Storage to load and store the habits with
+     */
+    public AtomicHabitManager(GamificationData gamificationData, Storage storage) {
+        this(gamificationData, storage, UiContext.getStandard());
+    }
+
+    /**
+     * Constructor of AtomicHabitManager
+     * Will initialise the private objects habitList and textUi, sharing the given UiContext with the rest of WellNUS++
+     *
+     * @param gamificationData GamificationData to award XP to when habits are completed
+     * @param storage          Storage to load and store the habits with
+     * @param uiContext        UiContext shared by the UIs of WellNUS++
+     */
+    public AtomicHabitManager(GamificationData gamificationData, Storage storage, UiContext uiContext) {
         this.gamificationData = gamificationData;
-        this.habitList = new AtomicHabitList();
-        this.atomicHabitUi = new AtomicHabitUi();
+        this.atomicHabitUi = new AtomicHabitUi(uiContext);
+        this.habitList = new AtomicHabitList(storage, this.atomicHabitUi);
         this.atomicHabitUi.setCursorName(FEATURE_NAME);
+        registerCommands();
     }
 
     /**
@@ -80,24 +107,20 @@ public class AtomicHabitManager extends Manager {
      * @throws BadCommandException If an unknown command was issued by the user
      */
     private Command getCommandFor(String commandString) throws BadCommandException {
-        HashMap<String, String> arguments = getCommandParser().parseUserInput(commandString);
-        String commandKeyword = getCommandParser().getMainArgument(commandString);
-        switch (commandKeyword) {
-        case ADD_COMMAND_KEYWORD:
-            return new AddCommand(arguments, getHabitList());
-        case DELETE_COMMAND_KEYWORD:
-            return new DeleteCommand(arguments, getHabitList());
-        case HOME_COMMAND_KEYWORD:
-            return new HomeCommand(arguments);
-        case LIST_COMMAND_KEYWORD:
-            return new ListCommand(arguments, getHabitList());
-        case UPDATE_COMMAND_KEYWORD:
-            return new UpdateCommand(arguments, getHabitList(), gamificationData);
-        case HELP_COMMAND_KEYWORD:
-            return new HelpCommand(arguments);
-        default:
-            throw new BadCommandException(UNKNOWN_COMMAND_MESSAGE);
-        }
+        ParsedCommand parsedCommand = getCommandParser().parse(commandString);
+        return getCommandRegistry().getCommandFor(parsedCommand);
+    }
+
+    private void registerCommands() {
+        getCommandRegistry()
+                .register(ADD_COMMAND_KEYWORD, arguments -> new AddCommand(arguments, getHabitList(), getTextUi()))
+                .register(DELETE_COMMAND_KEYWORD,
+                        arguments -> new DeleteCommand(arguments, getHabitList(), getTextUi()))
+                .register(HOME_COMMAND_KEYWORD, arguments -> new HomeCommand(arguments, getTextUi()))
+                .register(LIST_COMMAND_KEYWORD, arguments -> new ListCommand(arguments, getHabitList(), getTextUi()))
+                .register(UPDATE_COMMAND_KEYWORD,
+                        arguments -> new UpdateCommand(arguments, getHabitList(), gamificationData, getTextUi()))
+                .register(HELP_COMMAND_KEYWORD, arguments -> new HelpCommand(arguments, getTextUi()));
     }
 
     private AtomicHabitList getHabitList() {
@@ -109,6 +132,9 @@ public class AtomicHabitManager extends Manager {
     }
 
     private void greet() {
+        if (BatchMode.isActive()) {
+            return;
+        }
         getTextUi().printLogoWithSeparator(ATOMIC_HABIT_LOGO);
         getTextUi().printOutputMessage(GREETING_MESSAGE);
     }
@@ -123,7 +149,7 @@ public class AtomicHabitManager extends Manager {
             try {
                 String commandString = getTextUi().getCommand();
                 Command command = getCommandFor(commandString);
-                command.execute();
+                getCommandRegistry().execute(command);
                 try {
                     habitList.storeHabitData();
                 } catch (StorageException exception) {
@@ -186,19 +212,19 @@ public class AtomicHabitManager extends Manager {
             switch (userCommand) {
             case ADD_COMMAND_KEYWORD:
                 arguments = getCommandParser().parseUserInput(descriptionTest);
-                return new AddCommand(arguments, new AtomicHabitList());
+                return new AddCommand(arguments, new AtomicHabitList(), getTextUi());
             case DELETE_COMMAND_KEYWORD:
                 arguments = getCommandParser().parseUserInput(indexTest);
-                return new DeleteCommand(arguments, new AtomicHabitList());
+                return new DeleteCommand(arguments, new AtomicHabitList(), getTextUi());
             case LIST_COMMAND_KEYWORD:
                 arguments = getCommandParser().parseUserInput(listCommand);
-                return new ListCommand(arguments, new AtomicHabitList());
+                return new ListCommand(arguments, new AtomicHabitList(), getTextUi());
             case HOME_COMMAND_KEYWORD:
                 arguments = getCommandParser().parseUserInput(exitCommand);
-                return new HomeCommand(arguments);
+                return new HomeCommand(arguments, getTextUi());
             case UPDATE_COMMAND_KEYWORD:
                 arguments = getCommandParser().parseUserInput(indexTest);
-                return new UpdateCommand(arguments, new AtomicHabitList(), gamificationData);
+                return new UpdateCommand(arguments, new AtomicHabitList(), gamificationData, getTextUi());
             default:
                 throw new AtomicHabitException(invalidCommandErrorMessage);
             }
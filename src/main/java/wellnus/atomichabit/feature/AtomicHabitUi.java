@@ -3,6 +3,7 @@ package wellnus.atomichabit.feature;
 import java.io.InputStream;
 
 import wellnus.ui.TextUi;
+import wellnus.ui.UiContext;
 
 /**
  * This class is to provide a customised interface and output message formatting for the atomic habit feature.
@@ -28,8 +29,19 @@ public class AtomicHabitUi extends TextUi {
         setSeparator(SEPARATOR);
     }
 
+    /**
+     * Constructor for AtomicHabitUi that shares the given UiContext with the other UIs of WellNUS++.
+     *
+     * @param context UiContext shared by the UIs of WellNUS++
+     */
+    public AtomicHabitUi(UiContext context) {
+        super(context);
+        setSeparator(SEPARATOR);
+    }
+
     private void printLogo(String logo) {
-        System.out.print(logo);
+        getOutput().append(logo);
+        getOutput().flush();
     }
 
     protected void printLogoWithSeparator(String logo) {
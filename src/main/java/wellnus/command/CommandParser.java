@@ -1,5 +1,7 @@
 package wellnus.command;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -37,6 +39,8 @@ public class CommandParser {
     private static final String ARGUMENT_DELIMITER = " --";
     private static final String UNPADDED_DELIMITER = "--";
     private static final String PAYLOAD_DELIMITER = " ";
+    // Room for the payloads of 4 arguments, which covers every command of WellNUS++
+    private static final int INITIAL_PAYLOAD_BOUNDS_SIZE = 8;
 
     // Message string constants for errors and ui
     private static final String ERROR_EMPTY_COMMAND = "Invalid command issued, command cannot be empty!";
@@ -46,6 +50,7 @@ public class CommandParser {
     private static final Logger LOGGER = WellNusLogger.getLogger("CommandParserLogger");
     private static final String LOG_STR_EMPTY_INPUT = "Input string is empty. This should be properly handled";
     private static final String LOG_EMPTY_ARG = "Argument is empty. This should be properly handled";
+    private static final String LOG_PARSED_COMMAND = "Parsed '%s' into %d arguments";
 
     /**
      * Constructs an instance of CommandParser. <br>
@@ -58,80 +63,98 @@ public class CommandParser {
     }
 
     /**
-     * Split a userInput by the standardized delimiter.
+     * Takes in raw user input and parses it into a ParsedCommand in a single pass.
      * <p>
+     * The input is split into commands by the standardized delimiter, and each command into its argument
+     * (the first word) and payload (the rest), without building any intermediate arrays.
      * This function handles some adversarial user input.
      * There are 2 possible adversarial inputs that this function checks for:
      * <p>
      * 1. Whitespace/Empty Arguments: `cmd payload -- payload1 -- ` <br>
-     * Split renders it as ["cmd payload", " payload1", ""]
+     * The commands would be ["cmd payload", " payload1", ""]
      * " payload1" will cause issues with rendering
      * So, check for empty commands and whitespace prefix. <br>
      * <p>
      * 2. Missing main argument: `--argument payload` <br>
-     * Split renders this as ["--argument payload"]
+     * The only command would be "--argument payload"
      * So, check for "--" prefix.
+     * <p>
+     * Both are reported before any repeated argument.
      *
-     * @param fullCommandString Raw user input from stdin in string form
-     * @return String array of command substrings
+     * @param userInput Raw user input from stdin in string form
+     * @return ParsedCommand holding the arguments and payloads of the user input
      * @throws BadCommandException when command is empty or is problematic
      */
-    private String[] splitIntoCommands(String fullCommandString) throws BadCommandException {
-        assert fullCommandString != null : "fullCommandString should not be null";
+    public ParsedCommand parse(String userInput) throws BadCommandException {
+        assert userInput != null : "userInput should not be null";
         // Perform a string length sanity check
-        fullCommandString = fullCommandString.strip();
-        if (fullCommandString.length() == 0) {
+        int inputStart = skipWhitespaceForward(userInput, 0, userInput.length());
+        int inputEnd = skipWhitespaceBackward(userInput, inputStart, userInput.length());
+        if (inputStart == inputEnd) {
             LOGGER.log(Level.INFO, LOG_STR_EMPTY_INPUT);
             throw new BadCommandException(ERROR_EMPTY_COMMAND);
         }
-        int noLimit = -1;
-        String[] rawCommands = fullCommandString.split(ARGUMENT_DELIMITER, noLimit);
-        String[] cleanCommands = new String[rawCommands.length];
-        for (int i = 0; i < rawCommands.length; ++i) {
-            String currentCommand = rawCommands[i];
+        ArrayList<String> arguments = new ArrayList<>();
+        int[] payloadBounds = new int[INITIAL_PAYLOAD_BOUNDS_SIZE];
+        HashMap<String, Integer> argumentIndexes = new HashMap<>();
+        boolean hasRepeatedArgument = false;
+        int commandStart = inputStart;
+        while (commandStart <= inputEnd) {
+            int delimiterIndex = userInput.indexOf(ARGUMENT_DELIMITER, commandStart);
+            int commandEnd = delimiterIndex < 0 || delimiterIndex >= inputEnd ? inputEnd : delimiterIndex;
             // Case 1 check
-            if (currentCommand.startsWith(" ") || currentCommand.length() == 0) {
+            if (commandStart == commandEnd || userInput.charAt(commandStart) == ' ') {
                 LOGGER.log(Level.INFO, LOG_EMPTY_ARG);
                 throw new BadCommandException(ERROR_EMPTY_ARGUMENT);
             }
             // Strip command of whitespace to clean input
-            currentCommand = currentCommand.strip();
+            int start = skipWhitespaceForward(userInput, commandStart, commandEnd);
+            int end = skipWhitespaceBackward(userInput, start, commandEnd);
             // Case 2 check
-            if (currentCommand.startsWith(UNPADDED_DELIMITER)) {
+            if (userInput.startsWith(UNPADDED_DELIMITER, start) && start + UNPADDED_DELIMITER.length() <= end) {
                 LOGGER.log(Level.INFO, LOG_EMPTY_ARG);
                 throw new BadCommandException(ERROR_EMPTY_COMMAND);
             }
-            cleanCommands[i] = currentCommand;
+            int payloadDelimiterIndex = userInput.indexOf(PAYLOAD_DELIMITER, start);
+            boolean hasPayload = payloadDelimiterIndex >= 0 && payloadDelimiterIndex < end;
+            String argument = userInput.substring(start, hasPayload ? payloadDelimiterIndex : end)
+                    .toLowerCase().strip();
+            int payloadStart = hasPayload ? skipWhitespaceForward(userInput, payloadDelimiterIndex + 1, end) : end;
+            int payloadEnd = skipWhitespaceBackward(userInput, payloadStart, end);
+            // Safety check if arguments already exists, reported once the whole input is known to be well-formed
+            if (argumentIndexes.putIfAbsent(argument, arguments.size()) != null) {
+                hasRepeatedArgument = true;
+            }
+            if (2 * arguments.size() + 2 > payloadBounds.length) {
+                payloadBounds = Arrays.copyOf(payloadBounds, 2 * payloadBounds.length);
+            }
+            payloadBounds[2 * arguments.size()] = payloadStart;
+            payloadBounds[2 * arguments.size() + 1] = payloadEnd;
+            arguments.add(argument);
+            commandStart = commandEnd + ARGUMENT_DELIMITER.length();
+        }
+        if (hasRepeatedArgument) {
+            throw new BadCommandException(ERROR_REPEATED_ARGUMENT);
         }
-        return cleanCommands;
+        ParsedCommand parsedCommand = new ParsedCommand(userInput, arguments, payloadBounds, argumentIndexes);
+        LOGGER.log(Level.FINE, () -> String.format(LOG_PARSED_COMMAND, userInput, arguments.size()));
+        return parsedCommand;
     }
 
-    private String getArgumentFromCommand(String commandString) throws BadCommandException {
-        assert commandString != null : "commandString should not be null";
-
-        String[] words = commandString.split(PAYLOAD_DELIMITER);
-        // Bad input checks
-        if (words.length == 0) {
-            LOGGER.log(Level.INFO, LOG_STR_EMPTY_INPUT);
-            throw new BadCommandException(ERROR_EMPTY_ARGUMENT);
+    private static int skipWhitespaceForward(String string, int start, int end) {
+        int index = start;
+        while (index < end && Character.isWhitespace(string.charAt(index))) {
+            index += 1;
         }
-        return words[0].toLowerCase().strip();
+        return index;
     }
 
-    private String getPayloadFromCommand(String commandString) {
-        assert commandString != null : "commandString should not be null";
-
-        String[] words = commandString.split(PAYLOAD_DELIMITER);
-        String payload = "";
-        // Ignore the first word (Main Command), so start from 1
-        for (int i = 1; i < words.length; ++i) {
-            payload = payload.concat(words[i]);
-            if (i != words.length - 1) {
-                payload = payload.concat(PAYLOAD_DELIMITER);
-            }
+    private static int skipWhitespaceBackward(String string, int start, int end) {
+        int index = end;
+        while (index > start && Character.isWhitespace(string.charAt(index - 1))) {
+            index -= 1;
         }
-        // No checks for payload length is done as payload CAN be empty
-        return payload.strip();
+        return index;
     }
 
     /**
@@ -144,22 +167,7 @@ public class CommandParser {
     public HashMap<String, String> parseUserInput(String userInput) throws BadCommandException {
         assert userInput != null : "userInput should not be null";
 
-        if (userInput.length() == 0) {
-            LOGGER.log(Level.INFO, LOG_STR_EMPTY_INPUT);
-            throw new BadCommandException(ERROR_EMPTY_COMMAND);
-        }
-        HashMap<String, String> argumentPayload = new HashMap<>();
-        String[] commands = splitIntoCommands(userInput);
-        for (String command : commands) {
-            String argument = getArgumentFromCommand(command);
-            // Safety check if arguments already exists
-            if (argumentPayload.containsKey(argument)) {
-                throw new BadCommandException(ERROR_REPEATED_ARGUMENT);
-            }
-            String payload = getPayloadFromCommand(command);
-            argumentPayload.put(argument, payload);
-        }
-        return argumentPayload;
+        return parse(userInput).toHashMap();
     }
 
     /**
@@ -176,12 +184,14 @@ public class CommandParser {
     public String getMainArgument(String userInput) throws BadCommandException {
         assert userInput != null : "userInput should not be null";
 
-        userInput = userInput.strip();
-        if (userInput.length() == 0) {
+        int start = skipWhitespaceForward(userInput, 0, userInput.length());
+        int end = skipWhitespaceBackward(userInput, start, userInput.length());
+        if (start == end) {
             LOGGER.log(Level.INFO, LOG_STR_EMPTY_INPUT);
             throw new BadCommandException(ERROR_EMPTY_COMMAND);
         }
-        String[] parameters = userInput.split(" ");
-        return parameters[0].toLowerCase();
+        int spaceIndex = userInput.indexOf(PAYLOAD_DELIMITER, start);
+        int argumentEnd = spaceIndex >= 0 && spaceIndex < end ? spaceIndex : end;
+        return userInput.substring(start, argumentEnd).toLowerCase();
     }
 }
@@ -0,0 +1,133 @@
+package wellnus.command;
+
+import java.util.HashMap;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import wellnus.common.WellNusLogger;
+import wellnus.exception.BadCommandException;
+import wellnus.exception.WellNusException;
+
+/**
+ * A CommandRegistry maps the command keywords of a feature to the factories that create their Commands. <br>
+ * <p>
+ * Each Manager registers its commands once, instead of matching every line of user input in a switch.
+ * A keyword is found with a single hash lookup. If the user typed an abbreviation instead,
+ * e.g. <code>"upd"</code> for <code>"update"</code>, it is resolved through a KeywordTrie,
+ * as long as no other keyword starts with it.
+ * <p>
+ * Managers execute their Commands through <code>execute()</code>, so the time taken by every command
+ * of WellNUS++ is logged in one place.
+ */
+public class CommandRegistry {
+    private static final String ERROR_UNKNOWN_COMMAND = "Invalid command issued!";
+    private static final String ASSERT_KEYWORD_NOT_BLANK = "Command keyword should not be blank";
+    private static final String ASSERT_KEYWORD_NOT_REGISTERED = "Command keyword '%s' is already registered";
+    private static final Logger LOGGER = WellNusLogger.getLogger("CommandRegistryLogger");
+    private static final String LOG_COMMAND_TIMING = "Executed '%s' in %d us";
+    private static final long NANOSECONDS_PER_MICROSECOND = 1000;
+    // Key: command keyword. Value: factory of the keyword's Command
+    private final HashMap<String, CommandFactory> factories = new HashMap<>();
+    private final KeywordTrie keywords = new KeywordTrie();
+
+    /**
+     * Creates the Command of a keyword from the arguments the user gave.
+     */
+    public interface CommandFactory {
+        /**
+         * Creates a Command for one line of user input.
+         *
+         * @param arguments Arguments and payloads of the user input, keyed by the full command keyword
+         * @return Command that can execute the user's command
+         */
+        Command create(HashMap<String, String> arguments);
+    }
+
+    /**
+     * Registers the factory that creates the Command of a keyword.
+     *
+     * @param keyword Command keyword, in lowercase
+     * @param factory Factory of the keyword's Command
+     * @return This CommandRegistry, so that registrations can be chained
+     */
+    public CommandRegistry register(String keyword, CommandFactory factory) {
+        assert keyword != null && !keyword.isBlank() : ASSERT_KEYWORD_NOT_BLANK;
+        assert !factories.containsKey(keyword) : String.format(ASSERT_KEYWORD_NOT_REGISTERED, keyword);
+        factories.put(keyword, factory);
+        keywords.add(keyword);
+        return this;
+    }
+
+    /**
+     * Returns the registered keyword that the given keyword stands for.
+     *
+     * @param keyword Keyword typed by the user, which may be abbreviated
+     * @return The registered keyword, or empty if there is none or the abbreviation is ambiguous
+     */
+    public Optional<String> resolveKeyword(String keyword) {
+        if (factories.containsKey(keyword)) {
+            return Optional.of(keyword);
+        }
+        if (keyword.isEmpty()) {
+            return Optional.empty();
+        }
+        return keywords.findUniqueKeyword(keyword);
+    }
+
+    /**
+     * Creates the Command that handles the given user input.
+     *
+     * @param parsedCommand User input, parsed by the CommandParser
+     * @return Command that can execute the user's command
+     * @throws BadCommandException If the main argument is not a registered keyword or an abbreviation of one
+     */
+    public Command getCommandFor(ParsedCommand parsedCommand) throws BadCommandException {
+        return getCommandFor(parsedCommand.getMainArgument(), parsedCommand.toHashMap());
+    }
+
+    /**
+     * Creates the Command of a keyword from arguments that have already been parsed.
+     *
+     * @param keyword   Keyword typed by the user, which may be abbreviated
+     * @param arguments Arguments and payloads of the user input, keyed by the keyword as it was typed
+     * @return Command that can execute the user's command
+     * @throws BadCommandException If the keyword is not a registered keyword or an abbreviation of one
+     */
+    public Command getCommandFor(String keyword, HashMap<String, String> arguments) throws BadCommandException {
+        Optional<String> registeredKeyword = resolveKeyword(keyword);
+        if (registeredKeyword.isEmpty()) {
+            throw new BadCommandException(ERROR_UNKNOWN_COMMAND);
+        }
+        String fullKeyword = registeredKeyword.get();
+        if (!fullKeyword.equals(keyword)) {
+            // Commands look up their payload by their full keyword
+            if (arguments.containsKey(fullKeyword)) {
+                throw new BadCommandException(ERROR_UNKNOWN_COMMAND);
+            }
+            arguments.put(fullKeyword, arguments.remove(keyword));
+        }
+        return factories.get(fullKeyword).create(arguments);
+    }
+
+    /**
+     * Executes a Command, logging how long it took.
+     *
+     * @param command Command to execute
+     * @throws WellNusException If the Command fails
+     */
+    public void execute(Command command) throws WellNusException {
+        if (!LOGGER.isLoggable(Level.FINE)) {
+            command.execute();
+            return;
+        }
+        long startTime = System.nanoTime();
+        try {
+            command.execute();
+        } finally {
+            long elapsedMicroseconds = (System.nanoTime() - startTime) / NANOSECONDS_PER_MICROSECOND;
+            LOGGER.log(Level.FINE, () -> String.format(LOG_COMMAND_TIMING, command.getCommandKeyword(),
+                    elapsedMicroseconds));
+        }
+    }
+}
@@ -3,7 +3,9 @@ package wellnus.command;
 import java.util.HashMap;
 
 import wellnus.exception.BadCommandException;
+import wellnus.exception.StorageException;
 import wellnus.exception.WellNusException;
+import wellnus.storage.StorageFlusher;
 import wellnus.ui.TextUi;
 
 /**
@@ -18,17 +20,19 @@ public class ExitCommand extends Command {
     private static final String FEATURE_KEYWORD = "";
     private static final int NUM_OF_ARGUMENTS = 1;
     private static final String INVALID_ARGUMENTS_MESSAGE = "Invalid arguments given to 'exit'";
+    private static final String STORAGE_ERROR_MESSAGE = "Some of your latest changes could not be saved!";
     private final TextUi textUi;
 
     /**
      * Initialises an ExitCommand Object using the arguments issued by the user.
      *
      * @param arguments Command arguments issued by the user
+     * @param textUi    TextUi of WellNUS++ to report errors with
      * @see ExitCommand#validateCommand(HashMap)
      */
-    public ExitCommand(HashMap<String, String> arguments) {
+    public ExitCommand(HashMap<String, String> arguments, TextUi textUi) {
         super(arguments);
-        this.textUi = new TextUi();
+        this.textUi = textUi;
     }
 
     public static boolean isExit(Command command) {
@@ -58,11 +62,16 @@ public class ExitCommand extends Command {
     }
 
     /**
-     * Exits the WellNUS++ application.
+     * Exits the WellNUS++ application, writing any saves that are still pending to disk first.
      */
     @Override
     public void execute() throws WellNusException {
         validateCommand(super.getArguments());
+        try {
+            StorageFlusher.getInstance().flush();
+        } catch (StorageException storageException) {
+            textUi.printErrorFor(storageException, STORAGE_ERROR_MESSAGE);
+        }
     }
 
     /**
@@ -43,10 +43,11 @@ public class HelpCommand extends Command {
      * Initialises a HelpCommand Object using the command arguments issued by the user.
      *
      * @param arguments Command arguments issued by the user
+     * @param textUi    TextUi of WellNUS++ to print the help message with
      */
-    public HelpCommand(HashMap<String, String> arguments) {
+    public HelpCommand(HashMap<String, String> arguments, TextUi textUi) {
         super(arguments);
-        this.textUi = new TextUi();
+        this.textUi = textUi;
     }
 
     private TextUi getTextUi() {
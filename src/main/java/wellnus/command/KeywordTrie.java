@@ -0,0 +1,66 @@
+package wellnus.command;
+
+import java.util.HashMap;
+import java.util.Optional;
+
+/**
+ * KeywordTrie finds the keyword that an abbreviation stands for. <br>
+ * <p>
+ * Every node counts the keywords below it, so an abbreviation is resolved in one walk down the trie:
+ * it stands for a keyword only if exactly one keyword starts with it.
+ */
+class KeywordTrie {
+    private static final int UNIQUE = 1;
+    private final Node root = new Node();
+
+    /**
+     * Adds a keyword to the trie. Adding the same keyword again has no effect.
+     *
+     * @param keyword keyword to add
+     */
+    void add(String keyword) {
+        Node existingNode = getNodeFor(keyword);
+        if (existingNode != null && existingNode.isKeyword) {
+            return;
+        }
+        Node node = root;
+        node.numOfKeywords += 1;
+        node.anyKeyword = keyword;
+        for (int i = 0; i < keyword.length(); i++) {
+            node = node.children.computeIfAbsent(keyword.charAt(i), character -> new Node());
+            node.numOfKeywords += 1;
+            node.anyKeyword = keyword;
+        }
+        node.isKeyword = true;
+    }
+
+    /**
+     * Returns the only keyword that starts with the given prefix.
+     *
+     * @param prefix abbreviation of a keyword, which may be the whole keyword
+     * @return the keyword, or empty if no keyword or more than one keyword starts with the prefix
+     */
+    Optional<String> findUniqueKeyword(String prefix) {
+        Node node = getNodeFor(prefix);
+        if (node == null || node.numOfKeywords != UNIQUE) {
+            return Optional.empty();
+        }
+        return Optional.of(node.anyKeyword);
+    }
+
+    private Node getNodeFor(String prefix) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.children.get(prefix.charAt(i));
+        }
+        return node;
+    }
+
+    private static class Node {
+        private final HashMap<Character, Node> children = new HashMap<>();
+        private int numOfKeywords = 0;
+        // Some keyword below this node, which is the only one when numOfKeywords is 1
+        private String anyKeyword;
+        private boolean isKeyword = false;
+    }
+}
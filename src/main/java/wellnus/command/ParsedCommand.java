@@ -0,0 +1,125 @@
+package wellnus.command;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+//@@author nichyjt
+
+/**
+ * A ParsedCommand is the result of parsing one line of user input with <code>CommandParser.parse()</code>. <p>
+ * <p>
+ * It holds the arguments of the input in the order they were given, each with its payload. <br>
+ * Payloads are kept as positions in the user input and are only copied out when they are asked for,
+ * so long payloads like a habit's name are never rebuilt while parsing. <br>
+ * <br>
+ * A ParsedCommand never changes once it is parsed, so it can be passed to every Manager and Command that
+ * handles the same line of user input instead of parsing that line again.
+ */
+public final class ParsedCommand {
+    private static final int NOT_FOUND = -1;
+    private static final String EMPTY_PAYLOAD = "";
+    private final String userInput;
+    private final ArrayList<String> arguments;
+    // payloadBounds[2 * i] and payloadBounds[2 * i + 1] are the start and end of the i-th payload in userInput
+    private final int[] payloadBounds;
+    // Key: argument. Value: its position in arguments
+    private final HashMap<String, Integer> argumentIndexes;
+    // Payloads that were already copied out of userInput
+    private final String[] payloads;
+
+    ParsedCommand(String userInput, ArrayList<String> arguments, int[] payloadBounds,
+            HashMap<String, Integer> argumentIndexes) {
+        assert !arguments.isEmpty() : "A parsed command should have a main argument";
+        this.userInput = userInput;
+        this.arguments = arguments;
+        this.payloadBounds = payloadBounds;
+        this.argumentIndexes = argumentIndexes;
+        this.payloads = new String[arguments.size()];
+    }
+
+    /**
+     * Returns the main argument of the command, which is the first argument in the user input.
+     * For example, <code>"add --name foobar"</code> has main argument <code>"add"</code>.
+     *
+     * @return Main argument, in lowercase
+     */
+    public String getMainArgument() {
+        return arguments.get(0);
+    }
+
+    /**
+     * Returns the number of arguments in the command, including the main argument.
+     *
+     * @return Number of arguments
+     */
+    public int getNumOfArguments() {
+        return arguments.size();
+    }
+
+    /**
+     * Returns the argument at the given position, where the main argument is at position 0.
+     *
+     * @param index Position of the argument in the user input
+     * @return Argument at that position, in lowercase
+     */
+    public String getArgument(int index) {
+        return arguments.get(index);
+    }
+
+    /**
+     * Checks if the command has the given argument.
+     *
+     * @param argument Argument to look for, in lowercase
+     * @return Whether the user gave this argument
+     */
+    public boolean hasArgument(String argument) {
+        return argumentIndexes.containsKey(argument);
+    }
+
+    /**
+     * Returns the payload of the argument at the given position.
+     *
+     * @param index Position of the argument in the user input
+     * @return Payload of the argument, which is empty if the user gave none
+     */
+    public String getPayload(int index) {
+        String payload = payloads[index];
+        if (payload == null) {
+            int start = payloadBounds[2 * index];
+            int end = payloadBounds[2 * index + 1];
+            payload = start == end ? EMPTY_PAYLOAD : userInput.substring(start, end);
+            payloads[index] = payload;
+        }
+        return payload;
+    }
+
+    /**
+     * Returns the payload of the given argument.
+     *
+     * @param argument Argument whose payload to return, in lowercase
+     * @return Payload of the argument, or null if the command does not have the argument
+     */
+    public String getPayload(String argument) {
+        int index = argumentIndexes.getOrDefault(argument, NOT_FOUND);
+        if (index == NOT_FOUND) {
+            return null;
+        }
+        return getPayload(index);
+    }
+
+    /**
+     * Returns the arguments and payloads of the command in the form <code>CommandParser.parseUserInput()</code>
+     * returns them. <br>
+     * <p>
+     * The HashMap is a new copy on every call, so it can be changed freely.
+     *
+     * @return HashMap mapping an Argument (key) to its Payload (value)
+     */
+    public HashMap<String, String> toHashMap() {
+        HashMap<String, String> argumentPayload = new HashMap<>();
+        for (int i = 0; i < arguments.size(); i++) {
+            argumentPayload.put(arguments.get(i), getPayload(i));
+        }
+        return argumentPayload;
+    }
+}
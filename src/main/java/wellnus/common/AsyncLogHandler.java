@@ -0,0 +1,225 @@
+package wellnus.common;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * AsyncLogHandler hands log records to another Handler, e.g. a <code>FileHandler</code>, on a background thread. <br>
+ * <p>
+ * Logging a record only puts it into a bounded ring buffer, so the logging thread never waits for the record
+ * to be formatted or written to disk. A single writer thread takes records out of the buffer in the order
+ * they were logged and publishes them to the target Handler.
+ * <p>
+ * What happens to a record logged while the buffer is full is decided by the LogOverflowPolicy.
+ * <code>close()</code> waits until every buffered record has been written before closing the target Handler.
+ */
+public class AsyncLogHandler extends Handler {
+    private static final String THREAD_NAME = "WellNUS++ log writer";
+    private static final String LOG_DROPPED_RECORDS = "%d log records were dropped because the log buffer was full.";
+    private static final String ASSERT_CAPACITY_POSITIVE = "Log buffer capacity should be positive!";
+    private static final String ASSERT_SAMPLE_RATE_POSITIVE = "Sample rate should be positive!";
+    private final Handler target;
+    private final LogOverflowPolicy overflowPolicy;
+    private final int sampleRate;
+    private final LogRecord[] buffer;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final Condition drained = lock.newCondition();
+    private final Thread writer;
+    // Index of the oldest buffered record, and the number of buffered records after it
+    private int head = 0;
+    private int size = 0;
+    private long numOverflowed = 0;
+    private long numDropped = 0;
+    private boolean isWriting = false;
+    private boolean isClosed = false;
+
+    /**
+     * Constructs an AsyncLogHandler and starts its writer thread.
+     *
+     * @param target         Handler that formats and writes the records
+     * @param capacity       Number of records the buffer holds
+     * @param overflowPolicy What to do with a record logged while the buffer is full
+     * @param sampleRate     Under the SAMPLE policy, one in this many records is kept while the buffer is full
+     */
+    public AsyncLogHandler(Handler target, int capacity, LogOverflowPolicy overflowPolicy, int sampleRate) {
+        assert capacity > 0 : ASSERT_CAPACITY_POSITIVE;
+        assert sampleRate > 0 : ASSERT_SAMPLE_RATE_POSITIVE;
+        this.target = target;
+        this.overflowPolicy = overflowPolicy;
+        this.sampleRate = sampleRate;
+        this.buffer = new LogRecord[capacity];
+        this.writer = new Thread(this::writeRecords, THREAD_NAME);
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Puts the record into the buffer, to be written by the writer thread. <br>
+     * <p>
+     * If the buffer is full, the record is dropped or waits for space according to the LogOverflowPolicy.
+     * Records logged after <code>close()</code> are ignored.
+     *
+     * @param record Record to log
+     */
+    @Override
+    public void publish(LogRecord record) {
+        if (!isLoggable(record)) {
+            return;
+        }
+        // The logging class and method are found from the stack, which is only the caller's on this thread
+        record.getSourceClassName();
+        lock.lock();
+        try {
+            if (isFull() && !shouldWaitForSpace(record)) {
+                numDropped += 1;
+                return;
+            }
+            while (isFull() && !isClosed) {
+                notFull.awaitUninterruptibly();
+            }
+            if (isClosed) {
+                return;
+            }
+            buffer[(head + size) % buffer.length] = record;
+            size += 1;
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits until every record logged so far has been written, then flushes the target Handler.
+     */
+    @Override
+    public void flush() {
+        lock.lock();
+        try {
+            while ((size > 0 || isWriting) && writer.isAlive()) {
+                drained.awaitUninterruptibly();
+            }
+        } finally {
+            lock.unlock();
+        }
+        target.flush();
+    }
+
+    /**
+     * Stops accepting records, waits until every buffered record has been written and closes the target Handler.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            isClosed = true;
+            notEmpty.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        boolean isInterrupted = false;
+        while (writer.isAlive()) {
+            try {
+                writer.join();
+            } catch (InterruptedException exception) {
+                // The buffered records must still be written, so keep waiting and restore the interrupt after
+                isInterrupted = true;
+            }
+        }
+        if (isInterrupted) {
+            Thread.currentThread().interrupt();
+        }
+        target.close();
+    }
+
+    public LogOverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    private boolean isFull() {
+        return size == buffer.length;
+    }
+
+    private boolean shouldWaitForSpace(LogRecord record) {
+        if (record.getLevel().intValue() >= Level.WARNING.intValue()) {
+            return true;
+        }
+        switch (overflowPolicy) {
+        case BLOCK:
+            return true;
+        case SAMPLE:
+            numOverflowed += 1;
+            return (numOverflowed - 1) % sampleRate == 0;
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * Runs on the writer thread: takes every buffered record at once and writes them, until closed and drained.
+     */
+    private void writeRecords() {
+        while (true) {
+            LogRecord[] records;
+            long numRecordsDropped;
+            lock.lock();
+            try {
+                isWriting = false;
+                drained.signalAll();
+                while (size == 0 && !isClosed) {
+                    notEmpty.awaitUninterruptibly();
+                }
+                if (size == 0) {
+                    return;
+                }
+                records = takeRecords();
+                numRecordsDropped = numDropped;
+                numDropped = 0;
+                isWriting = true;
+                notFull.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            if (numRecordsDropped > 0) {
+                writeRecord(getDroppedRecordsNotice(numRecordsDropped));
+            }
+            for (LogRecord record : records) {
+                writeRecord(record);
+            }
+        }
+    }
+
+    private void writeRecord(LogRecord record) {
+        try {
+            target.publish(record);
+        } catch (RuntimeException exception) {
+            // The writer thread must keep running, or loggers would wait forever for space in the buffer
+            reportError(null, exception, ErrorManager.WRITE_FAILURE);
+        }
+    }
+
+    private LogRecord getDroppedRecordsNotice(long numRecordsDropped) {
+        LogRecord notice = new LogRecord(Level.WARNING, String.format(LOG_DROPPED_RECORDS, numRecordsDropped));
+        notice.setSourceClassName(AsyncLogHandler.class.getName());
+        notice.setSourceMethodName("publish");
+        return notice;
+    }
+
+    private LogRecord[] takeRecords() {
+        LogRecord[] records = new LogRecord[size];
+        for (int i = 0; i < records.length; i += 1) {
+            int index = (head + i) % buffer.length;
+            records[i] = buffer[index];
+            buffer[index] = null;
+        }
+        head = (head + size) % buffer.length;
+        size = 0;
+        return records;
+    }
+}
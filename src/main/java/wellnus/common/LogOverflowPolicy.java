@@ -0,0 +1,23 @@
+package wellnus.common;
+
+/**
+ * Decides what the asynchronous log handler does with a record that is logged while its buffer is full. <br>
+ * <p>
+ * Records of level WARNING and above are never dropped: under every policy, they wait for space instead.
+ *
+ * @see AsyncLogHandler
+ */
+public enum LogOverflowPolicy {
+    /**
+     * Make the logging thread wait until the log writer has made space. Nothing is lost.
+     */
+    BLOCK,
+    /**
+     * Drop the record. The number of dropped records is written to the log once there is space again.
+     */
+    DROP,
+    /**
+     * Keep one in every few records, which waits for space, and drop the rest.
+     */
+    SAMPLE
+}
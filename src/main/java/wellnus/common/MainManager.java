@@ -4,24 +4,29 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import wellnus.atomichabit.feature.AtomicHabitManager;
 import wellnus.command.Command;
-import wellnus.command.CommandParser;
 import wellnus.command.ExitCommand;
 import wellnus.command.HelpCommand;
+import wellnus.command.ParsedCommand;
 import wellnus.exception.BadCommandException;
 import wellnus.exception.WellNusException;
 import wellnus.focus.feature.FocusManager;
 import wellnus.gamification.GamificationManager;
 import wellnus.manager.Manager;
 import wellnus.reflection.feature.ReflectionManager;
+import wellnus.storage.Storage;
+import wellnus.ui.BatchMode;
 import wellnus.ui.TextUi;
+import wellnus.ui.UiContext;
 
 /**
  * MainManager is the primary event driver for WellNUS++ <br>
  * <br>
- * MainManager creates and stores exactly one instance of each feature's Manager in WellNUS++.
+ * MainManager registers every feature's Manager by its keyword, and creates exactly one instance of it
+ * the first time the user enters that feature.
  * <p>
  * It runs an event driver, matches user input to the selected feature
  * and executes its instance to launch the feature Manager.
@@ -54,20 +59,41 @@ public class MainManager extends Manager {
     private static final String UNNECESSARY_PAYLOAD_MESSAGE = "Invalid payload given to '%s', drop the '%s' "
             + "and try again!";
     private static final String WELLNUS_FEATURE_NAME = "";
-    private final ArrayList<Manager> featureManagers;
-    private boolean hasExecutedCommands = false;
+    // Key: feature keyword. Value: creates the feature's Manager, which loads the feature's data
+    private final HashMap<String, Supplier<Manager>> featureManagerFactories;
+    // Key: feature keyword. Value: the feature's Manager, once the user has entered the feature
+    private final HashMap<String, Manager> featureManagersByName;
+    private GamificationManager gamificationManager;
+    private final UiContext uiContext;
     private final TextUi textUi;
 
+    /**
+     * Constructs an instance of MainManager that reads the user's commands from System.in.
+     */
+    public MainManager() {
+        this(UiContext.getStandard());
+    }
+
     /**
      * Constructs an instance of MainManager. <br>
      * Instantiates boilerplate utilities like TextUi
-     * and populates featureManagers with exactly one instance to be executed on user selection.
+     * and registers every feature, whose Manager is only created when the user first enters it.
+     * <p>
+     * The given UiContext is shared with every feature, so that all of WellNUS++ reads from one input reader.
+     *
+     * @param uiContext UiContext shared by the UIs of WellNUS++
      */
-    public MainManager() {
+    public MainManager(UiContext uiContext) {
         super();
-        this.featureManagers = new ArrayList<>();
-        this.textUi = new TextUi();
+        this.featureManagerFactories = new HashMap<>();
+        this.featureManagersByName = new HashMap<>();
+        this.uiContext = uiContext;
+        this.textUi = new TextUi(uiContext);
         this.textUi.setCursorName(FEATURE_NAME);
+        this.getCommandRegistry()
+                .register(MainManager.HELP_COMMAND_KEYWORD, arguments -> new HelpCommand(arguments, getTextUi()))
+                .register(MainManager.EXIT_COMMAND_KEYWORD, arguments -> new ExitCommand(arguments, getTextUi()));
+        this.setSupportedFeatureManagers();
     }
 
     /**
@@ -79,27 +105,48 @@ public class MainManager extends Manager {
      * @throws BadCommandException If command issued is not supported or invalid
      */
     protected Command getMainCommandFor(String command) throws BadCommandException {
-        String commandKeyword = getCommandParser().getMainArgument(command);
-        HashMap<String, String> arguments = getCommandParser().parseUserInput(command);
-        switch (commandKeyword) {
-        case MainManager.HELP_COMMAND_KEYWORD:
-            return new HelpCommand(arguments);
-        case MainManager.EXIT_COMMAND_KEYWORD:
-            return new ExitCommand(arguments);
-        default:
+        return getMainCommandFor(getCommandParser().parse(command));
+    }
+
+    /**
+     * Returns the Command object that can execute the given command, which has already been parsed.
+     *
+     * @param parsedCommand Command issued by the user, parsed by the CommandParser
+     * @return Command object that can execute the user's command
+     * @throws BadCommandException If command issued is not supported or invalid
+     */
+    protected Command getMainCommandFor(ParsedCommand parsedCommand) throws BadCommandException {
+        // Main commands share their first letters with feature keywords, so they must be typed in full
+        if (!this.isSupportedCommand(parsedCommand.getMainArgument())) {
             throw new BadCommandException(MainManager.INVALID_COMMAND_MESSAGE);
         }
+        return this.getCommandRegistry().getCommandFor(parsedCommand);
     }
 
+    /**
+     * Returns the Manager of the feature with the given keyword, creating it if the feature
+     * has not been entered before.
+     *
+     * @param featureKeyword Keyword of the feature, e.g. <code>hb</code>
+     * @return Manager of the feature, or an empty Optional if no feature has the given keyword
+     */
     protected Optional<Manager> getManagerFor(String featureKeyword) {
         assert (featureKeyword != null && !featureKeyword.isBlank())
                 : MainManager.INVALID_FEATURE_KEYWORD_MESSAGE;
-        for (Manager featureManager : this.getSupportedFeatureManagers()) {
-            if (featureManager.getFeatureName().equals(featureKeyword)) {
-                return Optional.of(featureManager);
-            }
+        Manager featureManager = this.featureManagersByName.get(featureKeyword);
+        if (featureManager == null && this.isSupportedFeature(featureKeyword)) {
+            featureManager = this.featureManagerFactories.get(featureKeyword).get();
+            this.featureManagersByName.put(featureKeyword, featureManager);
         }
-        return Optional.empty();
+        return Optional.ofNullable(featureManager);
+    }
+
+    // Gamification data is shared with Atomic Habits, so it is loaded by whichever of the two is entered first
+    private GamificationManager getGamificationManager() {
+        if (this.gamificationManager == null) {
+            this.gamificationManager = new GamificationManager(Storage.getInstance(), uiContext);
+        }
+        return this.gamificationManager;
     }
 
     /**
@@ -109,18 +156,14 @@ public class MainManager extends Manager {
      * If an unrecognised command is given, a warning is printed on the user's screen.
      */
     private void executeCommands() {
-        if (!hasExecutedCommands) {
-            this.setSupportedFeatureManagers();
-            hasExecutedCommands = true;
-        }
         boolean isExit = false;
-        CommandParser parser = new CommandParser();
         while (!isExit) {
             try {
                 String nextCommand = this.getTextUi().getCommand();
-                validate(nextCommand);
+                // The line is parsed once, and the result is used for validation, lookup and the Command
+                ParsedCommand parsedCommand = parseAndValidate(nextCommand);
                 // nextCommand now guaranteed to be a supported feature/main command
-                String featureKeyword = parser.getMainArgument(nextCommand);
+                String featureKeyword = parsedCommand.getMainArgument();
                 Optional<Manager> featureManager = this.getManagerFor(featureKeyword);
                 // User issued a feature keyword, pass control to the corresponding feature's Manager
                 featureManager.ifPresent((manager) -> {
@@ -132,8 +175,8 @@ public class MainManager extends Manager {
                 });
                 // User issued a main command, e.g. 'help'
                 if (featureManager.isEmpty()) {
-                    Command mainCommand = this.getMainCommandFor(nextCommand);
-                    mainCommand.execute();
+                    Command mainCommand = this.getMainCommandFor(parsedCommand);
+                    this.getCommandRegistry().execute(mainCommand);
                     isExit = ExitCommand.isExit(mainCommand);
                 }
             } catch (BadCommandException badCommandException) {
@@ -153,18 +196,21 @@ public class MainManager extends Manager {
         return commandKeywords;
     }
 
-    private List<Manager> getSupportedFeatureManagers() {
-        return this.featureManagers;
-    }
-
     private TextUi getTextUi() {
         return this.textUi;
     }
 
     private void greet() {
+        if (BatchMode.isActive()) {
+            return;
+        }
         this.getTextUi().printOutputMessage(MainManager.GREETING_MESSAGE);
     }
 
+    private boolean isSupportedFeature(String featureKeyword) {
+        return this.featureManagerFactories.containsKey(featureKeyword);
+    }
+
     private boolean isSupportedCommand(String commandKeyword) {
         List<String> cmdKeywords = this.getSupportedCommandKeywords();
         for (String cmdKeyword : cmdKeywords) {
@@ -175,25 +221,36 @@ public class MainManager extends Manager {
         return false;
     }
 
-    private void validate(String command) throws BadCommandException {
+    private ParsedCommand parseAndValidate(String command) throws BadCommandException {
         assert command != null : MainManager.COMMAND_IS_NULL_MESSAGE;
         assert !command.isBlank() : MainManager.COMMAND_IS_BLANK_MESSAGE;
-        String featureKeyword = commandParser.getMainArgument(command);
-        Optional<Manager> featureManager = this.getManagerFor(featureKeyword);
-        // User gave a command that's not any feature's keyword nor a recognised main command
-        if (featureManager.isEmpty() && !this.isSupportedCommand(featureKeyword)) {
-            throw new BadCommandException(MainManager.INVALID_COMMAND_MESSAGE);
+        ParsedCommand parsedCommand;
+        try {
+            parsedCommand = commandParser.parse(command);
+        } catch (BadCommandException exception) {
+            // An unknown feature or command is reported before any problem with its arguments
+            validateKeyword(commandParser.getMainArgument(command));
+            throw exception;
         }
-        HashMap<String, String> arguments = commandParser.parseUserInput(command);
-        if (arguments.size() > NUM_OF_ARGUMENTS) {
+        String featureKeyword = parsedCommand.getMainArgument();
+        validateKeyword(featureKeyword);
+        if (parsedCommand.getNumOfArguments() > NUM_OF_ARGUMENTS) {
             throw new BadCommandException(String.format(MainManager.INVALID_ARGUMENTS_MESSAGE,
                     featureKeyword));
         }
-        String argumentPayload = arguments.get(featureKeyword);
+        String argumentPayload = parsedCommand.getPayload(featureKeyword);
         if (!featureKeyword.equals(HELP_COMMAND_KEYWORD) && !argumentPayload.isBlank()) {
             throw new BadCommandException(String.format(MainManager.UNNECESSARY_PAYLOAD_MESSAGE,
                     featureKeyword, argumentPayload));
         }
+        return parsedCommand;
+    }
+
+    private void validateKeyword(String featureKeyword) throws BadCommandException {
+        // User gave a command that's not any feature's keyword nor a recognised main command
+        if (!this.isSupportedFeature(featureKeyword) && !this.isSupportedCommand(featureKeyword)) {
+            throw new BadCommandException(MainManager.INVALID_COMMAND_MESSAGE);
+        }
     }
 
     /**
@@ -219,18 +276,24 @@ public class MainManager extends Manager {
     }
 
     /**
-     * Returns a list of features supported by WellNUS++. <br>
+     * Registers the features supported by WellNUS++ by their keywords. <br>
      * <br>
-     * Suggested implementation: <br>
-     * <code> this.supportedManagers.add([mgr1, mgr2, ...]); </code>
+     * Nothing is created or loaded here: each feature's Manager is only created, and its data only
+     * loaded, when the user first enters the feature.
+     * Every feature shares one Storage, so data paths are resolved and checked only once.
      */
     protected void setSupportedFeatureManagers() {
-        GamificationManager gamificationManager = new GamificationManager();
-        this.getSupportedFeatureManagers().add(gamificationManager);
-        this.getSupportedFeatureManagers().add(
-                new AtomicHabitManager(gamificationManager.getGamificationData()));
-        this.getSupportedFeatureManagers().add(new ReflectionManager());
-        this.getSupportedFeatureManagers().add(new FocusManager());
+        this.registerFeatureManager(GamificationManager.FEATURE_NAME, this::getGamificationManager);
+        this.registerFeatureManager(AtomicHabitManager.FEATURE_NAME, () -> new AtomicHabitManager(
+                getGamificationManager().getGamificationData(), Storage.getInstance(), uiContext));
+        this.registerFeatureManager(ReflectionManager.FEATURE_NAME,
+                () -> new ReflectionManager(Storage.getInstance(), uiContext));
+        this.registerFeatureManager(FocusManager.FEATURE_NAME,
+                () -> new FocusManager(uiContext, Storage.getInstance()));
+    }
+
+    private void registerFeatureManager(String featureKeyword, Supplier<Manager> featureManagerFactory) {
+        this.featureManagerFactories.putIfAbsent(featureKeyword, featureManagerFactory);
     }
 
 }
@@ -0,0 +1,68 @@
+package wellnus.common;
+
+import java.lang.management.ManagementFactory;
+import java.time.Instant;
+import java.util.logging.Logger;
+
+/**
+ * StartupTimer records how long each phase of starting WellNUS++ takes, and writes the timings
+ * to the log file once the user is first prompted for a command. <br>
+ * <p>
+ * The phases are: JVM start to <code>WellNus.main()</code>, <code>main()</code> to the Managers being ready,
+ * and the Managers being ready to the first prompt, or to the first command read in batch mode.
+ * The JVM start time is the one the JVM records itself, so the first phase is only accurate to a millisecond.
+ */
+public class StartupTimer {
+    private static final String TIMINGS_MESSAGE = "Startup timings: JVM start -> main %d ms, "
+            + "main -> managers ready %d ms, managers ready -> first prompt %d ms, total %d ms";
+    private static final long NOT_MARKED = -1;
+    private static final long NANOS_PER_MILLI = 1_000_000;
+    private static Instant mainEnteredInstant;
+    private static long mainEnteredNanos = NOT_MARKED;
+    private static long managersReadyNanos = NOT_MARKED;
+    private static boolean hasLoggedTimings = false;
+
+    private StartupTimer() {
+    }
+
+    /**
+     * Records that <code>WellNus.main()</code> has been entered. Timings are only logged if this was called.
+     */
+    public static synchronized void markMainEntered() {
+        mainEnteredNanos = System.nanoTime();
+        mainEnteredInstant = Instant.now();
+    }
+
+    /**
+     * Records that the Managers of WellNUS++ have been created and are ready to read commands.
+     */
+    public static synchronized void markManagersReady() {
+        managersReadyNanos = System.nanoTime();
+    }
+
+    /**
+     * Records that the user is being prompted for a command. The first time this is called after
+     * <code>markMainEntered()</code>, the timings of every phase are written to the log file.
+     */
+    public static synchronized void markPrompt() {
+        if (hasLoggedTimings || mainEnteredNanos == NOT_MARKED) {
+            return;
+        }
+        hasLoggedTimings = true;
+        long firstPromptNanos = System.nanoTime();
+        long managersReady = managersReadyNanos == NOT_MARKED ? firstPromptNanos : managersReadyNanos;
+        long jvmStartToMain = getJvmStartToMainMillis();
+        long mainToManagersReady = (managersReady - mainEnteredNanos) / NANOS_PER_MILLI;
+        long managersReadyToFirstPrompt = (firstPromptNanos - managersReady) / NANOS_PER_MILLI;
+        long total = jvmStartToMain + (firstPromptNanos - mainEnteredNanos) / NANOS_PER_MILLI;
+        // Fetched here rather than held in a field, so that setting up logging is timed as part of startup
+        Logger logger = WellNusLogger.getLogger("StartupTimerLogger");
+        logger.info(String.format(TIMINGS_MESSAGE, jvmStartToMain, mainToManagersReady,
+                managersReadyToFirstPrompt, total));
+    }
+
+    private static long getJvmStartToMainMillis() {
+        long jvmStartMillis = ManagementFactory.getRuntimeMXBean().getStartTime();
+        return Math.max(0, mainEnteredInstant.toEpochMilli() - jvmStartMillis);
+    }
+}
@@ -1,12 +1,21 @@
 package wellnus.common;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Properties;
 import java.util.logging.FileHandler;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
 
@@ -16,7 +25,19 @@ import wellnus.ui.TextUi;
 /**
  * Wrapper class for <code>java.util.logging.Logger</code> that redirects logging
  * to a specific log file instead of printing it on the user's screen.
+ * <p>
+ * Records are written to the log file by an AsyncLogHandler, so logging never waits for disk I/O.
+ * Its buffer and overflow policy can be set with the system properties <code>wellnus.log.bufferSize</code>,
+ * <code>wellnus.log.overflow</code> (<code>block</code>, <code>drop</code> or <code>sample</code>)
+ * and <code>wellnus.log.sampleRate</code>, e.g. <code>-Dwellnus.log.overflow=drop</code>.
+ * <p>
+ * Loggers log at WARNING and above, unless configured otherwise in <code>log/logging.properties</code>
+ * (or the file named by <code>wellnus.log.config</code>), e.g. <code>level=INFO</code> for every logger
+ * and <code>StorageLogger.level=FINE</code> for one. The system properties <code>wellnus.log.level</code>
+ * and <code>wellnus.log.level.StorageLogger</code> override the file, e.g. <code>-Dwellnus.log.level=FINE</code>
+ * to trace everything while diagnosing a problem.
  * @see Logger
+ * @see AsyncLogHandler
  */
 public class WellNusLogger {
     private static final String CREATE_LOG_FILE_IO_EXCEPTION_MESSAGE = "Failed to create log file.";
@@ -39,12 +60,33 @@ public class WellNusLogger {
     private static final int NUM_LOG_FILE = 1;
     private static final String SECURITY_EXCEPTION_MESSAGE = "Unable to create log file due to security policies.";
     private static final String UNKNOWN_ERROR_MESSAGE = "Unable to create log file due to unknown error.";
-    private static Optional<FileHandler> logFileHandler = Optional.empty();
+    private static final String BUFFER_SIZE_PROPERTY = "wellnus.log.bufferSize";
+    private static final String OVERFLOW_POLICY_PROPERTY = "wellnus.log.overflow";
+    private static final String SAMPLE_RATE_PROPERTY = "wellnus.log.sampleRate";
+    private static final int DEFAULT_BUFFER_SIZE = 4096;
+    private static final LogOverflowPolicy DEFAULT_OVERFLOW_POLICY = LogOverflowPolicy.BLOCK;
+    private static final int DEFAULT_SAMPLE_RATE = 10;
+    private static final String LOG_INVALID_PROPERTY = "Invalid value '%s' for %s, using %s instead.";
+    private static final String LEVEL_CONFIG_PROPERTY = "wellnus.log.config";
+    private static final String DEFAULT_LEVEL_CONFIG_PATH = LOG_DIR_PATH + "logging.properties";
+    private static final String LEVEL_PROPERTY = "wellnus.log.level";
+    private static final String LEVEL_KEY = "level";
+    private static final String LOGGER_LEVEL_KEY_SUFFIX = "." + LEVEL_KEY;
+    private static final Level DEFAULT_LEVEL = Level.WARNING;
+    // Startup timings are a single line per run, and are wanted even when nothing else is logged
+    private static final Map<String, Level> DEFAULT_LOGGER_LEVELS = Map.of("StartupTimerLogger", Level.INFO);
+    private static final String LOG_INVALID_LEVEL = "Invalid log level '%s' for %s, it is ignored.";
+    private static final String LOG_UNREADABLE_LEVEL_CONFIG = "Log level configuration '%s' could not be read, "
+            + "it is ignored.";
+    // Created at most once, by getFileHandler(); read without the lock by closeLogFile()
+    private static volatile Optional<AsyncLogHandler> logFileHandler = Optional.empty();
+    // Key: name of a logger. Value: its configured level. Loaded when the first logger is created
+    private static Map<String, Level> loggerLevels;
+    private static Level defaultLevel = DEFAULT_LEVEL;
 
     private static void checkLogPath(String logPath) {
         assert logPath != null : LOG_PATH_NULL_MESSAGE;
         assert !logPath.isBlank() : LOG_PATH_BLANK_MESSAGE;
-        TextUi textUi = new TextUi();
         try {
             File logFile = new File(logPath);
             Path parentDir = logFile.getParentFile().toPath();
@@ -61,45 +103,180 @@ public class WellNusLogger {
                 logFile.createNewFile();
             }
         } catch (InvalidPathException invalidPathException) {
-            StorageException storageException = new StorageException(INVALID_LOG_PATH_MESSAGE);
-            textUi.printErrorFor(storageException, EXCEPTION_NOTE_MESSAGE);
+            printErrorFor(INVALID_LOG_PATH_MESSAGE);
         } catch (IOException ioException) {
-            StorageException storageException = new StorageException(CREATE_LOG_FILE_IO_EXCEPTION_MESSAGE);
-            textUi.printErrorFor(storageException, EXCEPTION_NOTE_MESSAGE);
+            printErrorFor(CREATE_LOG_FILE_IO_EXCEPTION_MESSAGE);
         } catch (SecurityException securityException) {
-            StorageException storageException = new StorageException(SECURITY_EXCEPTION_MESSAGE);
-            textUi.printErrorFor(storageException, EXCEPTION_NOTE_MESSAGE);
+            printErrorFor(SECURITY_EXCEPTION_MESSAGE);
         }
     }
 
-    private static FileHandler getFileHandler() {
+    /**
+     * Tells the user that logging will not be saved. A TextUi is only created once this happens.
+     *
+     * @param errorMessage Reason why logging will not be saved
+     */
+    private static void printErrorFor(String errorMessage) {
+        StorageException storageException = new StorageException(errorMessage);
+        new TextUi().printErrorFor(storageException, EXCEPTION_NOTE_MESSAGE);
+    }
+
+    /**
+     * Returns the handler writing to the log file, creating it on first use. <br>
+     * <p>
+     * Loggers are first created from several threads, and every handler starts a writer thread of its own,
+     * so it is created under the class lock to make sure there is only ever one.
+     *
+     * @return Handler writing to the log file, or null if the log file cannot be opened
+     */
+    private static synchronized Handler getFileHandler() {
         if (logFileHandler.isPresent()) {
             return logFileHandler.get();
         }
-        FileHandler fileHandler = null;
-        TextUi textUi = new TextUi();
+        AsyncLogHandler asyncLogHandler = null;
         try {
             String logPath = LOG_DIR_PATH + LOG_FILE_NAME;
             checkLogPath(logPath);
-            fileHandler = new FileHandler(logPath, FIVE_MEGABYTES, NUM_LOG_FILE, IS_LOG_FILE_APPEND_MODE);
+            FileHandler fileHandler = new FileHandler(logPath, FIVE_MEGABYTES, NUM_LOG_FILE,
+                    IS_LOG_FILE_APPEND_MODE);
             SimpleFormatter simpleFormatter = new SimpleFormatter();
             fileHandler.setFormatter(simpleFormatter);
-            logFileHandler = Optional.of(fileHandler);
+            List<String> propertyWarnings = new ArrayList<>();
+            loadLoggerLevels(propertyWarnings);
+            asyncLogHandler = new AsyncLogHandler(fileHandler, getBufferSizeFromProperty(propertyWarnings),
+                    getOverflowPolicyFromProperty(propertyWarnings), getSampleRateFromProperty(propertyWarnings));
+            for (String propertyWarning : propertyWarnings) {
+                LogRecord record = new LogRecord(Level.WARNING, propertyWarning);
+                record.setSourceClassName(WellNusLogger.class.getName());
+                record.setSourceMethodName("getLogger");
+                asyncLogHandler.publish(record);
+            }
+            logFileHandler = Optional.of(asyncLogHandler);
         } catch (SecurityException securityException) {
-            StorageException storageException = new StorageException(SECURITY_EXCEPTION_MESSAGE);
-            textUi.printErrorFor(storageException, EXCEPTION_NOTE_MESSAGE);
+            printErrorFor(SECURITY_EXCEPTION_MESSAGE);
         } catch (IOException ioException) {
-            StorageException storageException = new StorageException(IO_EXCEPTION_MESSAGE);
-            textUi.printErrorFor(storageException, EXCEPTION_NOTE_MESSAGE);
+            printErrorFor(IO_EXCEPTION_MESSAGE);
         }
-        return fileHandler;
+        return asyncLogHandler;
+    }
+
+    private static int getBufferSizeFromProperty(List<String> propertyWarnings) {
+        return getPositiveIntFromProperty(BUFFER_SIZE_PROPERTY, DEFAULT_BUFFER_SIZE, propertyWarnings);
+    }
+
+    private static int getSampleRateFromProperty(List<String> propertyWarnings) {
+        return getPositiveIntFromProperty(SAMPLE_RATE_PROPERTY, DEFAULT_SAMPLE_RATE, propertyWarnings);
+    }
+
+    // Logging is still being set up, so problems are collected and logged once the log file is ready
+    private static int getPositiveIntFromProperty(String property, int defaultValue, List<String> propertyWarnings) {
+        String value = System.getProperty(property);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            int parsedValue = Integer.parseInt(value.strip());
+            if (parsedValue > 0) {
+                return parsedValue;
+            }
+        } catch (NumberFormatException exception) {
+            // Reported below, like any other value that is not a positive integer
+        }
+        propertyWarnings.add(String.format(LOG_INVALID_PROPERTY, value, property, defaultValue));
+        return defaultValue;
+    }
+
+    private static LogOverflowPolicy getOverflowPolicyFromProperty(List<String> propertyWarnings) {
+        String policyName = System.getProperty(OVERFLOW_POLICY_PROPERTY, DEFAULT_OVERFLOW_POLICY.name());
+        try {
+            return LogOverflowPolicy.valueOf(policyName.strip().toUpperCase());
+        } catch (IllegalArgumentException exception) {
+            propertyWarnings.add(String.format(LOG_INVALID_PROPERTY, policyName, OVERFLOW_POLICY_PROPERTY,
+                    DEFAULT_OVERFLOW_POLICY));
+            return DEFAULT_OVERFLOW_POLICY;
+        }
+    }
+
+    /**
+     * Loads the level of every configured logger, from the built-in defaults, then the level configuration file
+     * and finally the system properties, each overriding the ones before.
+     *
+     * @param configWarnings Problems with the configuration, to be logged once the log file is ready
+     */
+    private static synchronized void loadLoggerLevels(List<String> configWarnings) {
+        if (loggerLevels != null) {
+            return;
+        }
+        loggerLevels = new HashMap<>(DEFAULT_LOGGER_LEVELS);
+        String configPath = System.getProperty(LEVEL_CONFIG_PROPERTY, DEFAULT_LEVEL_CONFIG_PATH);
+        Path levelConfig = Path.of(configPath);
+        if (Files.exists(levelConfig)) {
+            Properties levelProperties = new Properties();
+            try (BufferedReader reader = Files.newBufferedReader(levelConfig)) {
+                levelProperties.load(reader);
+            } catch (IOException | IllegalArgumentException exception) {
+                configWarnings.add(String.format(LOG_UNREADABLE_LEVEL_CONFIG, configPath));
+            }
+            for (String key : levelProperties.stringPropertyNames()) {
+                if (key.equals(LEVEL_KEY)) {
+                    setConfiguredLevel(null, levelProperties.getProperty(key), configWarnings);
+                } else if (key.endsWith(LOGGER_LEVEL_KEY_SUFFIX)) {
+                    String loggerName = key.substring(0, key.length() - LOGGER_LEVEL_KEY_SUFFIX.length());
+                    setConfiguredLevel(loggerName, levelProperties.getProperty(key), configWarnings);
+                }
+            }
+        }
+        for (String property : System.getProperties().stringPropertyNames()) {
+            if (property.equals(LEVEL_PROPERTY)) {
+                setConfiguredLevel(null, System.getProperty(property), configWarnings);
+            } else if (property.startsWith(LEVEL_PROPERTY + ".")) {
+                String loggerName = property.substring(LEVEL_PROPERTY.length() + 1);
+                setConfiguredLevel(loggerName, System.getProperty(property), configWarnings);
+            }
+        }
+    }
+
+    // A null loggerName sets the level of every logger without a level of its own
+    private static void setConfiguredLevel(String loggerName, String levelName, List<String> configWarnings) {
+        Level level;
+        try {
+            level = Level.parse(levelName.strip().toUpperCase());
+        } catch (IllegalArgumentException exception) {
+            String configuredFor = loggerName == null ? LEVEL_KEY : loggerName + LOGGER_LEVEL_KEY_SUFFIX;
+            configWarnings.add(String.format(LOG_INVALID_LEVEL, levelName, configuredFor));
+            return;
+        }
+        if (loggerName == null) {
+            defaultLevel = level;
+        } else {
+            loggerLevels.put(loggerName, level);
+        }
+    }
+
+    private static synchronized Level getConfiguredLevel(String loggerName) {
+        // Problems are only reported while the log file is being set up, which loads the levels first
+        loadLoggerLevels(new ArrayList<>());
+        return loggerLevels.getOrDefault(loggerName, defaultLevel);
+    }
+
+    /**
+     * Changes the level of a logger while WellNUS++ is running, e.g. to trace one feature at FINE.
+     *
+     * @param loggerName Name of the logger, as given to <code>getLogger()</code>
+     * @param level      Lowest level of records that the logger writes to the log file
+     */
+    public static synchronized void setLevel(String loggerName, Level level) {
+        assert loggerName != null : LOGGER_NAME_NULL_MESSAGE;
+        loadLoggerLevels(new ArrayList<>());
+        loggerLevels.put(loggerName, level);
+        Logger.getLogger(loggerName).setLevel(level);
     }
 
     /**
-     * Closes the log file used by WellNUS++.
+     * Closes the log file used by WellNUS++, after every record logged so far has been written to it.
      */
     public static void closeLogFile() {
-        logFileHandler.ifPresent(FileHandler::close);
+        logFileHandler.ifPresent(Handler::close);
     }
 
     /**
@@ -112,19 +289,17 @@ public class WellNusLogger {
         assert loggerName != null : LOGGER_NAME_NULL_MESSAGE;
         assert !loggerName.isBlank() : LOGGER_NAME_BLANK_MESSAGE;
         Logger logger = Logger.getLogger(loggerName);
-        TextUi textUi = new TextUi();
-        FileHandler fileHandler = getFileHandler();
+        Handler fileHandler = getFileHandler();
+        logger.setLevel(getConfiguredLevel(loggerName));
         if (fileHandler != null) {
             try {
                 logger.addHandler(fileHandler);
                 logger.setUseParentHandlers(false);
             } catch (SecurityException securityException) {
-                StorageException storageException = new StorageException(SECURITY_EXCEPTION_MESSAGE);
-                textUi.printErrorFor(storageException, EXCEPTION_NOTE_MESSAGE);
+                printErrorFor(SECURITY_EXCEPTION_MESSAGE);
             }
         } else {
-            StorageException storageException = new StorageException(UNKNOWN_ERROR_MESSAGE);
-            textUi.printErrorFor(storageException, EXCEPTION_NOTE_MESSAGE);
+            printErrorFor(UNKNOWN_ERROR_MESSAGE);
         }
         return logger;
     }
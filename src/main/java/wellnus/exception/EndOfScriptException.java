@@ -0,0 +1,13 @@
+package wellnus.exception;
+
+/**
+ * EndOfScriptException is thrown when WellNUS++ runs out of commands in batch mode.
+ * <p>
+ * Unlike other exceptions of WellNUS++, it is unchecked: it has to unwind through the event driver
+ * of whichever feature the script was in, and those only handle WellNusException.
+ */
+public class EndOfScriptException extends RuntimeException {
+    public EndOfScriptException(String errorMessage) {
+        super(errorMessage);
+    }
+}
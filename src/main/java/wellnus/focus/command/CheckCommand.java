@@ -33,11 +33,12 @@ public class CheckCommand extends Command {
      *
      * @param arguments Argument-Payload Hashmap generated by CommandParser
      * @param session   Session object which is an arraylist of Countdowns
+     * @param focusUi   FocusUi of the Focus Timer, shared by its commands
      */
-    public CheckCommand(HashMap<String, String> arguments, Session session) {
+    public CheckCommand(HashMap<String, String> arguments, Session session, FocusUi focusUi) {
         super(arguments);
         this.session = session;
-        this.focusUi = new FocusUi();
+        this.focusUi = focusUi;
     }
 
     /**
@@ -82,9 +83,7 @@ public class CheckCommand extends Command {
             focusUi.printOutputMessage(ERROR_COUNTDOWN_NOT_RUNNING);
             return;
         }
-        int minutes = session.getCurrentCountdown().getMinutes();
-        int seconds = session.getCurrentCountdown().getSeconds();
-        focusUi.printOutputMessage(CHECK_OUTPUT + String.format("%d:%d", minutes, seconds));
+        focusUi.printOutputMessage(CHECK_OUTPUT + session.getCurrentCountdown().getRemainingTime());
     }
 
     /**
@@ -85,10 +85,11 @@ public class ConfigCommand extends Command {
      *
      * @param arguments Argument-Payload Hashmap generated by CommandParser
      * @param session   Session object which is an arraylist of Countdowns
+     * @param focusUi   FocusUi of the Focus Timer, shared by its commands
      */
-    public ConfigCommand(HashMap<String, String> arguments, Session session) {
+    public ConfigCommand(HashMap<String, String> arguments, Session session, FocusUi focusUi) {
         super(arguments);
-        this.focusUi = new FocusUi();
+        this.focusUi = focusUi;
         this.session = session;
         newCycle = session.getCycle();
         newWork = session.getWork();
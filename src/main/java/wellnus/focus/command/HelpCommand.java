@@ -37,10 +37,11 @@ public class HelpCommand extends Command {
      * Initialises a HelpCommand Object using the command arguments issued by the user.
      *
      * @param arguments Command arguments issued by the user
+     * @param focusUi   FocusUi of the Focus Timer, shared by its commands
      */
-    public HelpCommand(HashMap<String, String> arguments) {
+    public HelpCommand(HashMap<String, String> arguments, FocusUi focusUi) {
         super(arguments);
-        this.focusUi = new FocusUi();
+        this.focusUi = focusUi;
     }
 
     private TextUi getFocusUi() {
@@ -30,10 +30,11 @@ public class HomeCommand extends Command {
      *
      * @param arguments Argument-Payload map generated by CommandParser
      * @param session   Session object which is an arraylist of Countdowns
+     * @param focusUi   FocusUi of the Focus Timer, shared by its commands
      */
-    public HomeCommand(HashMap<String, String> arguments, Session session) {
+    public HomeCommand(HashMap<String, String> arguments, Session session, FocusUi focusUi) {
         super(arguments);
-        this.focusUi = new FocusUi();
+        this.focusUi = focusUi;
         this.session = session;
     }
 
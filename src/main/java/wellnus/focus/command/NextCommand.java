@@ -34,11 +34,12 @@ public class NextCommand extends Command {
      *
      * @param arguments Argument-Payload Hashmap generated by CommandParser
      * @param session   Session object which is an arraylist of Countdowns
+     * @param focusUi   FocusUi of the Focus Timer, shared by its commands
      */
-    public NextCommand(HashMap<String, String> arguments, Session session) {
+    public NextCommand(HashMap<String, String> arguments, Session session, FocusUi focusUi) {
         super(arguments);
         this.session = session;
-        this.focusUi = new FocusUi();
+        this.focusUi = focusUi;
     }
 
     /**
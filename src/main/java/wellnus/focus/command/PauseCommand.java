@@ -33,11 +33,12 @@ public class PauseCommand extends Command {
      *
      * @param arguments Argument-Payload Hashmap generated by CommandParser
      * @param session   Session object which is an arraylist of Countdowns
+     * @param focusUi   FocusUi of the Focus Timer, shared by its commands
      */
-    public PauseCommand(HashMap<String, String> arguments, Session session) {
+    public PauseCommand(HashMap<String, String> arguments, Session session, FocusUi focusUi) {
         super(arguments);
         this.session = session;
-        this.focusUi = new FocusUi();
+        this.focusUi = focusUi;
     }
 
     /**
@@ -85,9 +86,7 @@ public class PauseCommand extends Command {
             return;
         }
         session.getCurrentCountdown().setPause();
-        int minutes = session.getCurrentCountdown().getMinutes();
-        int seconds = session.getCurrentCountdown().getSeconds();
-        focusUi.printOutputMessage(PAUSE_OUTPUT + String.format("%d:%d", minutes, seconds));
+        focusUi.printOutputMessage(PAUSE_OUTPUT + session.getCurrentCountdown().getRemainingTime());
     }
 
     /**
@@ -34,11 +34,12 @@ public class ResumeCommand extends Command {
      *
      * @param arguments Argument-Payload Hashmap generated by CommandParser
      * @param session   Session object which is an arraylist of Countdowns
+     * @param focusUi   FocusUi of the Focus Timer, shared by its commands
      */
-    public ResumeCommand(HashMap<String, String> arguments, Session session) {
+    public ResumeCommand(HashMap<String, String> arguments, Session session, FocusUi focusUi) {
         super(arguments);
         this.session = session;
-        this.focusUi = new FocusUi();
+        this.focusUi = focusUi;
     }
 
     /**
@@ -80,9 +81,7 @@ public class ResumeCommand extends Command {
             focusUi.printOutputMessage(ERROR_NOT_PAUSED);
             return;
         }
-        int minutes = session.getCurrentCountdown().getMinutes();
-        int seconds = session.getCurrentCountdown().getSeconds();
-        focusUi.printOutputMessage(RESUME_OUTPUT + String.format("%d:%d", minutes, seconds));
+        focusUi.printOutputMessage(RESUME_OUTPUT + session.getCurrentCountdown().getRemainingTime());
         session.getCurrentCountdown().setStart();
     }
 
@@ -17,7 +17,6 @@ public class StartCommand extends Command {
     public static final String COMMAND_USAGE = "usage: start";
     public static final String COMMAND_KEYWORD = "start";
     private static final int COMMAND_NUM_OF_ARGUMENTS = 1;
-    private static final int FIRST_COUNTDOWN_INDEX = 0;
     private static final String COMMAND_INVALID_COMMAND_MESSAGE = "Invalid command issued, expected 'start'!";
     private static final String COMMAND_INVALID_ARGUMENTS_MESSAGE = "Invalid arguments given to 'start'!";
     private static final String COMMAND_INVALID_PAYLOAD = "Invalid payload given to 'start'!";
@@ -33,11 +32,12 @@ public class StartCommand extends Command {
      *
      * @param arguments Argument-Payload Hashmap generated by CommandParser
      * @param session   Session object which is an arraylist of Countdowns
+     * @param focusUi   FocusUi of the Focus Timer, shared by its commands
      */
-    public StartCommand(HashMap<String, String> arguments, Session session) {
+    public StartCommand(HashMap<String, String> arguments, Session session, FocusUi focusUi) {
         super(arguments);
         this.session = session;
-        this.focusUi = new FocusUi();
+        this.focusUi = focusUi;
     }
 
     /**
@@ -82,7 +82,7 @@ public class StartCommand extends Command {
         // Forcefully initialise the session again for repeated countdowns
         focusUi.printOutputMessage(START_MESSAGE);
         session.startTimer();
-        focusUi.printOutputMessage(session.getSession().get(FIRST_COUNTDOWN_INDEX).getDescription());
+        focusUi.printOutputMessage(session.getCurrentCountdown().getDescription());
     }
 
     /**
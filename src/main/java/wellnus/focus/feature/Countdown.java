@@ -1,25 +1,23 @@
 package wellnus.focus.feature;
 
 
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 
 /**
  * Class to represent a timer counting down given a specific minutes.
- * This class contains a Timer class which is used to simulate a clock counting down.
- * Atomic data type is used to communicate with the timer background thread.
+ * The countdown keeps a deadline on the monotonic clock, from which the remaining time is derived when asked,
+ * so late wake-ups of the background thread never shift the end of the countdown.
+ * Its CountdownClock, by default the CountdownScheduler shared by all countdowns, wakes it only to print
+ * the last seconds and to complete it.
  */
 public class Countdown {
-    private static final int ONE_SECOND = 1000;
-    private static final int DELAY_TIME = 0;
-    private static final int DEFAULT_STOP_TIME = 0;
-    private static final int DEFAULT_SECONDS = 59;
-    private static final int INITIAL_SECONDS = 0;
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final int SECONDS_PER_MINUTE = 60;
     private static final int COUNTDOWN_PRINT_START_TIME = 10;
     private static final String MINUTES_INPUT_ASSERTION = "Minutes should be greater than 0";
-    private static final String STOP_BEFORE_START_ASSERTION = "Timer should be started before trying to stop it";
     private static final String TIMER_NOT_RUNNING_ASSERTION = "Timer should not be running";
     private static final String TIMER_COMPLETE_MESSAGE = "Type 'next' to begin the next countdown";
     private static final String TIMER_COMPLETE_MESSAGE_LAST = "Congrats! That's a session done and dusted!"
@@ -27,14 +25,19 @@ public class Countdown {
             + "Type `start` to start a new session, or `config` to change the session settings.";
     private static final String FEATURE_NAME = "ft";
     private FocusUi focusUi;
-    private Timer timer;
-    private int minutes;
-    private int inputMinutes;
-    private int seconds;
+    private final CountdownClock clock;
+    private Future<?> wakeFuture;
+    // Incremented whenever the wake-up is rescheduled, so that a wake-up already underway can tell it is stale
+    private long wakeGeneration = 0;
+    private final long durationNanos;
+    // Remaining time while the countdown is not running, and the clock.nanoTime() it ends at while it is
+    private long remainingNanos;
+    private long deadlineNanos;
     private final String description;
     private boolean isLast;
     // Convenience attribute to signify that this countdown object is the rollover countdown
-    private boolean isReady = false;
+    private volatile boolean isReady = false;
+    private volatile Runnable stateChangeListener = () -> { };
     private AtomicBoolean isCompletedCountdown;
     private AtomicBoolean isRunClock;
 
@@ -44,87 +47,152 @@ public class Countdown {
      *
      * @param minutes     the number of minutes to countdown
      * @param description description of the current task user is focusing on
+     * @param isLast      whether this is the last countdown of its session
+     * @param focusUi     FocusUi of the Focus Timer, which the countdown prints to
      */
-    public Countdown(int minutes, String description, boolean isLast) {
+    public Countdown(int minutes, String description, boolean isLast, FocusUi focusUi) {
+        this(minutes, description, isLast, focusUi, CountdownScheduler.getInstance());
+    }
+
+    /**
+     * Constructor of Countdown that counts down on the given clock.
+     *
+     * @param minutes     the number of minutes to countdown
+     * @param description description of the current task user is focusing on
+     * @param isLast      whether this is the last countdown of its session
+     * @param focusUi     FocusUi of the Focus Timer, which the countdown prints to
+     * @param clock       CountdownClock that the countdown reads the time from and is woken by
+     */
+    public Countdown(int minutes, String description, boolean isLast, FocusUi focusUi, CountdownClock clock) {
         assert minutes > 0 : MINUTES_INPUT_ASSERTION;
-        this.minutes = minutes;
-        this.inputMinutes = minutes;
-        this.seconds = INITIAL_SECONDS;
+        this.durationNanos = TimeUnit.MINUTES.toNanos(minutes);
+        this.remainingNanos = durationNanos;
         this.isCompletedCountdown = new AtomicBoolean(false);
         this.isRunClock = new AtomicBoolean(false);
         this.description = description;
-        this.focusUi = new FocusUi();
+        this.focusUi = focusUi;
+        this.clock = clock;
         focusUi.setCursorName(FEATURE_NAME);
         this.isLast = isLast;
     }
 
     /**
-     * This method will execute the actions necessary when a countdown completes.
-     * The timer will be stopped and a beep sound will be played.
+     * This method will execute the actions necessary when a countdown completes, after it has been stopped.
+     * A beep sound will be played.
      * A message will be printed to the user to notify them that the countdown has completed.
      */
     private void timerComplete() {
-        setStop();
         java.awt.Toolkit.getDefaultToolkit().beep();
         if (isLast) {
             focusUi.printOutputMessage(TIMER_COMPLETE_MESSAGE_LAST);
         } else {
             focusUi.printOutputMessage(TIMER_COMPLETE_MESSAGE);
         }
-        this.minutes = inputMinutes;
-        this.isCompletedCountdown.set(true);
-        if (isLast) {
-            setIsReady(true);
-        }
         focusUi.printCursor();
+        notifyStateChange();
     }
 
     /**
-     * This method will decrement the minutes by 1;
+     * Tells the listener that the countdown started, paused, stopped or completed.
+     * Never called while holding the countdown's lock, so the listener may take locks of its own.
      */
-    private void decrementMinutes() {
-        minutes--;
+    private void notifyStateChange() {
+        stateChangeListener.run();
     }
 
     /**
-     * This method will decrement the seconds by 1;
+     * Sets the listener to run whenever the countdown starts, pauses, stops or completes.
+     *
+     * @param stateChangeListener listener to run on the thread that changed the state
      */
-    private void decrementSeconds() {
-        seconds--;
+    void setStateChangeListener(Runnable stateChangeListener) {
+        this.stateChangeListener = stateChangeListener;
     }
 
     /**
-     * This method will start the countdown timer.
-     * Timer will notify user when the countdown timer has completed by playing a beep sound.
-     * The timer will run in the background and will be stopped when the countdown minutes and seconds reaches 0.
+     * Puts a countdown that has not started into the state it was saved in.
+     *
+     * @param savedRemainingNanos time the countdown had left
+     * @param isCompleted         whether the countdown had completed
      */
-    public void start() {
+    synchronized void restore(long savedRemainingNanos, boolean isCompleted) {
         assert isRunClock.get() == false : TIMER_NOT_RUNNING_ASSERTION;
-        timer = new Timer();
-        TimerTask countdownTask = new TimerTask() {
-            @Override
-            public void run() {
-                setIsReady(false);
-                if (!isRunClock.get()) {
-                    return;
-                }
-                if (minutes == DEFAULT_STOP_TIME && seconds == COUNTDOWN_PRINT_START_TIME) {
-                    focusUi.printNewline();
-                }
-                if (isCountdownPrinting()) {
-                    focusUi.printOutputMessage(seconds + " seconds left");
-                }
-                if (seconds == DEFAULT_STOP_TIME && minutes == DEFAULT_STOP_TIME) {
-                    timerComplete();
-                } else if (seconds == DEFAULT_STOP_TIME) {
-                    seconds = DEFAULT_SECONDS;
-                    decrementMinutes();
-                } else {
-                    decrementSeconds();
+        setIsReady(false);
+        remainingNanos = Math.min(Math.max(0, savedRemainingNanos), durationNanos);
+        isCompletedCountdown.set(isCompleted);
+    }
+
+    /**
+     * This method will prepare the countdown timer to count down its full duration.
+     * The countdown begins once <code>setStart()</code> is called.
+     */
+    public synchronized void start() {
+        assert isRunClock.get() == false : TIMER_NOT_RUNNING_ASSERTION;
+        setIsReady(false);
+        remainingNanos = durationNanos;
+    }
+
+    /**
+     * Runs when the countdown reaches the next second to print,
+     * or its deadline.
+     *
+     * @param generation wakeGeneration at the time this wake-up was scheduled
+     */
+    private void wake(long generation) {
+        synchronized (this) {
+            if (generation != wakeGeneration || !isRunClock.get()) {
+                return;
+            }
+            long secondsLeft = toWholeSeconds(deadlineNanos - clock.nanoTime());
+            if (secondsLeft > 0) {
+                if (secondsLeft <= COUNTDOWN_PRINT_START_TIME) {
+                    if (secondsLeft == COUNTDOWN_PRINT_START_TIME) {
+                        focusUi.printNewline();
+                    }
+                    focusUi.printOutputMessage(secondsLeft + " seconds left");
                 }
+                scheduleWake();
+                return;
+            }
+            stopCountdown();
+            remainingNanos = durationNanos;
+            if (isLast) {
+                setIsReady(true);
             }
-        };
-        timer.scheduleAtFixedRate(countdownTask, DELAY_TIME, ONE_SECOND);
+        }
+        timerComplete();
+    }
+
+    /**
+     * Schedules the next wake-up: when the printing phase begins, at each second of the printing phase,
+     * and at the deadline.
+     */
+    private void scheduleWake() {
+        long nanosLeft = deadlineNanos - clock.nanoTime();
+        long secondsLeft = toWholeSeconds(nanosLeft);
+        long wakeAtSecondsLeft = Math.min(secondsLeft - 1, COUNTDOWN_PRINT_START_TIME);
+        long delayNanos = Math.max(0, nanosLeft - wakeAtSecondsLeft * NANOS_PER_SECOND);
+        cancelWake();
+        long generation = wakeGeneration;
+        wakeFuture = clock.schedule(() -> wake(generation), delayNanos);
+    }
+
+    private void cancelWake() {
+        wakeGeneration += 1;
+        if (wakeFuture != null) {
+            wakeFuture.cancel(false);
+            wakeFuture = null;
+        }
+    }
+
+    /**
+     * Rounds the given time up to whole seconds, so that a countdown shows 0 seconds only once it has ended.
+     */
+    private static long toWholeSeconds(long nanos) {
+        if (nanos <= 0) {
+            return 0;
+        }
+        return (nanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND;
     }
 
     /**
@@ -135,9 +203,8 @@ public class Countdown {
      * @return boolean Representing if the countdown timer is printing.
      */
     public boolean isCountdownPrinting() {
-        return (minutes == DEFAULT_STOP_TIME
-                && seconds <= COUNTDOWN_PRINT_START_TIME
-                && seconds != DEFAULT_STOP_TIME);
+        long secondsLeft = getRemainingSeconds();
+        return secondsLeft > 0 && secondsLeft <= COUNTDOWN_PRINT_START_TIME;
     }
 
     /**
@@ -150,31 +217,49 @@ public class Countdown {
     }
 
     /**
-     * This method will stop the countdown timer and stops the background thread.
+     * This method will stop the countdown timer, so that the scheduler no longer wakes it.
      */
     public void setStop() {
-        // timer is only initialised in start() method, so calling setStop() leads
-        // to a crash. Catch this mistake with an assertion
-        assert timer != null : STOP_BEFORE_START_ASSERTION;
+        stopCountdown();
+        notifyStateChange();
+    }
+
+    private synchronized void stopCountdown() {
+        remainingNanos = getRemainingNanos();
         isCompletedCountdown.set(true);
         isRunClock.set(false);
-        timer.cancel();
-        timer.purge();
+        cancelWake();
     }
 
     /**
      * This method will allow the countdown timer to count down.
-     * It does so by allowing the minutes and seconds to be decremented.
+     * It does so by setting the deadline to the remaining time from now.
      */
     public void setStart() {
-        isRunClock.set(true);
+        synchronized (this) {
+            if (isRunClock.get() || isCompletedCountdown.get()) {
+                return;
+            }
+            deadlineNanos = clock.nanoTime() + remainingNanos;
+            isRunClock.set(true);
+            scheduleWake();
+        }
+        notifyStateChange();
     }
 
     /**
-     * This method will pause the countdown timer.
+     * This method will pause the countdown timer, keeping the time that was left until it is resumed.
      */
     public void setPause() {
-        isRunClock.set(false);
+        synchronized (this) {
+            if (!isRunClock.get()) {
+                return;
+            }
+            remainingNanos = getRemainingNanos();
+            isRunClock.set(false);
+            cancelWake();
+        }
+        notifyStateChange();
     }
 
     /**
@@ -186,13 +271,44 @@ public class Countdown {
         return isRunClock.get();
     }
 
+    /**
+     * This method will return the time left on the countdown timer.
+     *
+     * @return the time left in nanoseconds, which is never negative
+     */
+    public synchronized long getRemainingNanos() {
+        if (!isRunClock.get()) {
+            return remainingNanos;
+        }
+        return Math.max(0, deadlineNanos - clock.nanoTime());
+    }
+
+    /**
+     * This method will return the time left on the countdown timer, rounded up to whole seconds.
+     *
+     * @return the time left in seconds
+     */
+    public long getRemainingSeconds() {
+        return toWholeSeconds(getRemainingNanos());
+    }
+
+    /**
+     * This method will return the time left on the countdown timer in the form minutes:seconds, e.g. 4:05.
+     *
+     * @return the time left on the countdown timer
+     */
+    public String getRemainingTime() {
+        long secondsLeft = getRemainingSeconds();
+        return String.format("%d:%02d", secondsLeft / SECONDS_PER_MINUTE, secondsLeft % SECONDS_PER_MINUTE);
+    }
+
     /**
      * This method will return the current minutes of the countdown timer.
      *
      * @return the minutes of the countdown timer
      */
     public int getMinutes() {
-        return this.minutes;
+        return (int) (getRemainingSeconds() / SECONDS_PER_MINUTE);
     }
 
     /**
@@ -201,7 +317,7 @@ public class Countdown {
      * @return the seconds of the countdown timer
      */
     public int getSeconds() {
-        return this.seconds;
+        return (int) (getRemainingSeconds() % SECONDS_PER_MINUTE);
     }
 
     /**
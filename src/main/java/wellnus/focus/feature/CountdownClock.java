@@ -0,0 +1,42 @@
+package wellnus.focus.feature;
+
+import java.util.concurrent.Future;
+
+/**
+ * CountdownClock is the source of time for the Focus Timer. <br>
+ * <p>
+ * Countdowns read the time and schedule their wake-ups through a CountdownClock, so that the same countdown
+ * runs on the real monotonic clock in WellNUS++ and on a ManualClock, which is advanced instantly, in tests
+ * and simulations.
+ *
+ * @see CountdownScheduler
+ * @see ManualClock
+ */
+public interface CountdownClock {
+    /**
+     * Returns the current time of this clock, in the manner of <code>System.nanoTime()</code>. <br>
+     * <p>
+     * The value only has meaning relative to other values returned by the same clock.
+     *
+     * @return current time in nanoseconds
+     */
+    long nanoTime();
+
+    /**
+     * Returns the current wall-clock time of this clock, in the manner of <code>System.currentTimeMillis()</code>.
+     * <p>
+     * Only used to carry a countdown over a restart of WellNUS++, which <code>nanoTime()</code> cannot.
+     *
+     * @return current time in milliseconds since the epoch
+     */
+    long currentTimeMillis();
+
+    /**
+     * Runs the given task once, when this clock has advanced by the given delay.
+     *
+     * @param task       Task to run
+     * @param delayNanos Time to wait before running the task, in nanoseconds
+     * @return Future to cancel the task with
+     */
+    Future<?> schedule(Runnable task, long delayNanos);
+}
@@ -0,0 +1,64 @@
+package wellnus.focus.feature;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CountdownScheduler drives every Countdown of WellNUS++ from a single background thread. <br>
+ * <p>
+ * Countdowns hand their wake-ups to the scheduler instead of starting a <code>java.util.Timer</code> each,
+ * so the Focus Timer uses one thread no matter how many cycles or sessions are configured.
+ * The thread is a daemon, so it never keeps WellNUS++ from exiting.
+ * As a CountdownClock, it is the real clock of the Focus Timer.
+ */
+public class CountdownScheduler implements CountdownClock {
+    private static final String THREAD_NAME = "WellNUS++ focus timer";
+    private static final int NUM_OF_THREADS = 1;
+    private static CountdownScheduler instance;
+    private final ScheduledThreadPoolExecutor executor;
+
+    private CountdownScheduler() {
+        this.executor = new ScheduledThreadPoolExecutor(NUM_OF_THREADS, runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Stopped countdowns are removed at once, instead of waiting in the queue until they would have run
+        this.executor.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Returns the CountdownScheduler shared by all of WellNUS++, creating it on first use.
+     *
+     * @return the process-wide CountdownScheduler
+     */
+    public static synchronized CountdownScheduler getInstance() {
+        if (instance == null) {
+            instance = new CountdownScheduler();
+        }
+        return instance;
+    }
+
+    @Override
+    public long nanoTime() {
+        return System.nanoTime();
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    /**
+     * Runs the given task once on the scheduler's thread, after the given delay.
+     *
+     * @param task       Task to run on the scheduler's thread
+     * @param delayNanos Time to wait before running the task, in nanoseconds
+     * @return ScheduledFuture to cancel the task with
+     */
+    @Override
+    public ScheduledFuture<?> schedule(Runnable task, long delayNanos) {
+        return executor.schedule(task, delayNanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -1,8 +1,10 @@
 package wellnus.focus.feature;
 
 import java.util.HashMap;
+import java.util.function.Function;
 
 import wellnus.command.Command;
+import wellnus.command.ParsedCommand;
 import wellnus.exception.BadCommandException;
 import wellnus.exception.WellNusException;
 import wellnus.focus.command.CheckCommand;
@@ -15,6 +17,9 @@ import wellnus.focus.command.ResumeCommand;
 import wellnus.focus.command.StartCommand;
 import wellnus.focus.command.StopCommand;
 import wellnus.manager.Manager;
+import wellnus.storage.Storage;
+import wellnus.ui.BatchMode;
+import wellnus.ui.UiContext;
 
 /**
  * Represents a class to run the event driver for the Focus Timer.
@@ -55,6 +60,10 @@ public class FocusManager extends Manager {
             "| $$   |  $$$$$$/|  $$$$$$$|  $$$$$$/ /$$$$$$$/" + System.lineSeparator()
             +
             "|__/    \\______/  \\_______/ \\______/ |_______/" + System.lineSeparator();
+    private static final String RESTORED_PAUSED_MESSAGE = "Your last focus session was restored, paused at %s."
+            + System.lineSeparator() + "Type `resume` to continue it, or `stop` to end it.";
+    private static final String RESTORED_WAITING_MESSAGE = "Your last focus session was restored."
+            + System.lineSeparator() + "Type `next` to begin the next countdown, or `stop` to end it.";
     private static final String COMMAND_KEYWORD_ASSERTION = "The key cannot be null"
             + ", check user-guide for valid commands";
     private static final String LINE_SEPARATOR = System.lineSeparator();
@@ -73,15 +82,51 @@ public class FocusManager extends Manager {
     private final FocusUi focusUi;
     private final Session session;
 
+    /**
+     * Constructs a FocusManager object that reads from System.in.
+     */
+    public FocusManager() {
+        this(UiContext.getStandard());
+    }
+
     /**
      * Constructs a FocusManager object.
      * Initialise a session and textUi.
-     * Session will be passed into different commands to be utilised.
+     * Session and textUi will be passed into different commands to be utilised.
+     *
+     * @param uiContext UiContext shared by the UIs of WellNUS++
      */
-    public FocusManager() {
-        this.focusUi = new FocusUi();
+    public FocusManager(UiContext uiContext) {
+        this(uiContext, CountdownScheduler.getInstance());
+    }
+
+    /**
+     * Constructs a FocusManager object whose sessions count down on the given clock.
+     *
+     * @param uiContext UiContext shared by the UIs of WellNUS++
+     * @param clock     CountdownClock of the Focus Timer, e.g. a ManualClock to run sessions instantly
+     */
+    public FocusManager(UiContext uiContext, CountdownClock clock) {
+        this(new FocusUi(uiContext), focusUi -> new Session(focusUi, clock));
+    }
+
+    /**
+     * Constructs a FocusManager object whose session is saved with the given Storage,
+     * so that it can be resumed after WellNUS++ restarts.
+     *
+     * @param uiContext UiContext shared by the UIs of WellNUS++
+     * @param storage   Storage to save the session with
+     */
+    public FocusManager(UiContext uiContext, Storage storage) {
+        this(new FocusUi(uiContext), focusUi -> new Session(focusUi, CountdownScheduler.getInstance(),
+                new SessionStorage(storage)));
+    }
+
+    private FocusManager(FocusUi focusUi, Function<FocusUi, Session> sessionFactory) {
+        this.focusUi = focusUi;
         this.focusUi.setCursorName(FEATURE_NAME);
-        this.session = new Session();
+        this.session = sessionFactory.apply(focusUi);
+        registerCommands();
     }
 
     /**
@@ -93,36 +138,37 @@ public class FocusManager extends Manager {
      * @throws BadCommandException If an unknown command was issued by the user
      */
     private Command getCommandFor(String commandString) throws BadCommandException {
-        HashMap<String, String> arguments = getCommandParser().parseUserInput(commandString);
-        String commandKeyword = getCommandParser().getMainArgument(commandString);
-        assert commandKeyword != null : COMMAND_KEYWORD_ASSERTION;
-        switch (commandKeyword) {
-        case START_COMMAND_KEYWORD:
-            return new StartCommand(arguments, session);
-        case PAUSE_COMMAND_KEYWORD:
-            return new PauseCommand(arguments, session);
-        case RESUME_COMMAND_KEYWORD:
-            return new ResumeCommand(arguments, session);
-        case HOME_COMMAND_KEYWORD:
-            return new HomeCommand(arguments, session);
-        case STOP_COMMAND_KEYWORD:
-            return new StopCommand(arguments, session);
-        case CHECK_COMMAND_KEYWORD:
-            return new CheckCommand(arguments, session);
-        case NEXT_COMMAND_KEYWORD:
-            return new NextCommand(arguments, session);
-        case CONFIG_COMMAND_KEYWORD:
-            return new ConfigCommand(arguments, session);
-        case HELP_COMMAND_KEYWORD:
-            return new HelpCommand(arguments);
-        default:
-            throw new BadCommandException(UNKNOWN_COMMAND_MESSAGE);
-        }
+        ParsedCommand parsedCommand = getCommandParser().parse(commandString);
+        assert parsedCommand.getMainArgument() != null : COMMAND_KEYWORD_ASSERTION;
+        return getCommandRegistry().getCommandFor(parsedCommand);
+    }
+
+    private void registerCommands() {
+        getCommandRegistry()
+                .register(START_COMMAND_KEYWORD, arguments -> new StartCommand(arguments, session, focusUi))
+                .register(PAUSE_COMMAND_KEYWORD, arguments -> new PauseCommand(arguments, session, focusUi))
+                .register(RESUME_COMMAND_KEYWORD, arguments -> new ResumeCommand(arguments, session, focusUi))
+                .register(HOME_COMMAND_KEYWORD, arguments -> new HomeCommand(arguments, session, focusUi))
+                .register(STOP_COMMAND_KEYWORD, arguments -> new StopCommand(arguments, session, focusUi))
+                .register(CHECK_COMMAND_KEYWORD, arguments -> new CheckCommand(arguments, session, focusUi))
+                .register(NEXT_COMMAND_KEYWORD, arguments -> new NextCommand(arguments, session, focusUi))
+                .register(CONFIG_COMMAND_KEYWORD, arguments -> new ConfigCommand(arguments, session, focusUi))
+                .register(HELP_COMMAND_KEYWORD, arguments -> new HelpCommand(arguments, focusUi));
     }
 
     private void greet() {
+        if (BatchMode.isActive()) {
+            return;
+        }
         focusUi.printLogoWithSeparator(FOCUS_GREETING_LOGO);
         focusUi.printOutputMessage(FOCUS_TIMER_GREET);
+        // Leaving the Focus Timer resets the session, so only a restored session can be paused or waiting here
+        if (session.isSessionPaused()) {
+            focusUi.printOutputMessage(String.format(RESTORED_PAUSED_MESSAGE,
+                    session.getCurrentCountdown().getRemainingTime()));
+        } else if (session.isSessionWaiting()) {
+            focusUi.printOutputMessage(RESTORED_WAITING_MESSAGE);
+        }
     }
 
     private void runCommands() {
@@ -133,7 +179,7 @@ public class FocusManager extends Manager {
                 String commandString = focusUi.getCommand(session);
                 // Edge case guard clause to ensure that
                 Command command = getCommandFor(commandString);
-                command.execute();
+                getCommandRegistry().execute(command);
                 isExit = HomeCommand.isExit(command);
             } catch (WellNusException exception) {
                 String errorMessage = exception.getMessage();
@@ -185,25 +231,25 @@ public class FocusManager extends Manager {
         switch (userCommand) {
         case START_COMMAND_KEYWORD:
             arguments = getCommandParser().parseUserInput(startCommand);
-            return new StartCommand(arguments, session);
+            return new StartCommand(arguments, session, focusUi);
         case PAUSE_COMMAND_KEYWORD:
             arguments = getCommandParser().parseUserInput(pauseCommand);
-            return new PauseCommand(arguments, session);
+            return new PauseCommand(arguments, session, focusUi);
         case RESUME_COMMAND_KEYWORD:
             arguments = getCommandParser().parseUserInput(resumeCommand);
-            return new ResumeCommand(arguments, session);
+            return new ResumeCommand(arguments, session, focusUi);
         case HOME_COMMAND_KEYWORD:
             arguments = getCommandParser().parseUserInput(homeCommand);
-            return new HomeCommand(arguments, session);
+            return new HomeCommand(arguments, session, focusUi);
         case STOP_COMMAND_KEYWORD:
             arguments = getCommandParser().parseUserInput(stopCommand);
-            return new StopCommand(arguments, session);
+            return new StopCommand(arguments, session, focusUi);
         case CHECK_COMMAND_KEYWORD:
             arguments = getCommandParser().parseUserInput(checkCommand);
-            return new CheckCommand(arguments, session);
+            return new CheckCommand(arguments, session, focusUi);
         case CONFIG_COMMAND_KEYWORD:
             arguments = getCommandParser().parseUserInput(checkCommand);
-            return new ConfigCommand(arguments, session);
+            return new ConfigCommand(arguments, session, focusUi);
         default:
             throw new BadCommandException(UNKNOWN_COMMAND_MESSAGE);
         }
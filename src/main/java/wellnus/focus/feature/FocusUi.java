@@ -7,7 +7,9 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import wellnus.common.WellNusLogger;
+import wellnus.ui.BatchMode;
 import wellnus.ui.TextUi;
+import wellnus.ui.UiContext;
 
 /**
  * FocusUi contains extra logic to handle special cursor-printing logic and reading of stdin
@@ -34,6 +36,16 @@ public class FocusUi extends TextUi {
         setSeparator(SEPARATOR);
     }
 
+    /**
+     * Constructs a FocusUi variant of TextUi that shares the given UiContext
+     *
+     * @param context UiContext shared by the UIs of WellNUS++
+     */
+    public FocusUi(UiContext context) {
+        super(context);
+        setSeparator(SEPARATOR);
+    }
+
     /**
      * FocusUi specific getCommand that accounts for proper printing of
      * the cursor and accepting user input when the countdown printing phase (10,9,...,1)
@@ -42,10 +54,15 @@ public class FocusUi extends TextUi {
      * In this scenario, we define invalid phase to be the point where
      * the countdown prints (10,9,...,1) on screen.
      * Otherwise, it is valid.
+     * <p>
+     * In batch mode, the script is read at once: its commands are never typed during the countdown printing.
      *
      * @return User input command with leading/dangling whitespace being removed
      */
     public String getCommand(Session session) {
+        if (BatchMode.isActive()) {
+            return getCommand();
+        }
         Scanner scanner = getScanner();
         // User tries to input a command in the invalid phase
         if (isBlocking(session)) {
@@ -62,7 +79,8 @@ public class FocusUi extends TextUi {
     }
 
     private void printLogo(String logo) {
-        System.out.print(logo);
+        getOutput().append(logo);
+        getOutput().flush();
     }
 
     protected void printLogoWithSeparator(String logo) {
@@ -0,0 +1,102 @@
+package wellnus.focus.feature;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ManualClock is a CountdownClock whose time only moves when it is advanced. <br>
+ * <p>
+ * Advancing the clock runs every task that falls due on the way, in the order they fall due, on the thread
+ * that advances it. A whole Focus Timer session can thus be run in an instant, e.g. to test it or to
+ * simulate many sessions.
+ * Its wall-clock time starts at the epoch and moves with it.
+ */
+public class ManualClock implements CountdownClock {
+    private static final String ADVANCE_NEGATIVE_ASSERTION = "Clock can only be advanced forwards";
+    private final PriorityQueue<ScheduledTask> tasks = new PriorityQueue<>(
+            Comparator.comparingLong((ScheduledTask task) -> task.dueNanos).thenComparingLong(task -> task.sequence));
+    private long nowNanos = 0;
+    private long numScheduled = 0;
+
+    @Override
+    public synchronized long nanoTime() {
+        return nowNanos;
+    }
+
+    @Override
+    public synchronized long currentTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(nowNanos);
+    }
+
+    @Override
+    public synchronized Future<?> schedule(Runnable task, long delayNanos) {
+        ScheduledTask scheduledTask = new ScheduledTask(task, nowNanos + Math.max(0, delayNanos), numScheduled);
+        numScheduled += 1;
+        tasks.add(scheduledTask);
+        return scheduledTask;
+    }
+
+    /**
+     * Moves the clock forwards by the given amount of time, running every task that falls due by then. <br>
+     * <p>
+     * Tasks scheduled by these tasks also run, if they fall due by then.
+     *
+     * @param amount Amount of time to advance the clock by
+     * @param unit   Unit of the amount
+     */
+    public void advance(long amount, TimeUnit unit) {
+        assert amount >= 0 : ADVANCE_NEGATIVE_ASSERTION;
+        long targetNanos;
+        synchronized (this) {
+            targetNanos = nowNanos + unit.toNanos(amount);
+        }
+        while (true) {
+            ScheduledTask dueTask;
+            synchronized (this) {
+                dueTask = tasks.peek();
+                if (dueTask == null || dueTask.dueNanos > targetNanos) {
+                    nowNanos = targetNanos;
+                    return;
+                }
+                tasks.poll();
+                nowNanos = dueTask.dueNanos;
+            }
+            // Run outside the lock, as the task reads this clock and may schedule further tasks
+            dueTask.run();
+        }
+    }
+
+    /**
+     * Moves the clock forwards until no tasks are left, running every task in the order they fall due.
+     */
+    public void advanceUntilIdle() {
+        while (true) {
+            long nextDueNanos;
+            synchronized (this) {
+                tasks.removeIf(ScheduledTask::isCancelled);
+                if (tasks.isEmpty()) {
+                    return;
+                }
+                nextDueNanos = tasks.peek().dueNanos;
+            }
+            advance(nextDueNanos - nanoTime(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Task waiting for the clock to reach its due time.
+     */
+    private static class ScheduledTask extends FutureTask<Void> {
+        private final long dueNanos;
+        private final long sequence;
+
+        ScheduledTask(Runnable task, long dueNanos, long sequence) {
+            super(task, null);
+            this.dueNanos = dueNanos;
+            this.sequence = sequence;
+        }
+    }
+}
@@ -1,12 +1,22 @@
 package wellnus.focus.feature;
 
-import java.util.ArrayList;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import wellnus.common.WellNusLogger;
+import wellnus.exception.StorageException;
+import wellnus.exception.TokenizerException;
 
 //@@author YongbinWang
 
 /**
  * Represents a session of Countdown objects.
- * A session is a sequence of Countdown objects represented by an ArrayList.
+ * A session is a sequence of countdowns: a work and a break countdown for every cycle,
+ * where the break of the last cycle is a long break.
+ * The session only keeps this plan, and creates the Countdown object of the current countdown when it is reached,
+ * so its size does not depend on the number of cycles.
  * We define a Session to have 4 states.
  * <ol>
  *     <li> Ready
@@ -19,54 +29,200 @@ import java.util.ArrayList;
  *          `resume` and `stop` are only legal here.
  * </ol>
  * The last timer holds a special `isReady` attribute to help Session determine if `start` and `config` is usable.
+ * <p>
+ * A session with a SessionStorage saves a snapshot whenever its state or plan changes, never while a countdown
+ * is merely ticking, and picks up where the last snapshot left off when it is constructed.
  */
 public class Session {
     private static final int INCREMENT = 1;
     private static final boolean IS_LAST_COUNTDOWN = true;
     private String workDescription = "Task Cycle: Do your task now!";
-    private final ArrayList<Countdown> session;
+    private static final int COUNTDOWNS_PER_CYCLE = 2;
+    private static final String LAST_COUNTDOWN_ASSERTION = "Only the last countdown of a session can be ready";
+    private static final String LOG_CANNOT_SAVE = "WellNUS++ could not save the focus session.";
+    private static final String LOG_CANNOT_RESTORE = "WellNUS++ could not restore the saved focus session, "
+            + "starting a new one instead.";
+    private static final Logger LOGGER = WellNusLogger.getLogger("FocusSessionLogger");
+    private final Optional<SessionStorage> sessionStorage;
+    private volatile Countdown currentCountdown;
+    private final FocusUi focusUi;
+    private final CountdownClock clock;
     private String breakDescription = "Break Cycle: Take a breather!";
     private String longBreakDescription = "Long Break";
     private int work = 1;
     private int brk = 1;
     private int longBrk = 1;
     private int cycle = 2;
-    private int currentCountdownIndex;
+    // Only changed together with currentCountdown while holding the session's lock, so snapshots see a matching pair
+    private volatile int currentCountdownIndex;
 
     /**
      * Constructs a Session object.
-     * Creates an ArrayList of Countdown objects.
-     * Calls fillSession() to fill the session with Countdown objects.
+     * Calls initialiseSession() to put the session into its Ready state.
      */
     public Session() {
-        this.session = new ArrayList<>();
-        initialiseSession();
-        this.currentCountdownIndex = session.size() - INCREMENT;
+        this(new FocusUi());
+    }
+
+    /**
+     * Constructs a Session object whose Countdown objects print to the given FocusUi.
+     *
+     * @param focusUi FocusUi of the Focus Timer
+     */
+    public Session(FocusUi focusUi) {
+        this(focusUi, CountdownScheduler.getInstance());
     }
 
     /**
-     * Method to fill the session with Countdown objects in a specific sequence.
+     * Constructs a Session object whose Countdown objects print to the given FocusUi and count down on the given clock.
+     *
+     * @param focusUi FocusUi of the Focus Timer
+     * @param clock   CountdownClock of the Focus Timer
+     */
+    public Session(FocusUi focusUi, CountdownClock clock) {
+        this(focusUi, clock, Optional.empty());
+    }
+
+    /**
+     * Constructs a Session object that is saved to the given SessionStorage,
+     * restoring the session saved there if there is one.
+     *
+     * @param focusUi        FocusUi of the Focus Timer
+     * @param clock          CountdownClock of the Focus Timer
+     * @param sessionStorage SessionStorage to save the session to and restore it from
      */
-    private void fillSession() {
-        for (int i = 0; i < cycle; i++) {
-            Countdown workCountDown = new Countdown(work, workDescription, !IS_LAST_COUNTDOWN);
-            Countdown breakCountDown = new Countdown(brk, breakDescription, !IS_LAST_COUNTDOWN);
-            session.add(workCountDown);
-            session.add(breakCountDown);
+    public Session(FocusUi focusUi, CountdownClock clock, SessionStorage sessionStorage) {
+        this(focusUi, clock, Optional.of(sessionStorage));
+    }
+
+    private Session(FocusUi focusUi, CountdownClock clock, Optional<SessionStorage> sessionStorage) {
+        this.focusUi = focusUi;
+        this.clock = clock;
+        this.sessionStorage = sessionStorage;
+        if (!restoreSession()) {
+            resetToReady();
         }
-        Countdown longBreak = new Countdown(longBrk, longBreakDescription, IS_LAST_COUNTDOWN);
-        int lastIndex = session.size() - 1;
-        session.remove(lastIndex);
-        session.add(longBreak);
     }
 
     /**
-     * Method to get the session.
+     * Method to create the Countdown object at the given position of the session, from the session's plan.
      *
-     * @return arraylist of countdown objects
+     * @param countdownIndex position of the countdown in the session
+     * @return new Countdown object that has not started
      */
-    public ArrayList<Countdown> getSession() {
-        return this.session;
+    private Countdown createCountdown(int countdownIndex) {
+        Countdown countdown;
+        if (countdownIndex == getLastCountdownIndex()) {
+            countdown = new Countdown(longBrk, longBreakDescription, IS_LAST_COUNTDOWN, focusUi, clock);
+        } else if (countdownIndex % COUNTDOWNS_PER_CYCLE == 0) {
+            countdown = new Countdown(work, workDescription, !IS_LAST_COUNTDOWN, focusUi, clock);
+        } else {
+            countdown = new Countdown(brk, breakDescription, !IS_LAST_COUNTDOWN, focusUi, clock);
+        }
+        countdown.setStateChangeListener(this::saveSnapshot);
+        return countdown;
+    }
+
+    /**
+     * Method to put the session into the state of the snapshot saved last, if there is one.
+     * A countdown that was running is restored as paused, less the time that passed since the snapshot.
+     *
+     * @return true if a saved session was restored, false otherwise
+     */
+    private boolean restoreSession() {
+        if (sessionStorage.isEmpty()) {
+            return false;
+        }
+        Optional<SessionSnapshot> savedSnapshot;
+        try {
+            savedSnapshot = sessionStorage.get().load();
+        } catch (StorageException | TokenizerException exception) {
+            LOGGER.log(Level.WARNING, LOG_CANNOT_RESTORE);
+            return false;
+        }
+        if (savedSnapshot.isEmpty()) {
+            return false;
+        }
+        SessionSnapshot snapshot = savedSnapshot.get();
+        cycle = snapshot.getCycle();
+        work = snapshot.getWork();
+        brk = snapshot.getBrk();
+        longBrk = snapshot.getLongBrk();
+        long remainingMillis = snapshot.getRemainingMillis();
+        switch (snapshot.getState()) {
+        case COUNTING:
+            // The countdown kept going while WellNUS++ was closed
+            remainingMillis -= Math.max(0, clock.currentTimeMillis() - snapshot.getSavedAtMillis());
+            if (remainingMillis > 0) {
+                restoreCountdown(snapshot.getCountdownIndex(), remainingMillis, false);
+            } else if (snapshot.getCountdownIndex() == getLastCountdownIndex()) {
+                resetToReady();
+            } else {
+                restoreCountdown(snapshot.getCountdownIndex(), 0, true);
+            }
+            break;
+        case PAUSED:
+            restoreCountdown(snapshot.getCountdownIndex(), remainingMillis, false);
+            break;
+        case WAITING:
+            restoreCountdown(snapshot.getCountdownIndex(), 0, true);
+            break;
+        default:
+            resetToReady();
+            break;
+        }
+        return true;
+    }
+
+    private synchronized void restoreCountdown(int countdownIndex, long remainingMillis, boolean isCompleted) {
+        currentCountdownIndex = countdownIndex;
+        currentCountdown = createCountdown(countdownIndex);
+        currentCountdown.restore(TimeUnit.MILLISECONDS.toNanos(remainingMillis), isCompleted);
+    }
+
+    /**
+     * Method to save a snapshot of the session's plan and current state, if the session has a SessionStorage.
+     * Called whenever the state or plan changes.
+     */
+    private synchronized void saveSnapshot() {
+        if (sessionStorage.isEmpty()) {
+            return;
+        }
+        Countdown countdown = currentCountdown;
+        SessionSnapshot snapshot = new SessionSnapshot(cycle, work, brk, longBrk, currentCountdownIndex,
+                getSessionState(), TimeUnit.NANOSECONDS.toMillis(countdown.getRemainingNanos()),
+                clock.currentTimeMillis());
+        try {
+            sessionStorage.get().store(snapshot);
+        } catch (StorageException exception) {
+            LOGGER.log(Level.WARNING, LOG_CANNOT_SAVE);
+        }
+    }
+
+    private SessionSnapshot.State getSessionState() {
+        if (isSessionReady()) {
+            return SessionSnapshot.State.READY;
+        }
+        if (isSessionCounting()) {
+            return SessionSnapshot.State.COUNTING;
+        }
+        if (isSessionPaused()) {
+            return SessionSnapshot.State.PAUSED;
+        }
+        return SessionSnapshot.State.WAITING;
+    }
+
+    /**
+     * Method to get the number of countdowns in the session.
+     *
+     * @return the number of countdowns in the session
+     */
+    public int getCountdownCount() {
+        return cycle * COUNTDOWNS_PER_CYCLE;
+    }
+
+    private int getLastCountdownIndex() {
+        return getCountdownCount() - INCREMENT;
     }
 
     /**
@@ -83,13 +239,13 @@ public class Session {
     /**
      * Method to increment the current countdown index if the current countdown is completed.
      */
-    public void checkPrevCountdown() {
+    public synchronized void checkPrevCountdown() {
         if (getCurrentCountdown().getIsReady()) {
-            initialiseSession();
             currentCountdownIndex = 0;
-            return;
+        } else {
+            currentCountdownIndex += INCREMENT;
         }
-        currentCountdownIndex += INCREMENT;
+        currentCountdown = createCountdown(currentCountdownIndex);
     }
 
     /**
@@ -98,7 +254,7 @@ public class Session {
      * @return Countdown the current countdown being ticked
      */
     public Countdown getCurrentCountdown() {
-        return session.get(currentCountdownIndex);
+        return currentCountdown;
     }
 
     /**
@@ -110,7 +266,7 @@ public class Session {
      * @return boolean Representing the ready state of the session.
      */
     public boolean isSessionReady() {
-        return getCurrentCountdownIndex() == session.size() - INCREMENT && getCurrentCountdown().getIsReady();
+        return getCurrentCountdownIndex() == getLastCountdownIndex() && getCurrentCountdown().getIsReady();
     }
 
     /**
@@ -154,10 +310,16 @@ public class Session {
 
     /**
      * Method to (re) initialise a session when start or stop command is executed.
+     * The session returns to its Ready state, at a new last countdown.
      */
     public void initialiseSession() {
-        session.clear();
-        fillSession();
+        resetToReady();
+        saveSnapshot();
+    }
+
+    private synchronized void resetToReady() {
+        currentCountdownIndex = getLastCountdownIndex();
+        currentCountdown = createCountdown(currentCountdownIndex);
         primeSessionIsReady();
     }
 
@@ -165,8 +327,8 @@ public class Session {
      * Sets the isReady flag in the session for the last countdown object to be true
      */
     private void primeSessionIsReady() {
-        int lastIndex = session.size() - INCREMENT;
-        session.get(lastIndex).setIsReady(true);
+        assert currentCountdownIndex == getLastCountdownIndex() : LAST_COUNTDOWN_ASSERTION;
+        currentCountdown.setIsReady(true);
     }
 
     //@@author YongbinWang
@@ -177,16 +339,20 @@ public class Session {
      * @return boolean Representing if there is any countdown
      */
     public boolean hasAnyCountdown() {
-        return session.size() > 0;
+        return getCountdownCount() > 0;
     }
 
     /**
-     * Method to reset the current countdown index back to 0.
+     * Method to reset the current countdown index back to the last countdown, which is ready.
      * This method is called when the user wants to stop an ongoing session.
      */
-    public void resetCurrentCountdownIndex() {
-        currentCountdownIndex = session.size() - INCREMENT;
+    public synchronized void resetCurrentCountdownIndex() {
+        if (currentCountdownIndex != getLastCountdownIndex()) {
+            currentCountdownIndex = getLastCountdownIndex();
+            currentCountdown = createCountdown(currentCountdownIndex);
+        }
         primeSessionIsReady();
+        saveSnapshot();
     }
 
     public int getWork() {
@@ -195,6 +361,7 @@ public class Session {
 
     public void setWork(int newWork) {
         this.work = newWork;
+        saveSnapshot();
     }
 
     public int getCycle() {
@@ -203,8 +370,7 @@ public class Session {
 
     public void setCycle(int newCycles) {
         this.cycle = newCycles;
-        fillSession();
-        resetCurrentCountdownIndex();
+        initialiseSession();
     }
 
     public int getBrk() {
@@ -213,6 +379,7 @@ public class Session {
 
     public void setBrk(int newBrk) {
         this.brk = newBrk;
+        saveSnapshot();
     }
 
     public int getLongBrk() {
@@ -221,6 +388,7 @@ public class Session {
 
     public void setLongBrk(int newLongBrk) {
         this.longBrk = newLongBrk;
+        saveSnapshot();
     }
 
 }
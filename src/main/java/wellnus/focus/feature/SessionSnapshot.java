@@ -0,0 +1,87 @@
+package wellnus.focus.feature;
+
+/**
+ * SessionSnapshot is what is saved of a Focus Timer session, so that it can be resumed after WellNUS++ restarts. <br>
+ * <p>
+ * It holds the session's plan, the position and state of its current countdown, and the time that countdown
+ * had left. As <code>System.nanoTime()</code> means nothing to the next run of WellNUS++, the wall-clock time
+ * of the snapshot is kept too, to find out how much of a running countdown passed while WellNUS++ was closed.
+ */
+public class SessionSnapshot {
+    private static final String CYCLE_POSITIVE_ASSERTION = "A session has at least one cycle";
+    private final int cycle;
+    private final int work;
+    private final int brk;
+    private final int longBrk;
+    private final int countdownIndex;
+    private final State state;
+    private final long remainingMillis;
+    private final long savedAtMillis;
+
+    /**
+     * Constructs a SessionSnapshot.
+     *
+     * @param cycle           number of cycles of the session
+     * @param work            minutes of a work countdown
+     * @param brk             minutes of a break countdown
+     * @param longBrk         minutes of the long break countdown
+     * @param countdownIndex  position of the current countdown in the session
+     * @param state           state of the session
+     * @param remainingMillis time the current countdown had left, in milliseconds
+     * @param savedAtMillis   wall-clock time of the snapshot, in milliseconds since the epoch
+     */
+    public SessionSnapshot(int cycle, int work, int brk, int longBrk, int countdownIndex, State state,
+            long remainingMillis, long savedAtMillis) {
+        assert cycle > 0 : CYCLE_POSITIVE_ASSERTION;
+        this.cycle = cycle;
+        this.work = work;
+        this.brk = brk;
+        this.longBrk = longBrk;
+        this.countdownIndex = countdownIndex;
+        this.state = state;
+        this.remainingMillis = remainingMillis;
+        this.savedAtMillis = savedAtMillis;
+    }
+
+    public int getCycle() {
+        return cycle;
+    }
+
+    public int getWork() {
+        return work;
+    }
+
+    public int getBrk() {
+        return brk;
+    }
+
+    public int getLongBrk() {
+        return longBrk;
+    }
+
+    public int getCountdownIndex() {
+        return countdownIndex;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public long getRemainingMillis() {
+        return remainingMillis;
+    }
+
+    public long getSavedAtMillis() {
+        return savedAtMillis;
+    }
+
+    /**
+     * States of a session, as described in Session.
+     */
+    public enum State {
+        READY,
+        COUNTING,
+        PAUSED,
+        WAITING
+    }
+}
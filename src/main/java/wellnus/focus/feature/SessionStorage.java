@@ -0,0 +1,60 @@
+package wellnus.focus.feature;
+
+import java.util.ArrayList;
+import java.util.Optional;
+
+import wellnus.exception.StorageException;
+import wellnus.exception.TokenizerException;
+import wellnus.storage.SessionSnapshotTokenizer;
+import wellnus.storage.Storage;
+
+/**
+ * Manages the storage and retrieval of the Focus Timer's session to and from storage.
+ */
+public class SessionStorage {
+    private static final int LATEST_INDEX_OFFSET = 1;
+    private final Storage storage;
+    private final SessionSnapshotTokenizer tokenizer;
+
+    /**
+     * Returns an instance of SessionStorage that uses the given Storage.
+     *
+     * @param storage Storage to load and store the focus session with
+     */
+    public SessionStorage(Storage storage) {
+        this.storage = storage;
+        this.tokenizer = new SessionSnapshotTokenizer();
+    }
+
+    /**
+     * Loads the snapshot of the session that was saved last, if there is one.
+     *
+     * @return SessionSnapshot saved last, or an empty Optional if no session was saved
+     * @throws StorageException   If data cannot be fetched from storage successfully
+     * @throws TokenizerException If the saved session cannot be detokenized into a SessionSnapshot
+     */
+    public Optional<SessionSnapshot> load() throws StorageException, TokenizerException {
+        if (!storage.checkFileExists(Storage.FILE_FOCUS)) {
+            return Optional.empty();
+        }
+        ArrayList<SessionSnapshot> snapshots = storage.loadObjects(Storage.FILE_FOCUS, tokenizer);
+        if (snapshots.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(snapshots.get(snapshots.size() - LATEST_INDEX_OFFSET));
+    }
+
+    /**
+     * Stores the given snapshot of the session, replacing the one stored before. <br>
+     * <p>
+     * The save is written by the StorageFlusher, so snapshots taken in quick succession are written once.
+     *
+     * @param snapshot SessionSnapshot of the session's current state
+     * @throws StorageException If the snapshot cannot be saved in storage successfully
+     */
+    public void store(SessionSnapshot snapshot) throws StorageException {
+        ArrayList<SessionSnapshot> objectsToStore = new ArrayList<>();
+        objectsToStore.add(snapshot);
+        storage.scheduleSave(objectsToStore, tokenizer, Storage.FILE_FOCUS);
+    }
+}
@@ -1,8 +1,7 @@
 package wellnus.gamification;
 
-import java.util.HashMap;
-
 import wellnus.command.Command;
+import wellnus.command.ParsedCommand;
 import wellnus.exception.BadCommandException;
 import wellnus.exception.StorageException;
 import wellnus.exception.TokenizerException;
@@ -14,6 +13,9 @@ import wellnus.gamification.util.GamificationData;
 import wellnus.gamification.util.GamificationStorage;
 import wellnus.gamification.util.GamificationUi;
 import wellnus.manager.Manager;
+import wellnus.storage.Storage;
+import wellnus.ui.BatchMode;
+import wellnus.ui.UiContext;
 
 /**
  * Manager for the gamification feature. Entry point for this class is the runEventDriver() method.
@@ -27,7 +29,6 @@ public class GamificationManager extends Manager {
     private static final String COMMAND_HOME = "home";
     private static final String COMMAND_STATS = "stats";
     private static final String LINE_SEPARATOR = System.lineSeparator();
-    private static final String UNRECOGNISED_COMMAND_ERROR = "Invalid command issued!";
     private static final String COMMAND_INVALID_COMMAND_NOTE =
             "Supported commands in Gamification: " + LINE_SEPARATOR
             + "stats command " + StatsCommand.COMMAND_USAGE + LINE_SEPARATOR
@@ -43,9 +44,27 @@ public class GamificationManager extends Manager {
      * Returns an instance of the GamificationManager.
      */
     public GamificationManager() {
-        this.gamificationUi = new GamificationUi();
+        this(Storage.getInstance());
+    }
+
+    /**
+     * Returns an instance of the GamificationManager that loads and stores its data with the given Storage.
+     * @param storage Storage to load and store gamification data with
+     */
+    public GamificationManager(Storage storage) {
+        this(storage, UiContext.getStandard());
+    }
+
+    /**
+     * Returns an instance of the GamificationManager that loads and stores its data with the given Storage,
+     * sharing the given UiContext with the rest of WellNUS++.
+     * @param storage Storage to load and store gamification data with
+     * @param uiContext UiContext shared by the UIs of WellNUS++
+     */
+    public GamificationManager(Storage storage, UiContext uiContext) {
+        this.gamificationUi = new GamificationUi(uiContext);
+        GamificationStorage gamificationStorage = new GamificationStorage(storage);
         try {
-            GamificationStorage gamificationStorage = new GamificationStorage();
             this.gamificationData = gamificationStorage.loadData();
         } catch (StorageException loadDataException) {
             gamificationUi.printErrorFor(loadDataException, LOAD_GAMIF_DATA_ERROR_MESSAGE);
@@ -53,28 +72,26 @@ public class GamificationManager extends Manager {
         } catch (TokenizerException loadDataException) {
             gamificationUi.printErrorFor(loadDataException, LOAD_GAMIF_DATA_ERROR_MESSAGE);
             try {
-                GamificationStorage gamificationStorage = new GamificationStorage();
                 gamificationStorage.cleanDataFile();
             } catch (StorageException storageException) {
                 gamificationUi.printErrorFor(storageException, CLEAN_DATA_FILE_ERROR_MESSAGE);
             }
             this.gamificationData = new GamificationData();
         }
+        this.gamificationData.setGamificationStorage(gamificationStorage);
+        registerCommands();
     }
 
     private Command getCommandFor(String command) throws BadCommandException {
-        HashMap<String, String> arguments = commandParser.parseUserInput(command);
-        String cmdKeyword = commandParser.getMainArgument(command);
-        switch (cmdKeyword) {
-        case COMMAND_HELP:
-            return new HelpCommand(arguments);
-        case COMMAND_HOME:
-            return new HomeCommand(arguments);
-        case COMMAND_STATS:
-            return new StatsCommand(arguments, gamificationData);
-        default:
-            throw new BadCommandException(UNRECOGNISED_COMMAND_ERROR);
-        }
+        ParsedCommand parsedCommand = commandParser.parse(command);
+        return commandRegistry.getCommandFor(parsedCommand);
+    }
+
+    private void registerCommands() {
+        commandRegistry
+                .register(COMMAND_HELP, arguments -> new HelpCommand(arguments, gamificationUi))
+                .register(COMMAND_HOME, HomeCommand::new)
+                .register(COMMAND_STATS, arguments -> new StatsCommand(arguments, gamificationData));
     }
 
     /**
@@ -99,13 +116,15 @@ public class GamificationManager extends Manager {
      */
     @Override
     public void runEventDriver() {
-        GamificationUi.printLogo();
+        if (!BatchMode.isActive()) {
+            GamificationUi.printLogo();
+        }
         boolean isExit = false;
         while (!isExit) {
             try {
                 String commandString = gamificationUi.getCommand();
                 Command command = getCommandFor(commandString);
-                command.execute();
+                commandRegistry.execute(command);
                 isExit = HomeCommand.isHome(command);
             } catch (WellNusException exception) {
                 String errorMessage = exception.getMessage();
@@ -34,11 +34,12 @@ public class HelpCommand extends Command {
     /**
      * Initialises a HelpCommand Object using the command arguments issued by the user.
      *
-     * @param arguments Command arguments issued by the user
+     * @param arguments      Command arguments issued by the user
+     * @param gamificationUi GamificationUi shared by the gamification commands
      */
-    public HelpCommand(HashMap<String, String> arguments) {
+    public HelpCommand(HashMap<String, String> arguments, GamificationUi gamificationUi) {
         super(arguments);
-        this.gamificationUi = new GamificationUi();
+        this.gamificationUi = gamificationUi;
     }
 
     private ArrayList<String> getCommandDescriptions() {
@@ -18,6 +18,11 @@ public class GamificationData {
     private int xp;
     // Experience level based on the experience points
     private int level;
+    // Bumped on every change to the XP; the data is only stored when it differs from savedVersion
+    private long version = 0;
+    private long savedVersion = 0;
+    // Created on the first store if not given, then reused for every XP change
+    private GamificationStorage gamificationStorage;
 
     /**
      * Returns an instance of the GamificationData class.
@@ -51,8 +56,8 @@ public class GamificationData {
         int newLevel = getLevelFor(xp);
         boolean hasLevelledUp = newLevel > level;
         level = newLevel;
-        GamificationStorage gamificationStorage = new GamificationStorage();
-        gamificationStorage.store(this);
+        version += 1;
+        storeIfModified();
         return hasLevelledUp;
     }
 
@@ -100,8 +105,43 @@ public class GamificationData {
         int newLevel = getLevelFor(xp);
         boolean hasLevelDropped = newLevel < level;
         level = newLevel;
-        GamificationStorage gamificationStorage = new GamificationStorage();
-        gamificationStorage.store(this);
+        version += 1;
+        storeIfModified();
         return hasLevelDropped;
     }
+
+    /**
+     * Returns the number of changes made to the XP since this GamificationData was created.
+     * @return Modification version of this GamificationData
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns whether the XP has changed since it was last stored.
+     * @return Whether there are changes that have not been stored
+     */
+    public boolean isModified() {
+        return version != savedVersion;
+    }
+
+    /**
+     * Sets the GamificationStorage used to store this GamificationData whenever the XP changes.
+     * @param gamificationStorage GamificationStorage to store this GamificationData with
+     */
+    public void setGamificationStorage(GamificationStorage gamificationStorage) {
+        this.gamificationStorage = gamificationStorage;
+    }
+
+    private void storeIfModified() throws StorageException {
+        if (!isModified()) {
+            return;
+        }
+        if (gamificationStorage == null) {
+            gamificationStorage = new GamificationStorage();
+        }
+        gamificationStorage.store(this);
+        savedVersion = version;
+    }
 }
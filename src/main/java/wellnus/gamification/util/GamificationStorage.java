@@ -17,11 +17,18 @@ public class GamificationStorage {
     private final GamificationTokenizer tokenizer;
 
     /**
-     * Returns an instance of GamificationStorage.
-     * @throws StorageException If Storage class cannot be initialised successfully
+     * Returns an instance of GamificationStorage that uses the Storage shared by all features.
      */
-    public GamificationStorage() throws StorageException {
-        this.storage = new Storage();
+    public GamificationStorage() {
+        this(Storage.getInstance());
+    }
+
+    /**
+     * Returns an instance of GamificationStorage that uses the given Storage.
+     * @param storage Storage to load and store gamification data with
+     */
+    public GamificationStorage(Storage storage) {
+        this.storage = storage;
         this.tokenizer = new GamificationTokenizer();
     }
 
@@ -45,26 +52,33 @@ public class GamificationStorage {
      */
     public GamificationData loadData() throws StorageException, TokenizerException {
         if (storage.checkFileExists(Storage.FILE_GAMIFICATION)) {
-            ArrayList<String> tokenizedObjects = storage.loadData(Storage.FILE_GAMIFICATION);
-            ArrayList<GamificationData> dataObjects = tokenizer.detokenize(tokenizedObjects);
+            ArrayList<GamificationData> dataObjects = storage.loadObjects(Storage.FILE_GAMIFICATION, tokenizer);
             if (dataObjects.size() == EMPTY) {
-                return new GamificationData();
+                return createData();
             }
-            return dataObjects.get(FIRST_INDEX);
+            GamificationData data = dataObjects.get(FIRST_INDEX);
+            data.setGamificationStorage(this);
+            return data;
         }
-        return new GamificationData();
+        return createData();
+    }
+
+    private GamificationData createData() {
+        GamificationData data = new GamificationData();
+        data.setGamificationStorage(this);
+        return data;
     }
 
     /**
      * Stores the given GamificationData object in local storage.
-     * GamificationData is first converted into a String before being written to storage.
+     * A copy of the GamificationData is written in the storage format selected in Storage.
      * @param data GamificationData object representing the current gamification statistics we're saving
      * @throws StorageException If gamification statistics cannot be saved in storage successfully
      */
     public void store(GamificationData data) throws StorageException {
         ArrayList<GamificationData> objectsToStore = new ArrayList<>();
-        objectsToStore.add(data);
-        ArrayList<String> tokenizedObjects = tokenizer.tokenize(objectsToStore);
-        storage.saveData(tokenizedObjects, Storage.FILE_GAMIFICATION);
+        // The save is written later, by which time the XP may have changed again
+        objectsToStore.add(new GamificationData(data.getTotalXp()));
+        storage.scheduleSave(objectsToStore, tokenizer, Storage.FILE_GAMIFICATION);
     }
 }
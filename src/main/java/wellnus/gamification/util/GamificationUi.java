@@ -1,7 +1,9 @@
 package wellnus.gamification.util;
 
 import wellnus.gamification.GamificationManager;
+import wellnus.ui.OutputSink;
 import wellnus.ui.TextUi;
+import wellnus.ui.UiContext;
 
 /**
  * Provides helper methods for printing to the user's screen with the gamification feature's unique style.
@@ -31,45 +33,57 @@ public class GamificationUi extends TextUi {
      * for our unique gamification style.
      */
     public GamificationUi() {
-        super();
+        this(UiContext.getStandard());
+    }
+
+    /**
+     * Returns a new instance of GamificationUi that shares the given UiContext with the other UIs of WellNUS++.
+     *
+     * @param context UiContext shared by the UIs of WellNUS++
+     */
+    public GamificationUi(UiContext context) {
+        super(context);
         super.setCursorName(GamificationManager.FEATURE_NAME);
         super.setSeparator(SEPARATOR);
         super.setSeparatorLength(NUM_CHAR_IN_SEPARATOR);
     }
 
-    private static void printGamificationSeparator() {
-        for (int i = 0; i < NUM_CHAR_IN_SEPARATOR; i += 1) {
-            System.out.print(SEPARATOR);
-        }
-        System.out.print(System.lineSeparator());
+    private static void appendGamificationSeparator(OutputSink output) {
+        output.appendRepeated(SEPARATOR, NUM_CHAR_IN_SEPARATOR).appendLine("");
     }
 
     /**
      * Prints a congratulations message in the case where the user just levelled up.
      */
     public static void printCelebrateLevelUp() {
-        printGamificationSeparator();
-        printGamificationMessage(CELEBRATE_LEVEL_UP_MESSAGE);
-        printGamificationSeparator();
+        OutputSink output = OutputSink.getInstance();
+        appendGamificationSeparator(output);
+        appendGamificationMessage(output, CELEBRATE_LEVEL_UP_MESSAGE);
+        appendGamificationSeparator(output);
+        output.flush();
     }
 
     /**
      * Prints a goodbye message when the user exits from the gamification feature.
      */
     public static void printGoodbye() {
-        printGamificationSeparator();
-        printGamificationMessage(GOODBYE_MESSAGE);
-        printGamificationSeparator();
+        OutputSink output = OutputSink.getInstance();
+        appendGamificationSeparator(output);
+        appendGamificationMessage(output, GOODBYE_MESSAGE);
+        appendGamificationSeparator(output);
+        output.flush();
     }
 
     /**
      * Prints the gamification feature's unique logo.
      */
     public static void printLogo() {
-        printGamificationSeparator();
-        System.out.println("    Welcome to");
-        System.out.println(LOGO);
-        printGamificationSeparator();
+        OutputSink output = OutputSink.getInstance();
+        appendGamificationSeparator(output);
+        output.appendLine("    Welcome to");
+        output.appendLine(LOGO);
+        appendGamificationSeparator(output);
+        output.flush();
     }
 
     /**
@@ -77,20 +91,26 @@ public class GamificationUi extends TextUi {
      * @param msg Message to display on the user's screen
      */
     public static void printGamificationMessage(String msg) {
+        OutputSink output = OutputSink.getInstance();
+        appendGamificationMessage(output, msg);
+        output.flush();
+    }
+
+    private static void appendGamificationMessage(OutputSink output, String msg) {
         assert NUM_CHAR_IN_SEPARATOR >= (msg.length() + 2) : WRONG_NUM_CHAR_IN_SEPARATOR_MESSAGE;
-        System.out.print(SEPARATOR);
+        output.append(SEPARATOR);
         int howManySeparator = 2;
         int minimalPadding = 1;
         // If assertion is not enabled in JVM, we still want to prevent crashing WellNUS++
         int leftPadding = NUM_CHAR_IN_SEPARATOR < (msg.length() + 2) ? minimalPadding
                 : ((NUM_CHAR_IN_SEPARATOR - msg.length() - howManySeparator) / 2);
-        System.out.print(" ".repeat(leftPadding));
-        System.out.print(msg);
+        output.appendRepeated(" ", leftPadding);
+        output.append(msg);
         // Likewise, if assertion is not enabled in JVM, we still want to prevent crashing WellNUS++
         int rightPadding = NUM_CHAR_IN_SEPARATOR < (msg.length() + 2) ? minimalPadding
                 : (NUM_CHAR_IN_SEPARATOR - msg.length() - howManySeparator - leftPadding);
-        System.out.print(" ".repeat(rightPadding));
-        System.out.println(SEPARATOR);
+        output.appendRepeated(" ", rightPadding);
+        output.appendLine(SEPARATOR);
     }
 
     /**
@@ -108,13 +128,15 @@ public class GamificationUi extends TextUi {
         String xpBoxBuilder = XP_BOX_LEFT
                 + XP_BAR_CHAR.repeat(howManyXpBarSegments) + XP_BAR_HEAD
                 + padding + XP_BOX_RIGHT;
-        printGamificationSeparator();
-        printGamificationMessage(String.format("Current XP: Level %d %s", xpLevel, xpBoxBuilder));
+        OutputSink output = OutputSink.getInstance();
+        appendGamificationSeparator(output);
+        appendGamificationMessage(output, String.format("Current XP: Level %d %s", xpLevel, xpBoxBuilder));
         if (shouldPrintXpRemaining) {
             int nextLevel = xpLevel + 1;
-            printGamificationMessage(String.format(XP_TILL_NEXT_LVL_MESSAGE,
+            appendGamificationMessage(output, String.format(XP_TILL_NEXT_LVL_MESSAGE,
                     gamData.getXpToReachNextLevel(), nextLevel));
         }
-        printGamificationSeparator();
+        appendGamificationSeparator(output);
+        output.flush();
     }
 }
@@ -1,6 +1,7 @@
 package wellnus.manager;
 
 import wellnus.command.CommandParser;
+import wellnus.command.CommandRegistry;
 import wellnus.exception.BadCommandException;
 
 //@@author nichyjt
@@ -27,16 +28,18 @@ import wellnus.exception.BadCommandException;
 public abstract class Manager {
 
     protected CommandParser commandParser;
+    protected final CommandRegistry commandRegistry;
 
     /**
      * Construct a feature Manager to handle control flow for the given feature. <br>
      * <br>
      * Internally, it sets up the following for convenience:
      * <li>CommandParser</li>
-     * <li>Supported Commands</li>
+     * <li>Supported Commands, in an empty CommandRegistry for the feature to register them in</li>
      */
     public Manager() {
         this.commandParser = new CommandParser();
+        this.commandRegistry = new CommandRegistry();
     }
 
     /**
@@ -49,6 +52,16 @@ public abstract class Manager {
         return this.commandParser;
     }
 
+    /**
+     * Utility function to get the CommandRegistry holding the commands of this manager's feature.
+     *
+     * @return CommandRegistry reference to this manager's instance of CommandRegistry
+     */
+    public CommandRegistry getCommandRegistry() {
+        assert commandRegistry != null : "commandRegistry should not be null";
+        return this.commandRegistry;
+    }
+
     /**
      * Utility function to get the featureName this Manager is administering.
      *
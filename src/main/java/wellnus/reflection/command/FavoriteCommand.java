@@ -32,8 +32,8 @@ public class FavoriteCommand extends Command {
             + "please get reflection questions first!";
     private static final int ARGUMENT_PAYLOAD_SIZE = 1;
     private static final Logger LOGGER = WellNusLogger.getLogger("ReflectFavCommandLogger");
-    private static final ReflectUi UI = new ReflectUi();
     private QuestionList questionList;
+    private final ReflectUi reflectUi;
 
     /**
      * Set up the argument-payload pairs for this command.<br/>
@@ -41,10 +41,12 @@ public class FavoriteCommand extends Command {
      *
      * @param arguments Argument-payload pairs from users
      * @param questionList Object that contains the data about questions
+     * @param reflectUi ReflectUi shared by the self reflection commands
      */
-    public FavoriteCommand(HashMap<String, String> arguments, QuestionList questionList) {
+    public FavoriteCommand(HashMap<String, String> arguments, QuestionList questionList, ReflectUi reflectUi) {
         super(arguments);
         this.questionList = questionList;
+        this.reflectUi = reflectUi;
     }
 
     /**
@@ -102,19 +104,19 @@ public class FavoriteCommand extends Command {
             validateCommand(getArguments());
         } catch (BadCommandException invalidCommand) {
             LOGGER.log(Level.INFO, INVALID_COMMAND_MSG);
-            UI.printErrorFor(invalidCommand, INVALID_COMMAND_NOTES);
+            reflectUi.printErrorFor(invalidCommand, INVALID_COMMAND_NOTES);
             return;
         }
         if (!questionList.hasFavQuestions()) {
-            UI.printOutputMessage(EMPTY_FAV_LIST);
+            reflectUi.printOutputMessage(EMPTY_FAV_LIST);
             return;
         }
         try {
             String outputString = questionList.getFavQuestions();
-            UI.printOutputMessage(outputString);
+            reflectUi.printOutputMessage(outputString);
         } catch (IndexOutOfBoundsException indexOutOfBoundsException) {
             LOGGER.log(Level.WARNING, INDEX_OUT_OF_BOUND_MSG);
-            UI.printErrorFor(indexOutOfBoundsException, INVALID_COMMAND_NOTES);
+            reflectUi.printErrorFor(indexOutOfBoundsException, INVALID_COMMAND_NOTES);
         }
     }
 
@@ -38,9 +38,9 @@ public class GetCommand extends Command {
     private static final int NUM_OF_RANDOM_QUESTIONS = 5;
     private static final int ARGUMENT_PAYLOAD_SIZE = 1;
     private static final int ONE_OFFSET = 1;
-    private static final ReflectUi UI = new ReflectUi();
     private Set<Integer> randomQuestionIndexes;
     private QuestionList questionList;
+    private final ReflectUi reflectUi;
 
     /**
      * Set up the argument-payload pairs for this command.<br/>
@@ -48,10 +48,12 @@ public class GetCommand extends Command {
      *
      * @param arguments Argument-payload pairs from users
      * @param questionList Object that contains the data about questions
+     * @param reflectUi ReflectUi shared by the self reflection commands
      */
-    public GetCommand(HashMap<String, String> arguments, QuestionList questionList) {
+    public GetCommand(HashMap<String, String> arguments, QuestionList questionList, ReflectUi reflectUi) {
         super(arguments);
         this.questionList = questionList;
+        this.reflectUi = reflectUi;
     }
 
     /**
@@ -110,15 +112,15 @@ public class GetCommand extends Command {
             validateCommand(getArguments());
         } catch (BadCommandException invalidCommand) {
             LOGGER.log(Level.INFO, INVALID_COMMAND_MSG);
-            UI.printErrorFor(invalidCommand, INVALID_COMMAND_NOTES);
+            reflectUi.printErrorFor(invalidCommand, INVALID_COMMAND_NOTES);
             return;
         }
         try {
             String outputString = convertQuestionsToString();
-            UI.printOutputMessage(outputString);
+            reflectUi.printOutputMessage(outputString);
         } catch (StorageException storageException) {
             LOGGER.log(Level.WARNING, STORAGE_ERROR);
-            UI.printErrorFor(storageException, STORAGE_ERROR);
+            reflectUi.printErrorFor(storageException, STORAGE_ERROR);
         }
     }
 
@@ -37,10 +37,11 @@ public class HelpCommand extends Command {
      * Initialises a HelpCommand Object using the command arguments issued by the user.
      *
      * @param arguments Command arguments issued by the user
+     * @param reflectUi ReflectUi shared by the self reflection commands
      */
-    public HelpCommand(HashMap<String, String> arguments) {
+    public HelpCommand(HashMap<String, String> arguments, ReflectUi reflectUi) {
         super(arguments);
-        this.reflectUi = new ReflectUi();
+        this.reflectUi = reflectUi;
     }
 
     private TextUi getTextUi() {
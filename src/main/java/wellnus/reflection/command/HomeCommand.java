@@ -30,8 +30,8 @@ public class HomeCommand extends Command {
     private static final String HOME_MESSAGE = "How do you feel after reflecting on yourself?"
             + System.lineSeparator() + "Hope you have gotten some takeaways from self reflection, see you again!!";
     private static final int ARGUMENT_PAYLOAD_SIZE = 1;
-    private static final ReflectUi UI = new ReflectUi();
     private QuestionList questionList;
+    private final ReflectUi reflectUi;
 
     /**
      * Set up the argument-payload pairs for this command.<br/>
@@ -39,10 +39,12 @@ public class HomeCommand extends Command {
      *
      * @param arguments Argument-payload pairs from users
      * @param questionList Object that contains the data about questions
+     * @param reflectUi ReflectUi shared by the self reflection commands
      */
-    public HomeCommand(HashMap<String, String> arguments, QuestionList questionList) {
+    public HomeCommand(HashMap<String, String> arguments, QuestionList questionList, ReflectUi reflectUi) {
         super(arguments);
         this.questionList = questionList;
+        this.reflectUi = reflectUi;
     }
 
     /**
@@ -101,10 +103,10 @@ public class HomeCommand extends Command {
             validateCommand(getArguments());
         } catch (BadCommandException invalidCommand) {
             LOGGER.log(Level.INFO, INVALID_COMMAND_MSG);
-            UI.printErrorFor(invalidCommand, INVALID_COMMAND_NOTES);
+            reflectUi.printErrorFor(invalidCommand, INVALID_COMMAND_NOTES);
             return;
         }
-        UI.printOutputMessage(HOME_MESSAGE);
+        reflectUi.printOutputMessage(HOME_MESSAGE);
         if (!questionList.getRandomQuestionIndexes().isEmpty()) {
             questionList.clearRandomQuestionIndexes();
         }
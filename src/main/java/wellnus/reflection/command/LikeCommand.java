@@ -38,9 +38,9 @@ public class LikeCommand extends Command {
     private static final int UPPER_BOUND = 5;
     private static final int LOWER_BOUND = 1;
     private static final Logger LOGGER = WellNusLogger.getLogger("ReflectLikeCommandLogger");
-    private static final ReflectUi UI = new ReflectUi();
     private Set<Integer> randomQuestionIndexes;
     private QuestionList questionList;
+    private final ReflectUi reflectUi;
 
     /**
      * Set up the argument-payload pairs for this command.<br/>
@@ -48,10 +48,12 @@ public class LikeCommand extends Command {
      *
      * @param arguments Argument-payload pairs from users
      * @param questionList Object that contains the data about questions
+     * @param reflectUi ReflectUi shared by the self reflection commands
      */
-    public LikeCommand(HashMap<String, String> arguments, QuestionList questionList) {
+    public LikeCommand(HashMap<String, String> arguments, QuestionList questionList, ReflectUi reflectUi) {
         super(arguments);
         this.questionList = questionList;
+        this.reflectUi = reflectUi;
         this.randomQuestionIndexes = questionList.getRandomQuestionIndexes();
     }
 
@@ -132,26 +134,26 @@ public class LikeCommand extends Command {
             validateCommand(getArguments());
         } catch (BadCommandException badCommandException) {
             LOGGER.log(Level.INFO, INVALID_COMMAND_MSG);
-            UI.printErrorFor(badCommandException, INVALID_COMMAND_NOTES);
+            reflectUi.printErrorFor(badCommandException, INVALID_COMMAND_NOTES);
             return;
         }
         try {
             addFavQuestion(getArguments().get(COMMAND_KEYWORD));
         } catch (BadCommandException badCommandException) {
             LOGGER.log(Level.INFO, MISSING_SET_QUESTIONS);
-            UI.printErrorFor(badCommandException, INVALID_COMMAND_NOTES);
+            reflectUi.printErrorFor(badCommandException, INVALID_COMMAND_NOTES);
         } catch (TokenizerException tokenizerException) {
             LOGGER.log(Level.WARNING, TOKENIZER_ERROR);
-            UI.printErrorFor(tokenizerException, TOKENIZER_ERROR);
+            reflectUi.printErrorFor(tokenizerException, TOKENIZER_ERROR);
         } catch (StorageException storageException) {
             LOGGER.log(Level.WARNING, STORAGE_ERROR);
-            UI.printErrorFor(storageException, STORAGE_ERROR);
+            reflectUi.printErrorFor(storageException, STORAGE_ERROR);
         } catch (NumberFormatException numberFormatException) {
             LOGGER.log(Level.INFO, WRONG_INDEX_MSG);
             BadCommandException exception = new BadCommandException(WRONG_INDEX_MSG);
-            UI.printErrorFor(exception, INVALID_COMMAND_NOTES);
+            reflectUi.printErrorFor(exception, INVALID_COMMAND_NOTES);
         } catch (ReflectionException reflectionException) {
-            UI.printErrorFor(reflectionException, INVALID_COMMAND_NOTES);
+            reflectUi.printErrorFor(reflectionException, INVALID_COMMAND_NOTES);
         }
     }
 
@@ -172,7 +174,7 @@ public class LikeCommand extends Command {
             throw new ReflectionException(WRONG_INDEX_OUT_BOUND);
         }
         if (!questionList.hasRandomQuestionIndexes()) {
-            UI.printOutputMessage(MISSING_SET_QUESTIONS);
+            reflectUi.printOutputMessage(MISSING_SET_QUESTIONS);
             return;
         }
         IndexMapper indexMapper = new IndexMapper(this.randomQuestionIndexes);
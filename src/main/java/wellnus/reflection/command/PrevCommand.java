@@ -32,8 +32,8 @@ public class PrevCommand extends Command {
     private static final String PAYLOAD = "";
     private static final int ARGUMENT_PAYLOAD_SIZE = 1;
     private static final Logger LOGGER = WellNusLogger.getLogger("ReflectPrevCommandLogger");
-    private static final ReflectUi UI = new ReflectUi();
     private QuestionList questionList;
+    private final ReflectUi reflectUi;
 
     /**
      * Set up the argument-payload pairs for this command.<br/>
@@ -41,10 +41,12 @@ public class PrevCommand extends Command {
      *
      * @param arguments Argument-payload pairs from users
      * @param questionList Object that contains the data about questions
+     * @param reflectUi ReflectUi shared by the self reflection commands
      */
-    public PrevCommand(HashMap<String, String> arguments, QuestionList questionList) {
+    public PrevCommand(HashMap<String, String> arguments, QuestionList questionList, ReflectUi reflectUi) {
         super(arguments);
         this.questionList = questionList;
+        this.reflectUi = reflectUi;
     }
 
     /**
@@ -128,17 +130,17 @@ public class PrevCommand extends Command {
             validateCommand(getArguments());
         } catch (BadCommandException badCommandException) {
             LOGGER.log(Level.INFO, INVALID_COMMAND_MSG);
-            UI.printErrorFor(badCommandException, INVALID_COMMAND_NOTES);
+            reflectUi.printErrorFor(badCommandException, INVALID_COMMAND_NOTES);
             return;
         }
         try {
             getPrevSetQuestions();
         } catch (IndexOutOfBoundsException indexOutOfBoundsException) {
             LOGGER.log(Level.WARNING, INDEX_OUT_OF_BOUND_MSG);
-            UI.printErrorFor(indexOutOfBoundsException, INVALID_COMMAND_NOTES);
+            reflectUi.printErrorFor(indexOutOfBoundsException, INVALID_COMMAND_NOTES);
         } catch (BadCommandException badCommandException) {
             LOGGER.log(Level.WARNING, MISSING_SET_QUESTIONS);
-            UI.printErrorFor(badCommandException, INVALID_COMMAND_NOTES);
+            reflectUi.printErrorFor(badCommandException, INVALID_COMMAND_NOTES);
         }
     }
 
@@ -147,10 +149,10 @@ public class PrevCommand extends Command {
      */
     public void getPrevSetQuestions() throws BadCommandException {
         if (!questionList.hasRandomQuestionIndexes()) {
-            UI.printOutputMessage(MISSING_SET_QUESTIONS);
+            reflectUi.printOutputMessage(MISSING_SET_QUESTIONS);
             return;
         }
         String prevSetQuestions = this.questionList.getPrevSetQuestions();
-        UI.printOutputMessage(prevSetQuestions);
+        reflectUi.printOutputMessage(prevSetQuestions);
     }
 }
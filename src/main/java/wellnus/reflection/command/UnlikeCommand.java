@@ -39,9 +39,9 @@ public class UnlikeCommand extends Command {
     private static final int LOWER_BOUND = 1;
     private static final int EMPTY_LIST = 0;
     private static final Logger LOGGER = WellNusLogger.getLogger("ReflectUnlikeCommandLogger");
-    private static final ReflectUi UI = new ReflectUi();
     private Set<Integer> favQuestionIndexes;
     private QuestionList questionList;
+    private final ReflectUi reflectUi;
 
     /**
      * Set up the argument-payload pairs for this command.<br/>
@@ -49,10 +49,12 @@ public class UnlikeCommand extends Command {
      *
      * @param arguments Argument-payload pairs from users
      * @param questionList Object that contains the data about questions
+     * @param reflectUi ReflectUi shared by the self reflection commands
      */
-    public UnlikeCommand(HashMap<String, String> arguments, QuestionList questionList) {
+    public UnlikeCommand(HashMap<String, String> arguments, QuestionList questionList, ReflectUi reflectUi) {
         super(arguments);
         this.questionList = questionList;
+        this.reflectUi = reflectUi;
         this.favQuestionIndexes = questionList.getDataIndex().get(INDEX_ZERO);
     }
 
@@ -133,26 +135,26 @@ public class UnlikeCommand extends Command {
             validateCommand(getArguments());
         } catch (BadCommandException badCommandException) {
             LOGGER.log(Level.INFO, INVALID_COMMAND_MSG);
-            UI.printErrorFor(badCommandException, INVALID_COMMAND_NOTES);
+            reflectUi.printErrorFor(badCommandException, INVALID_COMMAND_NOTES);
             return;
         }
         try {
             removeFavQuestion(getArguments().get(COMMAND_KEYWORD));
         } catch (TokenizerException tokenizerException) {
             LOGGER.log(Level.WARNING, TOKENIZER_ERROR);
-            UI.printErrorFor(tokenizerException, TOKENIZER_ERROR);
+            reflectUi.printErrorFor(tokenizerException, TOKENIZER_ERROR);
         } catch (StorageException storageException) {
             LOGGER.log(Level.WARNING, STORAGE_ERROR);
-            UI.printErrorFor(storageException, STORAGE_ERROR);
+            reflectUi.printErrorFor(storageException, STORAGE_ERROR);
         } catch (NumberFormatException numberFormatException) {
             LOGGER.log(Level.INFO, WRONG_INDEX_MSG);
             BadCommandException exception = new BadCommandException(WRONG_INDEX_MSG);
-            UI.printErrorFor(exception, INVALID_COMMAND_NOTES);
+            reflectUi.printErrorFor(exception, INVALID_COMMAND_NOTES);
         } catch (ReflectionException reflectionException) {
-            UI.printErrorFor(reflectionException, INVALID_COMMAND_NOTES);
+            reflectUi.printErrorFor(reflectionException, INVALID_COMMAND_NOTES);
         } catch (BadCommandException badCommandException) {
             LOGGER.log(Level.INFO, INVALID_COMMAND_MSG);
-            UI.printErrorFor(badCommandException, INVALID_COMMAND_NOTES);
+            reflectUi.printErrorFor(badCommandException, INVALID_COMMAND_NOTES);
         }
     }
 
@@ -172,7 +174,7 @@ public class UnlikeCommand extends Command {
             NumberFormatException, ReflectionException, BadCommandException {
         int questionIndexInt = Integer.parseInt(questionIndex);
         if (this.favQuestionIndexes.size() == EMPTY_LIST) {
-            UI.printOutputMessage(EMPTY_FAV_LIST_MSG);
+            reflectUi.printOutputMessage(EMPTY_FAV_LIST_MSG);
             return;
         }
         if (questionIndexInt > this.favQuestionIndexes.size() || questionIndexInt < LOWER_BOUND) {
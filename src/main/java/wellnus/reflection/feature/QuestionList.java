@@ -58,7 +58,6 @@ public class QuestionList {
             new RandomNumberGenerator(RANDOM_NUMBER_UPPERBOUND);
     private static final Logger LOGGER = WellNusLogger.getLogger("ReflectQuestionListLogger");
     private static final ReflectionTokenizer reflectionTokenizer = new ReflectionTokenizer();
-    private static final ReflectUi UI = new ReflectUi();
     private static final boolean HAS_RANDOM_QUESTIONS = true;
     private static final boolean NOT_HAS_RANDOM_QUESTIONS = false;
     private static final boolean HAS_FAV_QUESTIONS = true;
@@ -66,19 +65,41 @@ public class QuestionList {
     private ArrayList<ReflectionQuestion> questions = new ArrayList<>();
     private Set<Integer> randomQuestionIndexes;
     private ArrayList<Set<Integer>> dataIndex;
+    // Bumped on every change to dataIndex; storeQuestionData() only writes when it differs from savedVersion
+    private long version = 0;
+    private long savedVersion = 0;
     private Storage storage;
+    private final ReflectUi reflectUi;
 
     //@@author wenxin-c
     /**
-     * Constructor to create a SelfReflection object and set up the questions available.
+     * Constructor to create a SelfReflection object and set up the questions available.<br/>
+     * <br/>
+     * Uses the Storage shared by all features.
      */
     public QuestionList() {
-        try {
-            storage = new Storage();
-        } catch (StorageException storageException) {
-            LOGGER.log(Level.WARNING, STORAGE_ERROR);
-            UI.printErrorFor(storageException, STORAGE_ERROR);
-        }
+        this(Storage.getInstance());
+    }
+
+    /**
+     * Constructor to create a SelfReflection object with the given Storage and set up the questions available.
+     *
+     * @param storage Storage to load and store the question indexes with
+     */
+    public QuestionList(Storage storage) {
+        this(storage, new ReflectUi());
+    }
+
+    /**
+     * Constructor to create a SelfReflection object with the given Storage and set up the questions available,
+     * printing to the user through the given ReflectUi.
+     *
+     * @param storage Storage to load and store the question indexes with
+     * @param reflectUi ReflectUi shared by the self reflection feature
+     */
+    public QuestionList(Storage storage, ReflectUi reflectUi) {
+        this.storage = storage;
+        this.reflectUi = reflectUi;
         this.randomQuestionIndexes = new HashSet<>();
         this.dataIndex = new ArrayList<>();
         HashSet<Integer> setLike = new HashSet<>();
@@ -89,11 +110,11 @@ public class QuestionList {
             this.loadQuestionData();
         } catch (StorageException storageException) {
             LOGGER.log(Level.WARNING, STORAGE_ERROR);
-            UI.printErrorFor(storageException, STORAGE_ERROR);
+            reflectUi.printErrorFor(storageException, STORAGE_ERROR);
         } catch (TokenizerException tokenizerException) {
             overrideErrorReflectData();
             LOGGER.log(Level.WARNING, TOKENIZER_ERROR);
-            UI.printErrorFor(tokenizerException, TOKENIZER_ERROR);
+            reflectUi.printErrorFor(tokenizerException, TOKENIZER_ERROR);
         }
         setUpQuestions();
         assert questions.size() == TOTAL_NUM_QUESTIONS : TOTAL_NUM_QUESTION_ASSERTIONS;
@@ -129,6 +150,7 @@ public class QuestionList {
 
     public void setDataIndex(ArrayList<Set<Integer>> dataIndex) {
         this.dataIndex = dataIndex;
+        markModified();
     }
 
     public ArrayList<Set<Integer>> getDataIndex() {
@@ -136,14 +158,45 @@ public class QuestionList {
     }
 
     /**
-     * Tokenize the indexes of liked questions and store them in a data file.
+     * Record that the question indexes have changed and need to be stored again.
+     * Call this after changing a set returned by getDataIndex() directly.
+     */
+    public void markModified() {
+        this.version += INCREMENT_ONE;
+    }
+
+    public long getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Check whether the question indexes have changed since they were last stored or loaded.
+     *
+     * @return True if there are changes that have not been stored and false otherwise
+     */
+    public boolean isModified() {
+        return this.version != this.savedVersion;
+    }
+
+    /**
+     * Store the indexes of liked questions in a data file, in the storage format selected in Storage.<br/>
+     * <br/>
+     * Nothing is written if the indexes have not changed since they were last stored.
      *
      * @throws TokenizerException If there is error during tokenization
      * @throws StorageException If data cannot be stored properly
      */
     public void storeQuestionData() throws StorageException {
-        ArrayList<String> tokenizedQuestionList = reflectionTokenizer.tokenize(this.dataIndex);
-        storage.saveData(tokenizedQuestionList, FILE_NAME);
+        if (!this.isModified()) {
+            return;
+        }
+        ArrayList<Set<Integer>> indexesToStore = new ArrayList<>();
+        for (Set<Integer> indexes : this.dataIndex) {
+            // The save is written later, by which time the indexes may have changed again
+            indexesToStore.add(new HashSet<>(indexes));
+        }
+        storage.scheduleSave(indexesToStore, reflectionTokenizer, FILE_NAME);
+        this.savedVersion = this.version;
     }
 
     /**
@@ -153,10 +206,11 @@ public class QuestionList {
      * @throws TokenizerException If there is error during detokenization
      */
     public void loadQuestionData() throws StorageException, TokenizerException {
-        ArrayList<String> loadedQuestionList = storage.loadData(FILE_NAME);
-        ArrayList<Set<Integer>> detokenizedQuestionList = reflectionTokenizer.detokenize(loadedQuestionList);
+        ArrayList<Set<Integer>> detokenizedQuestionList = storage.loadObjects(FILE_NAME, reflectionTokenizer);
         this.setDataIndex(detokenizedQuestionList);
         this.randomQuestionIndexes = this.dataIndex.get(INDEX_ONE);
+        // What is in memory now matches what is on disk
+        this.savedVersion = this.version;
     }
 
     /**
@@ -179,6 +233,7 @@ public class QuestionList {
 
     public void clearRandomQuestionIndexes() {
         this.randomQuestionIndexes.clear();
+        this.markModified();
     }
 
     public Set<Integer> getRandomQuestionIndexes() {
@@ -201,12 +256,13 @@ public class QuestionList {
      */
     public void addFavListIndex(int indexToAdd) throws StorageException {
         if (this.dataIndex.get(INDEX_ZERO).contains(indexToAdd)) {
-            UI.printOutputMessage(QUOTE + questions.get(indexToAdd).toString() + QUOTE + DUPLICATE_LIKE);
+            reflectUi.printOutputMessage(QUOTE + questions.get(indexToAdd).toString() + QUOTE + DUPLICATE_LIKE);
             return;
         }
         this.dataIndex.get(INDEX_ZERO).add(indexToAdd);
+        this.markModified();
         this.storeQuestionData();
-        UI.printOutputMessage(ADD_FAV_SUCCESS_ONE + QUOTE + this.questions.get(indexToAdd).toString() + QUOTE
+        reflectUi.printOutputMessage(ADD_FAV_SUCCESS_ONE + QUOTE + this.questions.get(indexToAdd).toString() + QUOTE
                 + ADD_FAV_SUCCESS_TWO);
     }
 
@@ -220,9 +276,10 @@ public class QuestionList {
      */
     public void removeFavListIndex(int indexToRemove) throws StorageException {
         this.dataIndex.get(INDEX_ZERO).remove(indexToRemove);
+        this.markModified();
         this.storeQuestionData();
-        UI.printOutputMessage(REMOVE_FAV_SUCCESS_ONE + QUOTE + this.questions.get(indexToRemove).toString() + QUOTE
-                + REMOVE_FAV_SUCCESS_TWO);
+        reflectUi.printOutputMessage(REMOVE_FAV_SUCCESS_ONE + QUOTE + this.questions.get(indexToRemove).toString()
+                + QUOTE + REMOVE_FAV_SUCCESS_TWO);
     }
 
     /**
@@ -1,6 +1,7 @@
 package wellnus.reflection.feature;
 
 import wellnus.ui.TextUi;
+import wellnus.ui.UiContext;
 
 //@@author wenxin-c
 /**
@@ -16,8 +17,19 @@ public class ReflectUi extends TextUi {
         setSeparator(SEPARATOR);
     }
 
+    /**
+     * Shares the given UiContext with the other UIs of WellNUS++ and re-defines the separator.
+     *
+     * @param context UiContext shared by the UIs of WellNUS++
+     */
+    public ReflectUi(UiContext context) {
+        super(context);
+        setSeparator(SEPARATOR);
+    }
+
     private void printLogo(String logo) {
-        System.out.print(logo);
+        getOutput().append(logo);
+        getOutput().flush();
     }
 
     protected void printLogoWithSeparator(String logo) {
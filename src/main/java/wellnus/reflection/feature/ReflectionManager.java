@@ -5,8 +5,11 @@ import java.util.NoSuchElementException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import wellnus.command.Command;
+import wellnus.command.ParsedCommand;
 import wellnus.common.WellNusLogger;
 import wellnus.exception.BadCommandException;
+import wellnus.exception.WellNusException;
 import wellnus.manager.Manager;
 import wellnus.reflection.command.FavoriteCommand;
 import wellnus.reflection.command.GetCommand;
@@ -15,6 +18,9 @@ import wellnus.reflection.command.HomeCommand;
 import wellnus.reflection.command.LikeCommand;
 import wellnus.reflection.command.PrevCommand;
 import wellnus.reflection.command.UnlikeCommand;
+import wellnus.storage.Storage;
+import wellnus.ui.BatchMode;
+import wellnus.ui.UiContext;
 
 /**
  * The manager for self reflection section.<br/>
@@ -33,7 +39,6 @@ public class ReflectionManager extends Manager {
     private static final String FAV_COMMAND = "fav";
     private static final String PREV_COMMAND = "prev";
     private static final String NO_ELEMENT_MESSAGE = "There is no new line of input, please key in inputs!";
-    private static final String INVALID_COMMAND_MESSAGE = "Invalid command issued!";
     private static final String LINE_SEPARATOR = System.lineSeparator();
     private static final String INVALID_COMMAND_NOTES =
             "Supported commands in Self Reflection: " + LINE_SEPARATOR
@@ -60,18 +65,41 @@ public class ReflectionManager extends Manager {
             + "and improve on yourself!!";
     private static final int EMPTY_COMMAND = 0;
     private static final boolean IS_EXIT_INITIAL = false;
-    private static final ReflectUi UI = new ReflectUi();
     private static boolean isExit;
     private String commandType;
     private HashMap<String, String> argumentPayload;
-    private QuestionList questionList = new QuestionList();
+    private QuestionList questionList;
+    private final ReflectUi reflectUi;
 
     /**
      * Constructor to set initial isExit status to false and load the reflection questions.
      */
     public ReflectionManager() {
+        this(Storage.getInstance());
+    }
+
+    /**
+     * Constructor to set initial isExit status to false and load the reflection questions with the given Storage.
+     *
+     * @param storage Storage to load and store the question indexes with
+     */
+    public ReflectionManager(Storage storage) {
+        this(storage, UiContext.getStandard());
+    }
+
+    /**
+     * Constructor to set initial isExit status to false and load the reflection questions with the given Storage,
+     * sharing the given UiContext with the rest of WellNUS++.
+     *
+     * @param storage   Storage to load and store the question indexes with
+     * @param uiContext UiContext shared by the UIs of WellNUS++
+     */
+    public ReflectionManager(Storage storage, UiContext uiContext) {
+        this.reflectUi = new ReflectUi(uiContext);
+        this.questionList = new QuestionList(storage, this.reflectUi);
         setIsExit(IS_EXIT_INITIAL);
-        this.UI.setCursorName(FEATURE_NAME);
+        this.reflectUi.setCursorName(FEATURE_NAME);
+        registerCommands();
     }
 
     public static void setIsExit(boolean status) {
@@ -123,14 +151,32 @@ public class ReflectionManager extends Manager {
         assert commandType.length() > EMPTY_COMMAND : COMMAND_TYPE_ASSERTION;
     }
 
+    /**
+     * Set the main command type and the command argument and payload pairs from user inputs,
+     * parsing the user input only once.<br/>
+     * This is to be used to generate command.
+     *
+     * @param inputCommand Read from user input
+     * @throws BadCommandException If an invalid command was given
+     */
+    public void setCommand(String inputCommand) throws BadCommandException {
+        ParsedCommand parsedCommand = commandParser.parse(inputCommand);
+        commandType = parsedCommand.getMainArgument();
+        argumentPayload = parsedCommand.toHashMap();
+        assert commandType.length() > EMPTY_COMMAND : COMMAND_TYPE_ASSERTION;
+    }
+
     //@@author wenxin-c
 
     /**
      * Print greeting logo and message.
      */
     public void greet() {
-        UI.printLogoWithSeparator(LOGO);
-        UI.printOutputMessage(GREETING_MESSAGE);
+        if (BatchMode.isActive()) {
+            return;
+        }
+        reflectUi.printLogoWithSeparator(LOGO);
+        reflectUi.printOutputMessage(GREETING_MESSAGE);
     }
     //@@author
 
@@ -147,16 +193,15 @@ public class ReflectionManager extends Manager {
         this.greet();
         while (!isExit) {
             try {
-                String inputCommand = UI.getCommand();
-                setCommandType(inputCommand);
-                setArgumentPayload(inputCommand);
+                String inputCommand = reflectUi.getCommand();
+                setCommand(inputCommand);
                 executeCommands();
             } catch (NoSuchElementException noSuchElement) {
                 LOGGER.log(Level.INFO, NO_ELEMENT_MESSAGE);
-                UI.printErrorFor(noSuchElement, NO_ELEMENT_MESSAGE);
-            } catch (BadCommandException badCommand) {
+                reflectUi.printErrorFor(noSuchElement, NO_ELEMENT_MESSAGE);
+            } catch (WellNusException badCommand) {
                 LOGGER.log(Level.INFO, badCommand.getMessage());
-                UI.printErrorFor(badCommand, INVALID_COMMAND_NOTES);
+                reflectUi.printErrorFor(badCommand, INVALID_COMMAND_NOTES);
             }
         }
     }
@@ -169,42 +214,23 @@ public class ReflectionManager extends Manager {
      * <li>Get a random set of reflection questions<br/>
      * <li>Return back main interface<br/>
      *
-     * @throws BadCommandException If an invalid command was given
+     * @throws WellNusException If an invalid command was given or the command fails
      */
-    public void executeCommands() throws BadCommandException {
+    public void executeCommands() throws WellNusException {
         assert commandType.length() > EMPTY_COMMAND : COMMAND_TYPE_ASSERTION;
-        switch (commandType) {
-        case GET_COMMAND:
-            GetCommand getQuestionsCmd = new GetCommand(argumentPayload, questionList);
-            getQuestionsCmd.execute();
-            break;
-        case HELP_COMMAND:
-            HelpCommand helpCmd = new HelpCommand(argumentPayload);
-            helpCmd.execute();
-            break;
-        case HOME_COMMAND:
-            HomeCommand returnCmd = new HomeCommand(argumentPayload, questionList);
-            returnCmd.execute();
-            break;
-        case LIKE_COMMAND:
-            LikeCommand likeCmd = new LikeCommand(argumentPayload, questionList);
-            likeCmd.execute();
-            break;
-        case UNLIKE_COMMAND:
-            UnlikeCommand unlikeCmd = new UnlikeCommand(argumentPayload, questionList);
-            unlikeCmd.execute();
-            break;
-        case FAV_COMMAND:
-            FavoriteCommand favCmd = new FavoriteCommand(argumentPayload, questionList);
-            favCmd.execute();
-            break;
-        case PREV_COMMAND:
-            PrevCommand prevCmd = new PrevCommand(argumentPayload, questionList);
-            prevCmd.execute();
-            break;
-        default:
-            throw new BadCommandException(INVALID_COMMAND_MESSAGE);
-        }
+        Command command = commandRegistry.getCommandFor(commandType, argumentPayload);
+        commandRegistry.execute(command);
+    }
+
+    private void registerCommands() {
+        commandRegistry
+                .register(GET_COMMAND, arguments -> new GetCommand(arguments, questionList, reflectUi))
+                .register(HELP_COMMAND, arguments -> new HelpCommand(arguments, reflectUi))
+                .register(HOME_COMMAND, arguments -> new HomeCommand(arguments, questionList, reflectUi))
+                .register(LIKE_COMMAND, arguments -> new LikeCommand(arguments, questionList, reflectUi))
+                .register(UNLIKE_COMMAND, arguments -> new UnlikeCommand(arguments, questionList, reflectUi))
+                .register(FAV_COMMAND, arguments -> new FavoriteCommand(arguments, questionList, reflectUi))
+                .register(PREV_COMMAND, arguments -> new PrevCommand(arguments, questionList, reflectUi));
     }
 }
 
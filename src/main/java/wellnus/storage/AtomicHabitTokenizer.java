@@ -1,7 +1,9 @@
 package wellnus.storage;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 
@@ -10,79 +12,132 @@ import wellnus.exception.TokenizerException;
 
 /**
  * Class to tokenize and detokenize the AtomicHabit list. <br>
+ * Tokenized habits are parsed in a single pass over the line, without splitting it into parameter strings. <br>
  */
-public class AtomicHabitTokenizer implements Tokenizer<AtomicHabit> {
+public class AtomicHabitTokenizer implements BinaryTokenizer<AtomicHabit> {
     private static final String DESCRIPTION_KEY = "description";
     private static final String COUNT_KEY = "count";
     private static final String PARAMETER_DELIMITER = "--";
     private static final String DETOKENIZE_ERROR_MESSAGE = "Invalid habit data '%s' found in storage!";
-    private static final int INDEX_ZERO = 0;
-    private static final int INDEX_FIRST = 1;
-    private static final int NUM_ATOMIC_HABIT_PARAMETER = 2;
-    private static final String REGEX_NUMBER_AND_SYMBOL_ONLY_PATTERN = "^[\\d\\p{Punct}\\p{S}]*$";
-
-    private String[] splitTokenizedHabitIntoParameter(String tokenizedHabit) {
-        tokenizedHabit = tokenizedHabit.strip();
-        int noLimit = -1;
-        String[] rawStrings = tokenizedHabit.split(PARAMETER_DELIMITER, noLimit);
-        rawStrings = Arrays.copyOfRange(rawStrings, INDEX_FIRST, rawStrings.length);
-        String[] cleanString = new String[rawStrings.length];
-        for (int i = 0; i < rawStrings.length; ++i) {
-            String currentCommand = rawStrings[i];
-            currentCommand = currentCommand.strip();
-            cleanString[i] = currentCommand;
-        }
-        return cleanString;
-    }
+    private static final char PARAMETER_KEY_SEPARATOR = ' ';
+    private static final char LAST_TRIMMED_CHARACTER = ' ';
+    private static final int NOT_FOUND = -1;
+    private static final int COUNT_RADIX = 10;
+    // Characters of the regex \p{Punct}, which only matches ASCII punctuation
+    private static final String ASCII_PUNCTUATION = "!\"#$%&'()*+,-./:;<=>?@[\\]^_`{|}~";
+    private static final int LAST_ASCII_CHARACTER = 127;
+    private static final int MAX_PRESIZED_HABITS = 1 << 20;
 
     private String convertToBase(String habitName) {
-        return habitName.toLowerCase().replaceAll("\\s", "");
-    }
-
-    private ArrayList<AtomicHabit> removeDuplicatedHabits(ArrayList<AtomicHabit> uncheckedAtomicHabits) {
-        HashMap<String, AtomicHabit> uniqueHabits = new LinkedHashMap<>();
-        for (AtomicHabit habit : uncheckedAtomicHabits) {
-            String description = convertToBase(habit.getDescription());
-            if (!uniqueHabits.containsKey(description)) {
-                uniqueHabits.put(description, habit);
+        StringBuilder baseName = new StringBuilder(habitName.length());
+        for (int i = 0; i < habitName.length(); ++i) {
+            char character = habitName.charAt(i);
+            // Same characters as the regex \s
+            boolean isWhitespace = character == ' ' || character == '\t' || character == '\n'
+                    || character == '\u000B' || character == '\f' || character == '\r';
+            if (!isWhitespace) {
+                baseName.append(character);
             }
         }
-        return new ArrayList<>(uniqueHabits.values());
+        return baseName.toString().toLowerCase();
     }
 
+    /**
+     * Parses a tokenized habit of the form <code>--description [description] --count [count]</code>. <br>
+     * Anything before the first <code>--</code> is ignored. Each parameter is a key and a value separated
+     * by a space, and if a key appears more than once, its last value is used. <br>
+     *
+     * @param tokenizedHabit Tokenized habit read from storage.
+     * @return AtomicHabit described by the tokenized habit.
+     * @throws TokenizerException When the tokenized habit is not a valid habit.
+     */
     private AtomicHabit parseTokenizedHabit(String tokenizedHabit) throws TokenizerException {
-        HashMap<String, String> parameterHashMap = new HashMap<>();
-        String[] parameterStrings = splitTokenizedHabitIntoParameter(tokenizedHabit);
-        try {
-            for (String parameterString : parameterStrings) {
-                int i = parameterString.indexOf(' ');
-                String parameterKey = parameterString.substring(INDEX_ZERO, i);
-                String parameterValue = parameterString.substring(i).trim();
-                parameterHashMap.put(parameterKey, parameterValue);
+        int descriptionStart = NOT_FOUND;
+        int descriptionEnd = NOT_FOUND;
+        int countStart = NOT_FOUND;
+        int countEnd = NOT_FOUND;
+        int delimiterIndex = tokenizedHabit.indexOf(PARAMETER_DELIMITER);
+        while (delimiterIndex != NOT_FOUND) {
+            int parameterStart = delimiterIndex + PARAMETER_DELIMITER.length();
+            delimiterIndex = tokenizedHabit.indexOf(PARAMETER_DELIMITER, parameterStart);
+            int parameterEnd = delimiterIndex == NOT_FOUND ? tokenizedHabit.length() : delimiterIndex;
+            // Same bounds as String.strip()
+            while (parameterStart < parameterEnd && Character.isWhitespace(tokenizedHabit.charAt(parameterStart))) {
+                parameterStart += 1;
+            }
+            while (parameterEnd > parameterStart && Character.isWhitespace(tokenizedHabit.charAt(parameterEnd - 1))) {
+                parameterEnd -= 1;
+            }
+            int keyEnd = tokenizedHabit.indexOf(PARAMETER_KEY_SEPARATOR, parameterStart);
+            if (keyEnd == NOT_FOUND || keyEnd >= parameterEnd) {
+                throw new TokenizerException(String.format(DETOKENIZE_ERROR_MESSAGE, tokenizedHabit));
+            }
+            // Same bounds as String.trim()
+            int valueStart = keyEnd;
+            int valueEnd = parameterEnd;
+            while (valueStart < valueEnd && tokenizedHabit.charAt(valueStart) <= LAST_TRIMMED_CHARACTER) {
+                valueStart += 1;
+            }
+            while (valueEnd > valueStart && tokenizedHabit.charAt(valueEnd - 1) <= LAST_TRIMMED_CHARACTER) {
+                valueEnd -= 1;
+            }
+            if (isKey(tokenizedHabit, parameterStart, keyEnd, DESCRIPTION_KEY)) {
+                descriptionStart = valueStart;
+                descriptionEnd = valueEnd;
+            } else if (isKey(tokenizedHabit, parameterStart, keyEnd, COUNT_KEY)) {
+                countStart = valueStart;
+                countEnd = valueEnd;
+            } else {
+                throw new TokenizerException(String.format(DETOKENIZE_ERROR_MESSAGE, tokenizedHabit));
             }
-        } catch (StringIndexOutOfBoundsException stringIndexOutOfBoundsException) {
-            throw new TokenizerException(String.format(DETOKENIZE_ERROR_MESSAGE, tokenizedHabit));
-        }
-        if ((!parameterHashMap.containsKey(DESCRIPTION_KEY) || !parameterHashMap.containsKey(COUNT_KEY))
-                && !parameterHashMap.isEmpty()) {
-            throw new TokenizerException(String.format(DETOKENIZE_ERROR_MESSAGE, tokenizedHabit));
         }
-        if (parameterHashMap.size() != NUM_ATOMIC_HABIT_PARAMETER) {
+        if (descriptionStart == NOT_FOUND || countStart == NOT_FOUND) {
             throw new TokenizerException(String.format(DETOKENIZE_ERROR_MESSAGE, tokenizedHabit));
         }
-        String description = parameterHashMap.get(DESCRIPTION_KEY);
-        String countString = parameterHashMap.get(COUNT_KEY);
-        if (description.matches(REGEX_NUMBER_AND_SYMBOL_ONLY_PATTERN)) {
+        String description = tokenizedHabit.substring(descriptionStart, descriptionEnd);
+        if (isNumberAndSymbolOnly(description)) {
             throw new TokenizerException(String.format(DETOKENIZE_ERROR_MESSAGE, tokenizedHabit));
         }
         try {
-            int count = Integer.parseInt(countString);
+            int count = Integer.parseInt(tokenizedHabit, countStart, countEnd, COUNT_RADIX);
             return new AtomicHabit(description, count);
         } catch (NumberFormatException numberFormatException) {
             throw new TokenizerException(String.format(DETOKENIZE_ERROR_MESSAGE, tokenizedHabit));
         }
     }
 
+    /**
+     * Checks a description the same way as the regex <code>^[\d\p{Punct}\p{S}]*$</code>,
+     * without creating a Matcher for every habit. <br>
+     *
+     * @param description Description of the habit.
+     * @return Whether the description only has digits, punctuation and symbols.
+     */
+    private boolean isNumberAndSymbolOnly(String description) {
+        int index = 0;
+        while (index < description.length()) {
+            int codePoint = description.codePointAt(index);
+            if (!isNumberOrSymbol(codePoint)) {
+                return false;
+            }
+            index += Character.charCount(codePoint);
+        }
+        return true;
+    }
+
+    private boolean isNumberOrSymbol(int codePoint) {
+        if (codePoint <= LAST_ASCII_CHARACTER) {
+            return codePoint >= '0' && codePoint <= '9' || ASCII_PUNCTUATION.indexOf(codePoint) != NOT_FOUND;
+        }
+        int type = Character.getType(codePoint);
+        return type == Character.MATH_SYMBOL || type == Character.CURRENCY_SYMBOL
+                || type == Character.MODIFIER_SYMBOL || type == Character.OTHER_SYMBOL;
+    }
+
+    private boolean isKey(String tokenizedHabit, int keyStart, int keyEnd, String key) {
+        return keyEnd - keyStart == key.length() && tokenizedHabit.startsWith(key, keyStart);
+    }
+
     /**
      * Tokenize List of Atomic Habits to be saved as ArrayList of Strings. <br>
      * Each habit will be tokenized with the following format:
@@ -93,14 +148,28 @@ public class AtomicHabitTokenizer implements Tokenizer<AtomicHabit> {
      */
     public ArrayList<String> tokenize(ArrayList<AtomicHabit> habitsToTokenize) {
         ArrayList<String> tokenizedHabits = new ArrayList<>();
+        tokenize(habitsToTokenize, tokenizedHabits::add);
+        return tokenizedHabits;
+    }
+
+    /**
+     * Tokenize atomic habits one by one, in the same format as <code>tokenize(ArrayList)</code>. <br>
+     *
+     * @param habitsToTokenize Atomic habits to be tokenized.
+     * @param consumer Receiver of each tokenized habit.
+     * @param <E> Exception the consumer may throw.
+     * @throws E When the consumer does not accept a tokenized habit.
+     */
+    @Override
+    public <E extends Exception> void tokenize(Iterable<AtomicHabit> habitsToTokenize, EntryConsumer<E> consumer)
+            throws E {
         for (AtomicHabit habit : habitsToTokenize) {
             String tokenizedHabit = PARAMETER_DELIMITER + DESCRIPTION_KEY
                     + " " + habit.getDescription()
                     + " " + PARAMETER_DELIMITER + COUNT_KEY
                     + " " + habit.getCount();
-            tokenizedHabits.add(tokenizedHabit);
+            consumer.accept(tokenizedHabit);
         }
-        return tokenizedHabits;
     }
 
     /**
@@ -113,14 +182,102 @@ public class AtomicHabitTokenizer implements Tokenizer<AtomicHabit> {
      * @throws TokenizerException When the data can't be detokenized.
      */
     public ArrayList<AtomicHabit> detokenize(ArrayList<String> tokenizedAtomicHabits) throws TokenizerException {
-        ArrayList<AtomicHabit> detokenizedAtomicHabits = new ArrayList<>();
+        Detokenizer<AtomicHabit> detokenizer = newDetokenizer();
         for (String tokenizedString : tokenizedAtomicHabits) {
-            if (!tokenizedString.isBlank()) {
-                AtomicHabit parsedHabit = parseTokenizedHabit(tokenizedString);
-                detokenizedAtomicHabits.add(parsedHabit);
+            detokenizer.accept(tokenizedString);
+        }
+        return detokenizer.finish();
+    }
+
+    /**
+     * Returns a Detokenizer that parses each tokenized atomic habit as soon as it is read. <br>
+     * Blank entries are skipped, and only the first of several habits with the same description is kept.
+     *
+     * @return Detokenizer for a single load of atomic habits.
+     */
+    @Override
+    public Detokenizer<AtomicHabit> newDetokenizer() {
+        return new AtomicHabitDetokenizer();
+    }
+
+    /**
+     * Write atomic habits as binary records. <br>
+     * The number of habits comes first, then each habit's description as a length-prefixed UTF-8 string
+     * and its count as a varint. <br>
+     *
+     * @param habitsToWrite Atomic habits to be written.
+     * @param output Output positioned after the file header.
+     * @throws IOException When the records cannot be written.
+     */
+    @Override
+    public void writeBinary(Iterable<AtomicHabit> habitsToWrite, DataOutput output) throws IOException {
+        int numOfHabits = 0;
+        for (AtomicHabit ignored : habitsToWrite) {
+            numOfHabits += 1;
+        }
+        BinaryCodec.writeUnsignedVarInt(output, numOfHabits);
+        for (AtomicHabit habit : habitsToWrite) {
+            BinaryCodec.writeString(output, habit.getDescription());
+            BinaryCodec.writeSignedVarInt(output, habit.getCount());
+        }
+    }
+
+    /**
+     * Read atomic habits written by <code>writeBinary()</code>. <br>
+     * Habits are validated and deduplicated the same way as tokenized habits. <br>
+     *
+     * @param input Input positioned after the file header.
+     * @return ArrayList containing all the atomic habit saved in the storage.
+     * @throws IOException When the records cannot be read.
+     * @throws TokenizerException When a record is not a valid habit.
+     */
+    @Override
+    public ArrayList<AtomicHabit> readBinary(DataInput input) throws IOException, TokenizerException {
+        int numOfHabits = BinaryCodec.readUnsignedVarInt(input);
+        AtomicHabitDetokenizer detokenizer = new AtomicHabitDetokenizer(numOfHabits);
+        for (int i = 0; i < numOfHabits; ++i) {
+            String description = BinaryCodec.readString(input);
+            int count = BinaryCodec.readSignedVarInt(input);
+            if (isNumberAndSymbolOnly(description)) {
+                throw new TokenizerException(String.format(DETOKENIZE_ERROR_MESSAGE, description));
             }
+            detokenizer.acceptHabit(new AtomicHabit(description, count));
+        }
+        return detokenizer.finish();
+    }
+
+    /**
+     * Detokenizer that parses atomic habits one by one and removes duplicated habits as it goes.
+     */
+    private class AtomicHabitDetokenizer implements Detokenizer<AtomicHabit> {
+        // Key: description of the habit in its base form. Value: first habit found with that description
+        private final HashMap<String, AtomicHabit> uniqueHabits;
+
+        AtomicHabitDetokenizer() {
+            uniqueHabits = new LinkedHashMap<>();
+        }
+
+        AtomicHabitDetokenizer(int expectedNumOfHabits) {
+            // The count comes from the data file, so a corrupted one must not allocate a huge table up front
+            int capacity = Math.min(expectedNumOfHabits, MAX_PRESIZED_HABITS) * 4 / 3 + 1;
+            uniqueHabits = new LinkedHashMap<>(capacity);
+        }
+
+        @Override
+        public void accept(String tokenizedHabit) throws TokenizerException {
+            if (tokenizedHabit.isBlank()) {
+                return;
+            }
+            acceptHabit(parseTokenizedHabit(tokenizedHabit));
+        }
+
+        private void acceptHabit(AtomicHabit habit) {
+            uniqueHabits.putIfAbsent(convertToBase(habit.getDescription()), habit);
+        }
+
+        @Override
+        public ArrayList<AtomicHabit> finish() {
+            return new ArrayList<>(uniqueHabits.values());
         }
-        detokenizedAtomicHabits = removeDuplicatedHabits(detokenizedAtomicHabits);
-        return detokenizedAtomicHabits;
     }
 }
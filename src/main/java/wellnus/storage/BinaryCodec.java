@@ -0,0 +1,121 @@
+package wellnus.storage;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import wellnus.exception.TokenizerException;
+
+/**
+ * BinaryCodec holds the encodings shared by every BinaryTokenizer. <br>
+ * <p>
+ * Integers are written as varints: 7 bits per byte, least significant group first,
+ * with the high bit set on every byte but the last. Signed integers are zigzag-encoded first,
+ * so that small negative numbers stay small. Strings are a varint byte length followed by their UTF-8 bytes.
+ */
+final class BinaryCodec {
+    private static final int VARINT_PAYLOAD_MASK = 0x7F;
+    private static final int VARINT_CONTINUATION_BIT = 0x80;
+    private static final int VARINT_PAYLOAD_BITS = 7;
+    // An int never needs more than 5 groups of 7 bits
+    private static final int MAX_VARINT_BYTES = 5;
+    // No entry of WellNUS++ comes anywhere near this, so a longer string means the file is corrupted
+    private static final int MAX_STRING_BYTES = 1024 * 1024;
+    private static final String ERROR_INVALID_VARINT = "Invalid number found in binary storage!";
+    private static final String ERROR_INVALID_STRING = "Invalid text of %d bytes found in binary storage!";
+
+    private BinaryCodec() {
+    }
+
+    /**
+     * Writes a non-negative int as a varint.
+     *
+     * @param output output to write to
+     * @param value  int to write, treated as unsigned
+     * @throws IOException when the output cannot be written
+     */
+    static void writeUnsignedVarInt(DataOutput output, int value) throws IOException {
+        int remaining = value;
+        while ((remaining & ~VARINT_PAYLOAD_MASK) != 0) {
+            output.writeByte((remaining & VARINT_PAYLOAD_MASK) | VARINT_CONTINUATION_BIT);
+            remaining >>>= VARINT_PAYLOAD_BITS;
+        }
+        output.writeByte(remaining);
+    }
+
+    /**
+     * Reads an int written by <code>writeUnsignedVarInt()</code>.
+     *
+     * @param input input to read from
+     * @return int that was written
+     * @throws IOException        when the input cannot be read
+     * @throws TokenizerException when the varint is longer than any int
+     */
+    static int readUnsignedVarInt(DataInput input) throws IOException, TokenizerException {
+        int value = 0;
+        for (int i = 0; i < MAX_VARINT_BYTES; i += 1) {
+            int nextByte = input.readUnsignedByte();
+            value |= (nextByte & VARINT_PAYLOAD_MASK) << (i * VARINT_PAYLOAD_BITS);
+            if ((nextByte & VARINT_CONTINUATION_BIT) == 0) {
+                return value;
+            }
+        }
+        throw new TokenizerException(ERROR_INVALID_VARINT);
+    }
+
+    /**
+     * Writes any int as a zigzag-encoded varint.
+     *
+     * @param output output to write to
+     * @param value  int to write
+     * @throws IOException when the output cannot be written
+     */
+    static void writeSignedVarInt(DataOutput output, int value) throws IOException {
+        writeUnsignedVarInt(output, (value << 1) ^ (value >> (Integer.SIZE - 1)));
+    }
+
+    /**
+     * Reads an int written by <code>writeSignedVarInt()</code>.
+     *
+     * @param input input to read from
+     * @return int that was written
+     * @throws IOException        when the input cannot be read
+     * @throws TokenizerException when the varint is longer than any int
+     */
+    static int readSignedVarInt(DataInput input) throws IOException, TokenizerException {
+        int zigzag = readUnsignedVarInt(input);
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+
+    /**
+     * Writes a string as its UTF-8 byte length followed by its UTF-8 bytes.
+     *
+     * @param output output to write to
+     * @param value  string to write
+     * @throws IOException when the output cannot be written
+     */
+    static void writeString(DataOutput output, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeUnsignedVarInt(output, bytes.length);
+        output.write(bytes);
+    }
+
+    /**
+     * Reads a string written by <code>writeString()</code>.
+     *
+     * @param input input to read from
+     * @return string that was written
+     * @throws IOException        when the input cannot be read
+     * @throws TokenizerException when the length of the string is invalid
+     */
+    static String readString(DataInput input) throws IOException, TokenizerException {
+        int length = readUnsignedVarInt(input);
+        if (length < 0 || length > MAX_STRING_BYTES) {
+            throw new TokenizerException(String.format(ERROR_INVALID_STRING, length));
+        }
+        byte[] bytes = new byte[length];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
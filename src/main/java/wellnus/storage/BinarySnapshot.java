@@ -0,0 +1,93 @@
+package wellnus.storage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import wellnus.exception.TokenizerException;
+
+/**
+ * BinarySnapshot reads and writes the <code>.bin</code> data files of <code>StorageFormat.BINARY</code>. <br>
+ * <p>
+ * Every file starts with the magic bytes <code>WNPB</code> and a format version byte,
+ * followed by the records of the feature's BinaryTokenizer.
+ * A file with another header was not written by this version of WellNUS++ and is treated as invalid data.
+ */
+class BinarySnapshot {
+    private static final byte[] MAGIC = {'W', 'N', 'P', 'B'};
+    private static final int FORMAT_VERSION = 1;
+    private static final int BUFFER_SIZE_BYTES = 64 * 1024;
+    private static final String ERROR_INVALID_HEADER = "Binary data file was not written by this "
+            + "version of WellNUS++!";
+    private static final String ERROR_TRUNCATED = "Binary data file ended unexpectedly!";
+    private static final String ERROR_TRAILING_DATA = "Binary data file has unexpected data at its end!";
+
+    private BinarySnapshot() {
+    }
+
+    /**
+     * Writes data objects to a binary data file.
+     *
+     * @param dataPath    path of the file to write, which is replaced if it exists
+     * @param tokenizer   BinaryTokenizer of the feature
+     * @param dataObjects data objects to write
+     * @param isForced    whether the file should be forced onto the disk before returning
+     * @param <T>         data type of the feature
+     * @return size of the written file in bytes
+     * @throws IOException when the file cannot be written
+     */
+    static <T> long write(Path dataPath, BinaryTokenizer<T> tokenizer, Iterable<T> dataObjects, boolean isForced)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(dataPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            // Not closed on its own, as closing it would close the channel before it can be forced
+            DataOutputStream output = new DataOutputStream(new BufferedOutputStream(
+                    Channels.newOutputStream(channel), BUFFER_SIZE_BYTES));
+            output.write(MAGIC);
+            output.writeByte(FORMAT_VERSION);
+            tokenizer.writeBinary(dataObjects, output);
+            output.flush();
+            if (isForced) {
+                channel.force(false);
+            }
+            return channel.position();
+        }
+    }
+
+    /**
+     * Reads the data objects of a binary data file.
+     *
+     * @param dataPath  path of the file to read
+     * @param tokenizer BinaryTokenizer of the feature
+     * @param <T>       data type of the feature
+     * @return ArrayList of the data objects in the file
+     * @throws IOException        when the file cannot be read
+     * @throws TokenizerException when the file does not hold valid data
+     */
+    static <T> ArrayList<T> read(Path dataPath, BinaryTokenizer<T> tokenizer) throws IOException, TokenizerException {
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(
+                Channels.newInputStream(FileChannel.open(dataPath, StandardOpenOption.READ)), BUFFER_SIZE_BYTES))) {
+            byte[] magic = new byte[MAGIC.length];
+            input.readFully(magic);
+            if (!Arrays.equals(MAGIC, magic) || input.readUnsignedByte() != FORMAT_VERSION) {
+                throw new TokenizerException(ERROR_INVALID_HEADER);
+            }
+            ArrayList<T> dataObjects = tokenizer.readBinary(input);
+            if (input.read() != -1) {
+                throw new TokenizerException(ERROR_TRAILING_DATA);
+            }
+            return dataObjects;
+        } catch (EOFException exception) {
+            throw new TokenizerException(ERROR_TRUNCATED);
+        }
+    }
+}
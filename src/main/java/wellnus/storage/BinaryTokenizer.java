@@ -0,0 +1,36 @@
+package wellnus.storage;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+
+import wellnus.exception.TokenizerException;
+
+/**
+ * Tokenizer that can also convert data objects to and from the compact binary format
+ *     of <code>StorageFormat.BINARY</code>.<br/>
+ *
+ * Storage writes the file header, so implementations only write and read their own records,
+ *     using the varint and string encodings of BinaryCodec.
+ * @param <T> Data type of the corresponding feature, e.g. <code>AtomicHabit</code>
+ *     the atomic habit feature
+ */
+interface BinaryTokenizer<T> extends StreamingTokenizer<T> {
+    /**
+     * Writes the given data objects as binary records.
+     * @param dataObjects Objects which represent data we want to save
+     * @param output Output positioned after the file header
+     * @throws IOException If the records cannot be written
+     */
+    void writeBinary(Iterable<T> dataObjects, DataOutput output) throws IOException;
+
+    /**
+     * Reads back the data objects written by <code>writeBinary()</code>.
+     * @param input Input positioned after the file header
+     * @return ArrayList containing all the data from the previously saved state
+     * @throws IOException If the records cannot be read
+     * @throws TokenizerException If the records do not form a valid state
+     */
+    ArrayList<T> readBinary(DataInput input) throws IOException, TokenizerException;
+}
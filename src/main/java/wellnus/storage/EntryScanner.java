@@ -0,0 +1,126 @@
+package wellnus.storage;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+import wellnus.storage.StreamingTokenizer.EntryConsumer;
+
+/**
+ * EntryScanner splits the bytes of a data file into entries as they are fed to it, chunk by chunk. <br>
+ * <p>
+ * Entries are separated by <code>" --"</code> followed by <code>\n</code>, <code>\r\n</code> or <code>\r</code>,
+ * and are handed to an EntryConsumer as soon as their delimiter is found,
+ * so only the entry currently being scanned is held in memory.
+ * <p>
+ * Entries are split the same way <code>String.split()</code> splits the file's contents by the delimiter:
+ * a file without any delimiter is a single entry, and empty entries at the end of the file are dropped.
+ *
+ * @param <E> Exception the EntryConsumer may throw
+ */
+class EntryScanner<E extends Exception> {
+    private static final byte SPACE = ' ';
+    private static final byte DASH = '-';
+    private static final byte LINE_FEED = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+    // Length of " --" followed by a single line break character
+    private static final int DELIMITER_LENGTH = 4;
+    private static final int INITIAL_ENTRY_CAPACITY = 256;
+    private static final String EMPTY_STRING = "";
+    private final Charset charset;
+    private final EntryConsumer<E> consumer;
+    private byte[] entry = new byte[INITIAL_ENTRY_CAPACITY];
+    private int entryLength = 0;
+    private boolean isSkippingLineFeed = false;
+    private boolean hasDelimiter = false;
+    // Empty entries are only passed on once a non-empty entry follows them, as trailing ones are dropped
+    private int pendingEmptyEntries = 0;
+
+    /**
+     * Constructs an EntryScanner that decodes entries with the given charset.
+     *
+     * @param charset  charset the data file was written in, which must encode ASCII characters as single bytes
+     * @param consumer receiver of every entry found
+     */
+    EntryScanner(Charset charset, EntryConsumer<E> consumer) {
+        this.charset = charset;
+        this.consumer = consumer;
+    }
+
+    /**
+     * Scans the next chunk of the data file, from its position to its limit.
+     *
+     * @param bytes next chunk of the data file
+     * @throws E when the EntryConsumer does not accept an entry
+     */
+    void scan(ByteBuffer bytes) throws E {
+        while (bytes.hasRemaining()) {
+            byte nextByte = bytes.get();
+            if (isSkippingLineFeed) {
+                isSkippingLineFeed = false;
+                // The line feed of a \r\n line break belongs to the delimiter just found
+                if (nextByte == LINE_FEED) {
+                    continue;
+                }
+            }
+            append(nextByte);
+            boolean isLineBreak = nextByte == LINE_FEED || nextByte == CARRIAGE_RETURN;
+            if (isLineBreak && endsWithDelimiter()) {
+                entryLength -= DELIMITER_LENGTH;
+                hasDelimiter = true;
+                isSkippingLineFeed = nextByte == CARRIAGE_RETURN;
+                passEntry();
+            }
+        }
+    }
+
+    /**
+     * Passes on the last entry, once the whole data file has been scanned.
+     *
+     * @throws E when the EntryConsumer does not accept the last entry
+     */
+    void finish() throws E {
+        if (!hasDelimiter) {
+            consumer.accept(decodeEntry());
+            entryLength = 0;
+            return;
+        }
+        if (entryLength > 0) {
+            passEntry();
+        }
+        pendingEmptyEntries = 0;
+    }
+
+    private void append(byte nextByte) {
+        if (entryLength == entry.length) {
+            entry = Arrays.copyOf(entry, entry.length * 2);
+        }
+        entry[entryLength] = nextByte;
+        entryLength += 1;
+    }
+
+    private boolean endsWithDelimiter() {
+        int delimiterStart = entryLength - DELIMITER_LENGTH;
+        return delimiterStart >= 0
+                && entry[delimiterStart] == SPACE
+                && entry[delimiterStart + 1] == DASH
+                && entry[delimiterStart + 2] == DASH;
+    }
+
+    private void passEntry() throws E {
+        if (entryLength == 0) {
+            pendingEmptyEntries += 1;
+            return;
+        }
+        while (pendingEmptyEntries > 0) {
+            consumer.accept(EMPTY_STRING);
+            pendingEmptyEntries -= 1;
+        }
+        consumer.accept(decodeEntry());
+        entryLength = 0;
+    }
+
+    private String decodeEntry() {
+        return new String(entry, 0, entryLength, charset);
+    }
+}
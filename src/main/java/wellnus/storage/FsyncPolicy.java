@@ -0,0 +1,23 @@
+package wellnus.storage;
+
+/**
+ * FsyncPolicy decides when Storage forces the data it writes onto the physical disk. <br>
+ * <p>
+ * Forcing a write guarantees that it survives a power failure or OS crash, at the cost of latency.
+ * Without it, the OS may hold the write in memory for a while before putting it on disk.
+ * Regardless of the policy, data files are replaced atomically, so a crash never leaves a half-written data file.
+ */
+public enum FsyncPolicy {
+    /**
+     * Force every snapshot and journal write onto the disk before returning. Safest, but slowest.
+     */
+    ALWAYS,
+    /**
+     * Force every few writes, so at most the last few saves can be lost in a crash.
+     */
+    BATCHED,
+    /**
+     * Never force writes and leave it to the OS to decide when data reaches the disk. Fastest.
+     */
+    NEVER
+}
@@ -1,5 +1,8 @@
 package wellnus.storage;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.ArrayList;
 
 import wellnus.exception.TokenizerException;
@@ -9,7 +12,7 @@ import wellnus.gamification.util.GamificationData;
  * Handles the conversion of GamificationData objects -> String and vice versa to allow
  * storage and retrieval of gamification statistics.
  */
-public class GamificationTokenizer implements Tokenizer<GamificationData> {
+public class GamificationTokenizer implements BinaryTokenizer<GamificationData> {
     private static final String INVALID_STORED_DATA_MESSAGE = "Invalid gamification data '%s' found in storage!";
     private static final int MIN_XP = 0;
 
@@ -23,12 +26,26 @@ public class GamificationTokenizer implements Tokenizer<GamificationData> {
     @Override
     public ArrayList<String> tokenize(ArrayList<GamificationData> dataObjects) {
         ArrayList<String> tokenizedObjects = new ArrayList<>();
+        tokenize(dataObjects, tokenizedObjects::add);
+        return tokenizedObjects;
+    }
+
+    /**
+     * Converts GamificationData objects into their String representation one by one.
+     *
+     * @param dataObjects GamificationData Objects we want to convert into a String representation
+     * @param consumer Receiver of each String representation
+     * @param <E> Exception the consumer may throw
+     * @throws E If the consumer does not accept a String representation
+     */
+    @Override
+    public <E extends Exception> void tokenize(Iterable<GamificationData> dataObjects, EntryConsumer<E> consumer)
+            throws E {
         for (GamificationData data : dataObjects) {
             int xp = data.getTotalXp();
             String tokenizedObject = "" + xp;
-            tokenizedObjects.add(tokenizedObject);
+            consumer.accept(tokenizedObject);
         }
-        return tokenizedObjects;
     }
 
     /**
@@ -43,12 +60,77 @@ public class GamificationTokenizer implements Tokenizer<GamificationData> {
     @Override
     public ArrayList<GamificationData> detokenize(ArrayList<String> tokenizedDataObjects)
             throws TokenizerException {
-        ArrayList<GamificationData> dataObjects = new ArrayList<>();
+        Detokenizer<GamificationData> detokenizer = newDetokenizer();
         for (String tokenizedDataObject : tokenizedDataObjects) {
+            detokenizer.accept(tokenizedDataObject);
+        }
+        return detokenizer.finish();
+    }
+
+    /**
+     * Returns a Detokenizer that restores each GamificationData object as soon as its String representation is read.
+     *
+     * @return Detokenizer for a single load of gamification data
+     */
+    @Override
+    public Detokenizer<GamificationData> newDetokenizer() {
+        return new GamificationDetokenizer();
+    }
+
+    /**
+     * Writes GamificationData objects as binary records: the number of objects, then the total XP of each
+     * as a varint.
+     *
+     * @param dataObjects GamificationData Objects we want to save
+     * @param output Output positioned after the file header
+     * @throws IOException If the records cannot be written
+     */
+    @Override
+    public void writeBinary(Iterable<GamificationData> dataObjects, DataOutput output) throws IOException {
+        int numOfObjects = 0;
+        for (GamificationData ignored : dataObjects) {
+            numOfObjects += 1;
+        }
+        BinaryCodec.writeUnsignedVarInt(output, numOfObjects);
+        for (GamificationData data : dataObjects) {
+            BinaryCodec.writeSignedVarInt(output, data.getTotalXp());
+        }
+    }
+
+    /**
+     * Reads the GamificationData objects written by <code>writeBinary()</code>.
+     *
+     * @param input Input positioned after the file header
+     * @return ArrayList containing all the gamification data from the gamification feature's previously saved state
+     * @throws IOException If the records cannot be read
+     * @throws TokenizerException If a stored total XP is negative
+     */
+    @Override
+    public ArrayList<GamificationData> readBinary(DataInput input) throws IOException, TokenizerException {
+        int numOfObjects = BinaryCodec.readUnsignedVarInt(input);
+        ArrayList<GamificationData> dataObjects = new ArrayList<>();
+        for (int i = 0; i < numOfObjects; i++) {
+            int totalXp = BinaryCodec.readSignedVarInt(input);
+            if (totalXp < MIN_XP) {
+                throw new TokenizerException(String.format(INVALID_STORED_DATA_MESSAGE, totalXp + ""));
+            }
+            dataObjects.add(new GamificationData(totalXp));
+        }
+        return dataObjects;
+    }
+
+    /**
+     * Detokenizer that converts each line of the gamification data file into a GamificationData object.
+     */
+    private static class GamificationDetokenizer implements Detokenizer<GamificationData> {
+        private final ArrayList<GamificationData> dataObjects = new ArrayList<>();
+
+        @Override
+        public void accept(String tokenizedDataObject) throws TokenizerException {
             // Data file contains blank lines
             if (tokenizedDataObject.isBlank()) {
                 // Ignore the blank line and check other lines in the data file
-                continue;
+                return;
             }
             int totalXp;
             try {
@@ -59,9 +141,12 @@ public class GamificationTokenizer implements Tokenizer<GamificationData> {
             if (totalXp < MIN_XP) {
                 throw new TokenizerException(String.format(INVALID_STORED_DATA_MESSAGE, totalXp + ""));
             }
-            GamificationData data = new GamificationData(totalXp);
-            dataObjects.add(data);
+            dataObjects.add(new GamificationData(totalXp));
+        }
+
+        @Override
+        public ArrayList<GamificationData> finish() {
+            return dataObjects;
         }
-        return dataObjects;
     }
 }
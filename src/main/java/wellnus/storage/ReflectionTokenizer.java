@@ -1,7 +1,11 @@
 package wellnus.storage;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Set;
 
 import wellnus.exception.TokenizerException;
@@ -9,7 +13,7 @@ import wellnus.exception.TokenizerException;
 /**
  * Class to tokenize and detokenize the Index for 'like' and 'prev' command in Reflection Feature. <br>
  */
-public class ReflectionTokenizer implements Tokenizer<Set<Integer>> {
+public class ReflectionTokenizer implements BinaryTokenizer<Set<Integer>> {
     private static final String INDEX_DELIMITER = ",";
     private static final int INDEX_ZERO = 0;
     private static final int INDEX_ONE = 1;
@@ -24,6 +28,9 @@ public class ReflectionTokenizer implements Tokenizer<Set<Integer>> {
     private static final int NO_LIMIT = -1;
     private static final String DETOKENIZE_ERROR_MESSAGE = "Invalid reflect %s data '%s' found in storage!";
     private static final String INVALID_NUM_OF_LINES_ERRROR = "Invalid reflect data formatting found in storage!";
+    private static final int NO_INDEXES = 0;
+    // Bitsets may only have the bits of indexes 0 to 9 set
+    private static final int VALID_INDEX_BITS = (1 << (INDEX_NINE + INDEX_ONE)) - 1;
     private String getTokenizedIndexes(String key, Set<Integer> indexesToTokenize) {
         String tokenizedIndexes = key + COLON_CHARACTER;
         for (int index : indexesToTokenize) {
@@ -63,10 +70,9 @@ public class ReflectionTokenizer implements Tokenizer<Set<Integer>> {
         return outputStrings;
     }
 
-    private Set<Integer> validateTokenizedIndexFormat(ArrayList<String> tokenizedIndex,
-                                                      int categoryIndex, String categoryKey) throws TokenizerException {
+    private Set<Integer> validateTokenizedIndexFormat(String tokenizedIndexesByCategory, String categoryKey)
+            throws TokenizerException {
         Set<Integer> validatedSet = new HashSet<>();
-        String tokenizedIndexesByCategory = tokenizedIndex.get(categoryIndex);
         if (!tokenizedIndexesByCategory.isBlank()) {
             String rawIndex = splitParameter(tokenizedIndexesByCategory, categoryKey);
             validatedSet = getSet(rawIndex, categoryKey);
@@ -112,15 +118,29 @@ public class ReflectionTokenizer implements Tokenizer<Set<Integer>> {
      */
     public ArrayList<String> tokenize(ArrayList<Set<Integer>> arrayIndexToTokenize) {
         ArrayList<String> tokenizedIndexes = new ArrayList<>();
-        Set<Integer> likeIndexToTokenize = arrayIndexToTokenize.get(INDEX_ZERO);
-        Set<Integer> prevIndexToTokenize = arrayIndexToTokenize.get(INDEX_ONE);
-        String tokenizedLike = getTokenizedIndexes(LIKE_KEY, likeIndexToTokenize);
-        String tokenizedPrev = getTokenizedIndexes(PREV_KEY, prevIndexToTokenize);
-        tokenizedIndexes.add(tokenizedLike);
-        tokenizedIndexes.add(tokenizedPrev);
+        tokenize(arrayIndexToTokenize, tokenizedIndexes::add);
         return tokenizedIndexes;
     }
 
+    /**
+     * Tokenize the set of like indexes and then the set of prev indexes one by one,
+     *      in the same format as <code>tokenize(ArrayList)</code>. <br>
+     *
+     * @param arrayIndexToTokenize Set of like indexes followed by set of prev indexes.
+     * @param consumer Receiver of the tokenized like indexes and then the tokenized prev indexes.
+     * @param <E> Exception the consumer may throw.
+     * @throws E when the consumer does not accept the tokenized indexes.
+     */
+    @Override
+    public <E extends Exception> void tokenize(Iterable<Set<Integer>> arrayIndexToTokenize,
+                                               EntryConsumer<E> consumer) throws E {
+        Iterator<Set<Integer>> indexSets = arrayIndexToTokenize.iterator();
+        Set<Integer> likeIndexToTokenize = indexSets.next();
+        Set<Integer> prevIndexToTokenize = indexSets.next();
+        consumer.accept(getTokenizedIndexes(LIKE_KEY, likeIndexToTokenize));
+        consumer.accept(getTokenizedIndexes(PREV_KEY, prevIndexToTokenize));
+    }
+
     /**
      * Convert strings of tokenized Indexes into ArrayList that contains set of like indexes for the first entry
      *      and set of prev indexes for the second entry. <br>
@@ -133,18 +153,112 @@ public class ReflectionTokenizer implements Tokenizer<Set<Integer>> {
      * @throws TokenizerException when the data can't be detokenized.
      */
     public ArrayList<Set<Integer>> detokenize(ArrayList<String> tokenizedIndex) throws TokenizerException {
-        ArrayList<Set<Integer>> detokenizedIndexes = new ArrayList<>();
-        Set<Integer> detokenizedLike = new HashSet<>();
-        Set<Integer> detokenizedPrev = new HashSet<>();
-        if (tokenizedIndex.size() == TOKENIZER_INDEX_ARRAYLIST_SIZE) {
-            detokenizedLike = validateTokenizedIndexFormat(tokenizedIndex, LIKE_INDEX, LIKE_KEY);
-            detokenizedPrev = validateTokenizedIndexFormat(tokenizedIndex, PREV_INDEX, PREV_KEY);
-        } else if (tokenizedIndex.size() > INDEX_ZERO && !tokenizedIndex.get(INDEX_ZERO).isBlank()) {
-            throw new TokenizerException(INVALID_NUM_OF_LINES_ERRROR);
+        Detokenizer<Set<Integer>> detokenizer = newDetokenizer();
+        for (String tokenizedLine : tokenizedIndex) {
+            detokenizer.accept(tokenizedLine);
         }
-        detokenizedIndexes.add(detokenizedLike);
-        detokenizedIndexes.add(detokenizedPrev);
+        return detokenizer.finish();
+    }
+
+    /**
+     * Returns a Detokenizer that keeps the like and prev lines as they are read
+     *      and detokenizes them once the number of lines is known. <br>
+     *
+     * @return Detokenizer for a single load of reflection indexes.
+     */
+    @Override
+    public Detokenizer<Set<Integer>> newDetokenizer() {
+        return new ReflectionDetokenizer();
+    }
+
+    /**
+     * Write the set of like indexes and then the set of prev indexes as bitsets, one varint each,
+     *      where bit i is set if index i is in the set. <br>
+     *
+     * @param arrayIndexToWrite Set of like indexes followed by set of prev indexes.
+     * @param output Output positioned after the file header.
+     * @throws IOException when the bitsets cannot be written.
+     */
+    @Override
+    public void writeBinary(Iterable<Set<Integer>> arrayIndexToWrite, DataOutput output) throws IOException {
+        Iterator<Set<Integer>> indexSets = arrayIndexToWrite.iterator();
+        BinaryCodec.writeUnsignedVarInt(output, getBitSet(indexSets.next()));
+        BinaryCodec.writeUnsignedVarInt(output, getBitSet(indexSets.next()));
+    }
+
+    /**
+     * Read the set of like indexes and the set of prev indexes written by <code>writeBinary()</code>. <br>
+     * The sets are validated the same way as tokenized indexes. <br>
+     *
+     * @param input Input positioned after the file header.
+     * @return ArrayList that contains set of like indexes for the first entry
+     *      and set of prev indexes for the second entry <br>
+     * @throws IOException when the bitsets cannot be read.
+     * @throws TokenizerException when a bitset is not a valid set of indexes.
+     */
+    @Override
+    public ArrayList<Set<Integer>> readBinary(DataInput input) throws IOException, TokenizerException {
+        ArrayList<Set<Integer>> detokenizedIndexes = new ArrayList<>();
+        detokenizedIndexes.add(getSetFromBits(BinaryCodec.readUnsignedVarInt(input), LIKE_KEY));
+        detokenizedIndexes.add(getSetFromBits(BinaryCodec.readUnsignedVarInt(input), PREV_KEY));
         return detokenizedIndexes;
     }
+
+    private int getBitSet(Set<Integer> indexes) {
+        int bits = NO_INDEXES;
+        for (int index : indexes) {
+            bits |= 1 << index;
+        }
+        return bits;
+    }
+
+    private Set<Integer> getSetFromBits(int bits, String categoryKey) throws TokenizerException {
+        boolean hasInvalidIndex = (bits & ~VALID_INDEX_BITS) != NO_INDEXES;
+        boolean hasWrongNumOfPrev = categoryKey.equals(PREV_KEY) && bits != NO_INDEXES
+                && Integer.bitCount(bits) != NUM_PREV_INDEX;
+        if (hasInvalidIndex || hasWrongNumOfPrev) {
+            throw new TokenizerException(String.format(DETOKENIZE_ERROR_MESSAGE, categoryKey,
+                    Integer.toBinaryString(bits)));
+        }
+        Set<Integer> outputIndexes = new HashSet<>();
+        for (int index = INDEX_ZERO; index <= INDEX_NINE; index++) {
+            if ((bits & (1 << index)) != NO_INDEXES) {
+                outputIndexes.add(index);
+            }
+        }
+        return outputIndexes;
+    }
+
+    /**
+     * Detokenizer that only keeps the first two lines, as any more make the reflection data invalid.
+     */
+    private class ReflectionDetokenizer implements Detokenizer<Set<Integer>> {
+        private final String[] tokenizedLines = new String[TOKENIZER_INDEX_ARRAYLIST_SIZE];
+        private int numOfLines = INDEX_ZERO;
+
+        @Override
+        public void accept(String tokenizedLine) {
+            if (numOfLines < TOKENIZER_INDEX_ARRAYLIST_SIZE) {
+                tokenizedLines[numOfLines] = tokenizedLine;
+            }
+            numOfLines += INDEX_ONE;
+        }
+
+        @Override
+        public ArrayList<Set<Integer>> finish() throws TokenizerException {
+            ArrayList<Set<Integer>> detokenizedIndexes = new ArrayList<>();
+            Set<Integer> detokenizedLike = new HashSet<>();
+            Set<Integer> detokenizedPrev = new HashSet<>();
+            if (numOfLines == TOKENIZER_INDEX_ARRAYLIST_SIZE) {
+                detokenizedLike = validateTokenizedIndexFormat(tokenizedLines[LIKE_INDEX], LIKE_KEY);
+                detokenizedPrev = validateTokenizedIndexFormat(tokenizedLines[PREV_INDEX], PREV_KEY);
+            } else if (numOfLines > INDEX_ZERO && !tokenizedLines[INDEX_ZERO].isBlank()) {
+                throw new TokenizerException(INVALID_NUM_OF_LINES_ERRROR);
+            }
+            detokenizedIndexes.add(detokenizedLike);
+            detokenizedIndexes.add(detokenizedPrev);
+            return detokenizedIndexes;
+        }
+    }
 }
 
@@ -0,0 +1,188 @@
+package wellnus.storage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import wellnus.exception.TokenizerException;
+import wellnus.focus.feature.SessionSnapshot;
+
+/**
+ * Class to tokenize and detokenize the snapshot of a Focus Timer session. <br>
+ * A snapshot is tokenized as <code>--cycle [cycle] --work [minutes] --break [minutes] --longbreak [minutes]
+ * --index [index] --state [state] --remaining [milliseconds] --savedat [epoch milliseconds]</code>.
+ */
+public class SessionSnapshotTokenizer implements StreamingTokenizer<SessionSnapshot> {
+    private static final String CYCLE_KEY = "cycle";
+    private static final String WORK_KEY = "work";
+    private static final String BREAK_KEY = "break";
+    private static final String LONG_BREAK_KEY = "longbreak";
+    private static final String INDEX_KEY = "index";
+    private static final String STATE_KEY = "state";
+    private static final String REMAINING_KEY = "remaining";
+    private static final String SAVED_AT_KEY = "savedat";
+    private static final String SNAPSHOT_FORMAT = "--cycle %d --work %d --break %d --longbreak %d --index %d "
+            + "--state %s --remaining %d --savedat %d";
+    private static final String PARAMETER_DELIMITER = "--";
+    private static final String KEY_VALUE_SEPARATOR = " ";
+    private static final String DETOKENIZE_ERROR_MESSAGE = "Invalid focus session data '%s' found in storage!";
+    private static final int KEY_VALUE_PARTS = 2;
+    // Same limits as ConfigCommand, so a data file cannot restore a session 'config' would reject
+    private static final int MIN_CYCLE = 2;
+    private static final int MIN_MINUTES = 1;
+    private static final int MAX_CYCLE = 5;
+    private static final int MAX_MINUTES = 60;
+    private static final int MIN_INDEX = 0;
+    private static final int COUNTDOWNS_PER_CYCLE = 2;
+    private static final long MILLIS_PER_MINUTE = 60_000;
+
+    private String tokenize(SessionSnapshot snapshot) {
+        return String.format(SNAPSHOT_FORMAT, snapshot.getCycle(), snapshot.getWork(), snapshot.getBrk(),
+                snapshot.getLongBrk(), snapshot.getCountdownIndex(), snapshot.getState().name().toLowerCase(),
+                snapshot.getRemainingMillis(), snapshot.getSavedAtMillis());
+    }
+
+    /**
+     * Converts the given SessionSnapshots into their String representation.
+     *
+     * @param dataObjects List of SessionSnapshots we want to convert into a String representation
+     * @return ArrayList of Strings representing the SessionSnapshots that we can write to storage
+     */
+    @Override
+    public ArrayList<String> tokenize(ArrayList<SessionSnapshot> dataObjects) {
+        ArrayList<String> tokenizedObjects = new ArrayList<>();
+        tokenize(dataObjects, tokenizedObjects::add);
+        return tokenizedObjects;
+    }
+
+    /**
+     * Converts SessionSnapshots into their String representation one by one.
+     *
+     * @param dataObjects SessionSnapshots we want to convert into a String representation
+     * @param consumer Receiver of each String representation
+     * @param <E> Exception the consumer may throw
+     * @throws E If the consumer does not accept a String representation
+     */
+    @Override
+    public <E extends Exception> void tokenize(Iterable<SessionSnapshot> dataObjects, EntryConsumer<E> consumer)
+            throws E {
+        for (SessionSnapshot snapshot : dataObjects) {
+            consumer.accept(tokenize(snapshot));
+        }
+    }
+
+    /**
+     * Converts the String representation of SessionSnapshots back into SessionSnapshots.
+     *
+     * @param tokenizedDataObjects String representation of the SessionSnapshots we want to restore
+     * @return ArrayList containing the SessionSnapshots that were saved
+     * @throws TokenizerException If a String representation is not a valid SessionSnapshot
+     */
+    @Override
+    public ArrayList<SessionSnapshot> detokenize(ArrayList<String> tokenizedDataObjects) throws TokenizerException {
+        Detokenizer<SessionSnapshot> detokenizer = newDetokenizer();
+        for (String tokenizedDataObject : tokenizedDataObjects) {
+            detokenizer.accept(tokenizedDataObject);
+        }
+        return detokenizer.finish();
+    }
+
+    /**
+     * Returns a Detokenizer that restores each SessionSnapshot as soon as its String representation is read.
+     *
+     * @return Detokenizer for a single load of focus session data
+     */
+    @Override
+    public Detokenizer<SessionSnapshot> newDetokenizer() {
+        return new SessionSnapshotDetokenizer();
+    }
+
+    private static HashMap<String, String> getParameters(String tokenizedSnapshot) throws TokenizerException {
+        HashMap<String, String> parameters = new HashMap<>();
+        String[] tokenizedParameters = tokenizedSnapshot.strip().split(PARAMETER_DELIMITER);
+        // Anything before the first delimiter is ignored, like in the other data files
+        for (int i = 1; i < tokenizedParameters.length; i++) {
+            String[] keyValue = tokenizedParameters[i].strip().split(KEY_VALUE_SEPARATOR, KEY_VALUE_PARTS);
+            if (keyValue.length != KEY_VALUE_PARTS) {
+                throw new TokenizerException(String.format(DETOKENIZE_ERROR_MESSAGE, tokenizedSnapshot));
+            }
+            parameters.put(keyValue[0], keyValue[1].strip());
+        }
+        return parameters;
+    }
+
+    private static long getNumber(HashMap<String, String> parameters, String key, long min, long max,
+            String tokenizedSnapshot) throws TokenizerException {
+        long number;
+        try {
+            number = Long.parseLong(parameters.get(key));
+        } catch (NumberFormatException numberFormatException) {
+            throw new TokenizerException(String.format(DETOKENIZE_ERROR_MESSAGE, tokenizedSnapshot));
+        }
+        if (number < min || number > max) {
+            throw new TokenizerException(String.format(DETOKENIZE_ERROR_MESSAGE, tokenizedSnapshot));
+        }
+        return number;
+    }
+
+    private static SessionSnapshot.State getState(HashMap<String, String> parameters, String tokenizedSnapshot)
+            throws TokenizerException {
+        String state = parameters.get(STATE_KEY);
+        if (state == null) {
+            throw new TokenizerException(String.format(DETOKENIZE_ERROR_MESSAGE, tokenizedSnapshot));
+        }
+        try {
+            return SessionSnapshot.State.valueOf(state.toUpperCase());
+        } catch (IllegalArgumentException illegalArgumentException) {
+            throw new TokenizerException(String.format(DETOKENIZE_ERROR_MESSAGE, tokenizedSnapshot));
+        }
+    }
+
+    // Mirrors the plan of Session: work and break alternate, and the last countdown is the long break
+    private static int getCountdownMinutes(int index, int cycle, int work, int brk, int longBrk) {
+        if (index == cycle * COUNTDOWNS_PER_CYCLE - 1) {
+            return longBrk;
+        }
+        if (index % COUNTDOWNS_PER_CYCLE == 0) {
+            return work;
+        }
+        return brk;
+    }
+
+    /**
+     * Detokenizer that converts each line of the focus session data file into a SessionSnapshot.
+     */
+    private static class SessionSnapshotDetokenizer implements Detokenizer<SessionSnapshot> {
+        private final ArrayList<SessionSnapshot> dataObjects = new ArrayList<>();
+
+        @Override
+        public void accept(String tokenizedSnapshot) throws TokenizerException {
+            // Data file contains blank lines
+            if (tokenizedSnapshot.isBlank()) {
+                return;
+            }
+            HashMap<String, String> parameters = getParameters(tokenizedSnapshot);
+            // Bounds are checked before narrowing, so an out-of-range value cannot wrap into a valid int
+            int cycle = (int) getNumber(parameters, CYCLE_KEY, MIN_CYCLE, MAX_CYCLE, tokenizedSnapshot);
+            int work = (int) getNumber(parameters, WORK_KEY, MIN_MINUTES, MAX_MINUTES, tokenizedSnapshot);
+            int brk = (int) getNumber(parameters, BREAK_KEY, MIN_MINUTES, MAX_MINUTES, tokenizedSnapshot);
+            int longBrk = (int) getNumber(parameters, LONG_BREAK_KEY, MIN_MINUTES, MAX_MINUTES, tokenizedSnapshot);
+            int index = (int) getNumber(parameters, INDEX_KEY, MIN_INDEX, Integer.MAX_VALUE, tokenizedSnapshot);
+            if (index >= cycle * COUNTDOWNS_PER_CYCLE) {
+                throw new TokenizerException(String.format(DETOKENIZE_ERROR_MESSAGE, tokenizedSnapshot));
+            }
+            SessionSnapshot.State state = getState(parameters, tokenizedSnapshot);
+            // A countdown never has more time left than its full length
+            long maxRemainingMillis = getCountdownMinutes(index, cycle, work, brk, longBrk) * MILLIS_PER_MINUTE;
+            long remainingMillis = getNumber(parameters, REMAINING_KEY, 0, maxRemainingMillis, tokenizedSnapshot);
+            long savedAtMillis = getNumber(parameters, SAVED_AT_KEY, 0, Long.MAX_VALUE,
+                    tokenizedSnapshot);
+            dataObjects.add(new SessionSnapshot(cycle, work, brk, longBrk, index, state, remainingMillis,
+                    savedAtMillis));
+        }
+
+        @Override
+        public ArrayList<SessionSnapshot> finish() {
+            return dataObjects;
+        }
+    }
+}
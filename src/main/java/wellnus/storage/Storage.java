@@ -1,21 +1,27 @@
 package wellnus.storage;
 
 import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Scanner;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import wellnus.common.WellNusLogger;
 import wellnus.exception.StorageException;
+import wellnus.exception.TokenizerException;
 
 //@@author nichyjt
 
@@ -29,6 +35,16 @@ import wellnus.exception.StorageException;
  * To load data, the manager should call <code>loadData()</code> and input the correct filename of
  * the data to be loaded. The filename should be obtained from the public constant Storage.FILE_[name].
  * <p>
+ * Managers that save after every change should call <code>scheduleSave()</code> instead, which lets
+ * the StorageFlusher coalesce a burst of saves into a single write per file.
+ * <p>
+ * Features share the instance returned by <code>Storage.getInstance()</code>. It resolves the path of every
+ * registered file once and only checks a data file on disk the first time it is used.
+ * <p>
+ * Managers with a StreamingTokenizer can call <code>loadObjects()</code> and <code>saveObjects()</code>
+ * instead, which detokenize entries as they are read and write them as they are tokenized.
+ * Their data can also be kept in a compact binary format, see StorageFormat.
+ * <p>
  */
 public class Storage {
     // These constant strings are intentionally made public
@@ -36,12 +52,18 @@ public class Storage {
     public static final String FILE_HABIT = "habit";
     public static final String FILE_REFLECT = "reflect";
     public static final String FILE_GAMIFICATION = "gamif";
+    public static final String FILE_FOCUS = "focus";
     protected static final String FILE_DEBUG = "debug";
+    private static final String[] REGISTERED_FILE_NAMES = {FILE_HABIT, FILE_REFLECT, FILE_GAMIFICATION, FILE_FOCUS,
+        FILE_DEBUG};
 
     // Delimiter constants
     protected static final String DELIMITER = " --" + System.lineSeparator();
     protected static final String NEWLINE = System.lineSeparator();
     private static final String FILE_EXTENTION = ".txt";
+    private static final String JOURNAL_EXTENSION = ".journal";
+    private static final String TEMP_EXTENSION = ".tmp";
+    private static final String BINARY_EXTENSION = ".bin";
     private static final String WORKING_DIRECTORY = ".";
     private static final String DATA_DIRECTORY_NAME = "data";
 
@@ -67,8 +89,37 @@ public class Storage {
             + "Check if this method was called before any data file instantiation?";
     private static final String LOG_INVALID_FILENAME = "WellNUS++ cannot create the file as its name is invalid.\n"
             + "Check if its filename is registered in the Storage class.";
+    private static final String LOG_INVALID_FSYNC_POLICY = "Unknown fsync policy '%s', using '%s' instead.";
+    private static final String LOG_INVALID_STORAGE_FORMAT = "Unknown storage format '%s', using '%s' instead.";
+    private static final String LOG_LOADED_ENTRIES = "Loaded %d entries from '%s'.";
+    private static final String LOG_LOADED_BINARY_ENTRIES = "Loaded %d entries from the binary data file of '%s'.";
+    private static final String LOG_SAVED_ENTRIES = "Saved %d entries to '%s'.";
+    private static final String LOG_CANNOT_SYNC_DIRECTORY = "WellNUS++ could not force the data directory to disk.";
+    private static final String LOG_CANNOT_VERIFY_DIRECTORY = "WellNUS++ could not set up the data directory yet, "
+            + "it will be retried on the first save or load.";
     private static final int FILENAME_EMPTY = 0;
+    private static final String FSYNC_PROPERTY = "wellnus.storage.fsync";
+    private static final FsyncPolicy DEFAULT_FSYNC_POLICY = FsyncPolicy.BATCHED;
+    // Under FsyncPolicy.BATCHED, every n-th write is forced onto the disk
+    private static final int FSYNC_BATCH_SIZE = 8;
+    private static final String JOURNAL_PROPERTY = "wellnus.storage.journal";
+    private static final boolean DEFAULT_IS_JOURNALED = true;
+    private static final String FORMAT_PROPERTY = "wellnus.storage.format";
+    private static final StorageFormat DEFAULT_STORAGE_FORMAT = StorageFormat.TEXT;
+    // Journals are shared by all Storage instances so that every instance diffs against what is really on disk
+    private static final HashMap<Path, StorageJournal> journals = new HashMap<>();
+    // Saves may now come from the StorageFlusher thread as well, so disk access is serialized across instances
+    private static final Object diskLock = new Object();
+    private static Storage instance;
     private Path wellNusDataDirectory;
+    // Key: registered file name. Value: path of its data file, resolved once
+    private final HashMap<String, Path> dataPaths = new HashMap<>();
+    // Names of the data files that have already been checked to exist, guarded by diskLock
+    private final HashSet<String> verifiedFileNames = new HashSet<>();
+    private boolean isJournaled;
+    private FsyncPolicy fsyncPolicy;
+    private StorageFormat storageFormat;
+    private int writesSinceLastSync = 0;
 
     /**
      * Construct an instance of Storage to call saveData and loadData from.
@@ -77,25 +128,156 @@ public class Storage {
      */
     //@@author nichyjt
     public Storage() throws StorageException {
-        wellNusDataDirectory = Paths.get(WORKING_DIRECTORY, DATA_DIRECTORY_NAME);
+        this(Paths.get(WORKING_DIRECTORY, DATA_DIRECTORY_NAME));
         // For safety, check that the data folder actually exists
         // If it doesn't, create it.
         verifyDataDirectory();
     }
 
+    private Storage(Path wellNusDataDirectory) {
+        this.wellNusDataDirectory = wellNusDataDirectory;
+        isJournaled = Boolean.parseBoolean(System.getProperty(JOURNAL_PROPERTY,
+                String.valueOf(DEFAULT_IS_JOURNALED)));
+        fsyncPolicy = getFsyncPolicyFromProperty();
+        storageFormat = getStorageFormatFromProperty();
+        for (String fileName : REGISTERED_FILE_NAMES) {
+            dataPaths.put(fileName, wellNusDataDirectory.resolve(fileName + FILE_EXTENTION));
+        }
+    }
+
+    /**
+     * Returns the Storage shared by all features of WellNUS++, creating it on first use. <br>
+     * <p>
+     * Unlike the constructor, this never fails: if the data directory cannot be set up yet,
+     * the error is reported by the first save or load instead.
+     *
+     * @return the process-wide Storage
+     */
+    public static synchronized Storage getInstance() {
+        if (instance == null) {
+            instance = new Storage(Paths.get(WORKING_DIRECTORY, DATA_DIRECTORY_NAME));
+            try {
+                instance.verifyDataDirectory();
+            } catch (StorageException exception) {
+                LOGGER.log(Level.WARNING, LOG_CANNOT_VERIFY_DIRECTORY);
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Checks if saves are appended to a journal instead of rewriting the whole data file.
+     *
+     * @return boolean representing if journaled mode is on
+     */
+    public boolean isJournaled() {
+        return isJournaled;
+    }
+
+    /**
+     * Turns journaled mode on or off for this instance of Storage. <br>
+     * <p>
+     * The default can also be set with the <code>wellnus.storage.journal</code> system property.
+     *
+     * @param isJournaled whether saves should be appended to a journal
+     */
+    public void setJournaled(boolean isJournaled) {
+        this.isJournaled = isJournaled;
+    }
+
+    public FsyncPolicy getFsyncPolicy() {
+        return fsyncPolicy;
+    }
+
+    /**
+     * Sets when writes made by this instance of Storage are forced onto the disk. <br>
+     * <p>
+     * The default can also be set with the <code>wellnus.storage.fsync</code> system property,
+     * e.g. <code>-Dwellnus.storage.fsync=always</code>.
+     *
+     * @param fsyncPolicy policy deciding when writes are forced onto the disk
+     */
+    public void setFsyncPolicy(FsyncPolicy fsyncPolicy) {
+        assert fsyncPolicy != null : "fsyncPolicy should not be null!";
+        this.fsyncPolicy = fsyncPolicy;
+    }
+
+    private FsyncPolicy getFsyncPolicyFromProperty() {
+        String policyName = System.getProperty(FSYNC_PROPERTY, DEFAULT_FSYNC_POLICY.name());
+        try {
+            return FsyncPolicy.valueOf(policyName.strip().toUpperCase());
+        } catch (IllegalArgumentException exception) {
+            LOGGER.log(Level.WARNING, () -> String.format(LOG_INVALID_FSYNC_POLICY, policyName, DEFAULT_FSYNC_POLICY));
+            return DEFAULT_FSYNC_POLICY;
+        }
+    }
+
+    public StorageFormat getStorageFormat() {
+        return storageFormat;
+    }
+
+    /**
+     * Sets the format that <code>saveObjects()</code> and <code>scheduleSave()</code> write data objects in. <br>
+     * <p>
+     * The default can also be set with the <code>wellnus.storage.format</code> system property,
+     * e.g. <code>-Dwellnus.storage.format=binary</code>. Data files in the other format are still loaded,
+     * and converted to this format the next time they are saved.
+     *
+     * @param storageFormat format to write data objects in
+     */
+    public void setStorageFormat(StorageFormat storageFormat) {
+        assert storageFormat != null : "storageFormat should not be null!";
+        this.storageFormat = storageFormat;
+    }
+
+    private StorageFormat getStorageFormatFromProperty() {
+        String formatName = System.getProperty(FORMAT_PROPERTY, DEFAULT_STORAGE_FORMAT.name());
+        try {
+            return StorageFormat.valueOf(formatName.strip().toUpperCase());
+        } catch (IllegalArgumentException exception) {
+            LOGGER.log(Level.WARNING, () -> String.format(LOG_INVALID_STORAGE_FORMAT, formatName,
+                    DEFAULT_STORAGE_FORMAT));
+            return DEFAULT_STORAGE_FORMAT;
+        }
+    }
+
+    /**
+     * Decides whether the next write should be forced onto the disk, according to the fsync policy.
+     *
+     * @return boolean representing if the next write should be forced
+     */
+    private boolean shouldForceWrite() {
+        switch (fsyncPolicy) {
+        case ALWAYS:
+            return true;
+        case BATCHED:
+            writesSinceLastSync += 1;
+            if (writesSinceLastSync < FSYNC_BATCH_SIZE) {
+                return false;
+            }
+            writesSinceLastSync = 0;
+            return true;
+        default:
+            return false;
+        }
+    }
+
     /**
      * Method to check if the specific file exists.
      * Used to check if the file exists before attempting to load it for atomic habit manager.
+     * A file saved in the binary format counts as existing too.
      *
      * @param fileName name of the file storing the feature data
      * @return boolean representing if the file exists
      * @throws StorageException When querying the fileName fails
      */
     public boolean checkFileExists(String fileName) throws StorageException {
-        Path pathToFile;
+        Path pathToFile = dataPaths.get(fileName);
         File dataFile;
         try {
-            pathToFile = wellNusDataDirectory.resolve(fileName + FILE_EXTENTION);
+            if (pathToFile == null) {
+                pathToFile = wellNusDataDirectory.resolve(fileName + FILE_EXTENTION);
+            }
             dataFile = pathToFile.toFile();
         } catch (InvalidPathException exception) {
             String errorMessage = ERROR_CANNOT_RESOLVE_PATH;
@@ -106,7 +288,7 @@ public class Storage {
             errorMessage = errorMessage.concat(exception.getMessage());
             throw new StorageException(errorMessage);
         }
-        return dataFile.exists();
+        return dataFile.exists() || Files.exists(getBinaryPath(pathToFile));
     }
 
     /**
@@ -122,6 +304,7 @@ public class Storage {
         case FILE_GAMIFICATION:
         case FILE_HABIT:
         case FILE_REFLECT:
+        case FILE_FOCUS:
         case FILE_DEBUG:
             // fallthrough
             return true;
@@ -146,7 +329,9 @@ public class Storage {
     }
 
     /**
-     * Creates a <code>File</code> relative to the data folder.
+     * Creates a <code>File</code> relative to the data folder. <br>
+     * <p>
+     * The data folder and file are only checked, and created if missing, the first time a file is retrieved.
      *
      * @param fileName data file to retrieve
      */
@@ -157,24 +342,24 @@ public class Storage {
             LOGGER.log(Level.WARNING, LOG_INVALID_FILENAME);
             throw new StorageException(ERROR_INVALID_FILENAME);
         }
-        verifyDataDirectory();
-        Path pathToFile;
         File dataFile;
         try {
-            pathToFile = wellNusDataDirectory.resolve(fileName + FILE_EXTENTION);
-            dataFile = pathToFile.toFile();
-        } catch (InvalidPathException exception) {
-            String errorMessage = ERROR_CANNOT_RESOLVE_PATH;
-            errorMessage = errorMessage.concat(exception.getMessage());
-            throw new StorageException(errorMessage);
+            dataFile = dataPaths.get(fileName).toFile();
         } catch (UnsupportedOperationException exception) {
             String errorMessage = ERROR_GENERAL;
             errorMessage = errorMessage.concat(exception.getMessage());
             throw new StorageException(errorMessage);
         }
-        boolean fileExists = dataFile.exists();
-        if (!fileExists) {
-            createFile(dataFile);
+        synchronized (diskLock) {
+            if (verifiedFileNames.contains(fileName)) {
+                return dataFile;
+            }
+            verifyDataDirectory();
+            boolean fileExists = dataFile.exists();
+            if (!fileExists) {
+                createFile(dataFile);
+            }
+            verifiedFileNames.add(fileName);
         }
         return dataFile;
     }
@@ -234,18 +419,6 @@ public class Storage {
         return stringBuilder.toString();
     }
 
-    /**
-     * Splits a dataString by the " --\n" delimiter.
-     *
-     * @param dataString string to be split
-     * @return String[] of words belonging to the dataString
-     */
-    //@@author nichyjt
-    private String[] splitIntoEntries(String dataString) {
-        assert dataString != null : ASSERT_STRING_NOT_NULL;
-        return dataString.split(DELIMITER);
-    }
-
     /**
      * Detokenizing raw dataString into ArrayList of strings, where each string
      * is an entry in the associated Manager's data structure.
@@ -256,48 +429,266 @@ public class Storage {
     //@@author nichyjt
     protected ArrayList<String> detokenizeDataString(String dataString) {
         assert dataString != null : ASSERT_STRING_NOT_NULL;
-        String[] entries = splitIntoEntries(dataString);
-        return new ArrayList<>(Arrays.asList(entries));
+        ByteBuffer dataBytes = StandardCharsets.UTF_8.encode(dataString);
+        return StorageSnapshot.splitEntries(dataBytes, StandardCharsets.UTF_8);
+    }
+
+    private Path getTempPath(Path path) {
+        return path.resolveSibling(path.getFileName() + TEMP_EXTENSION);
     }
 
-    private void writeDataToDisk(String data, File file) throws StorageException {
-        assert data != null : ASSERT_STRING_NOT_NULL;
+    private Path getBinaryPath(Path dataPath) {
+        String dataFileName = dataPath.getFileName().toString();
+        String baseName = dataFileName.substring(0, dataFileName.length() - FILE_EXTENTION.length());
+        return dataPath.resolveSibling(baseName + BINARY_EXTENSION);
+    }
+
+    /**
+     * Writes entries to a temporary sibling of the file, then moves it over the file in one step.
+     *
+     * @param source supplier of the entries to be written
+     * @param file   file to be replaced
+     * @return StorageSnapshot holding the checksum and size of the written file
+     * @throws StorageException when there are unexpected IO errors
+     */
+    private StorageSnapshot writeDataToDisk(StorageSnapshot.EntrySource source, File file)
+            throws StorageException {
+        assert source != null : ASSERT_LIST_NOT_NULL;
         assert file != null : ASSERT_FILE_NOT_NULL;
-        // assume file exists
+        return replaceAtomically(file.toPath(), (tempPath, isForced) ->
+                StorageSnapshot.write(tempPath, source, Charset.defaultCharset(), isForced));
+    }
+
+    /**
+     * Writes a file through a temporary sibling, then moves it over the file in one step.
+     * <p>
+     * This way the file either holds its old contents or the new contents, even if WellNUS++ crashes midway.
+     *
+     * @param filePath path of the file to be replaced
+     * @param writer   writer of the temporary file
+     * @param <R>      result of the writer
+     * @return result of the writer
+     * @throws StorageException when there are unexpected IO errors
+     */
+    private <R> R replaceAtomically(Path filePath, TempFileWriter<R> writer) throws StorageException {
+        Path tempPath = getTempPath(filePath);
+        boolean isForced = shouldForceWrite();
+        R result;
         try {
-            FileWriter writer = new FileWriter(file.getAbsolutePath());
-            writer.write(data);
-            writer.close();
+            result = writer.write(tempPath, isForced);
+            moveAtomically(tempPath, filePath);
         } catch (IOException exception) {
             LOGGER.log(Level.SEVERE, LOG_MISSING_FILE);
             String errorMessage = ERROR_CANNOT_WRITE_FILE;
             errorMessage = errorMessage.concat(exception.getMessage());
             throw new StorageException(errorMessage);
         }
+        if (isForced && fsyncPolicy == FsyncPolicy.ALWAYS) {
+            forceDataDirectory();
+        }
+        return result;
+    }
+
+    private void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException exception) {
+            // Some file systems cannot replace a file atomically, fall back to a plain replace
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
     }
 
-    private String loadDataFromDisk(File file) throws StorageException {
+    /**
+     * Forces the data directory onto the disk so that a file which was just moved into it survives a crash.
+     * Not every OS allows directories to be opened, in which case this is skipped.
+     */
+    private void forceDataDirectory() {
+        try (FileChannel directory = FileChannel.open(wellNusDataDirectory, StandardOpenOption.READ)) {
+            directory.force(true);
+        } catch (IOException exception) {
+            LOGGER.log(Level.FINE, LOG_CANNOT_SYNC_DIRECTORY);
+        }
+    }
+
+    private Path getJournalPath(File file) {
+        return file.toPath().resolveSibling(file.getName() + JOURNAL_EXTENSION);
+    }
+
+    /**
+     * Writes all entries to the data file and discards the journal, which the new snapshot supersedes.
+     *
+     * @param tokenizedManager ArrayList of tokenized Manager data string
+     * @param file             data file to write to
+     * @throws StorageException when there are unexpected IO errors
+     */
+    private void writeSnapshot(ArrayList<String> tokenizedManager, File file) throws StorageException {
+        StorageSnapshot snapshot = writeDataToDisk(consumer -> {
+            for (String entry : tokenizedManager) {
+                consumer.accept(entry);
+            }
+        }, file);
+        Path journalPath = getJournalPath(file);
+        StorageJournal journal = null;
+        if (isJournaled) {
+            journal = new StorageJournal(journalPath, tokenizedManager, snapshot.getChecksum(), snapshot.getSize());
+        }
+        replaceJournal(journalPath, journal);
+        deleteLeftoverFile(journalPath);
+        // The text file now holds the latest data
+        deleteLeftoverFile(getBinaryPath(file.toPath()));
+    }
+
+    /**
+     * Writes data objects to the binary data file, then removes the text data file and its journal,
+     * which the binary file supersedes.
+     *
+     * @param dataObjects data objects to be written
+     * @param tokenizer   BinaryTokenizer of the feature
+     * @param file        text data file of the feature
+     * @param <T>         data type of the feature
+     * @throws StorageException when there are unexpected IO errors
+     */
+    private <T> void writeBinarySnapshot(Iterable<T> dataObjects, BinaryTokenizer<T> tokenizer, File file)
+            throws StorageException {
+        verifyDataDirectory();
+        replaceAtomically(getBinaryPath(file.toPath()), (tempPath, isForced) ->
+                BinarySnapshot.write(tempPath, tokenizer, dataObjects, isForced));
+        Path journalPath = getJournalPath(file);
+        replaceJournal(journalPath, null);
+        deleteLeftoverFile(journalPath);
+        deleteLeftoverFile(file.toPath());
+    }
+
+    /**
+     * Reads the data objects of a binary data file.
+     *
+     * @param binaryPath path of the binary data file
+     * @param tokenizer  BinaryTokenizer of the feature
+     * @param <T>        data type of the feature
+     * @return ArrayList of the feature's data objects
+     * @throws StorageException   when the binary data file cannot be read
+     * @throws TokenizerException when the binary data file does not hold valid data
+     */
+    private <T> ArrayList<T> loadBinaryFromDisk(Path binaryPath, BinaryTokenizer<T> tokenizer)
+            throws StorageException, TokenizerException {
+        deleteLeftoverFile(getTempPath(binaryPath));
+        try {
+            return BinarySnapshot.read(binaryPath, tokenizer);
+        } catch (IOException exception) {
+            LOGGER.log(Level.SEVERE, LOG_ACCESS_ERROR);
+            String errorMessage = ERROR_CANNOT_LOAD_FILE;
+            errorMessage = errorMessage.concat(exception.getMessage());
+            throw new StorageException(errorMessage);
+        }
+    }
+
+    /**
+     * Checks if a feature's data should be loaded from its binary data file: when it is the selected format,
+     * or when there is no text data file to load instead.
+     *
+     * @param dataPath  path of the text data file
+     * @param tokenizer StreamingTokenizer of the feature
+     * @return boolean representing if the binary data file should be loaded
+     */
+    private boolean isBinaryLoaded(Path dataPath, StreamingTokenizer<?> tokenizer) {
+        if (!(tokenizer instanceof BinaryTokenizer) || !Files.exists(getBinaryPath(dataPath))) {
+            return false;
+        }
+        return storageFormat == StorageFormat.BINARY || !Files.exists(dataPath);
+    }
+
+    /**
+     * Replaces the journal state kept for a data file, closing the old journal's channel.
+     * This must happen before the journal file is deleted, or later appends would go to the deleted file.
+     *
+     * @param journalPath path of the journal file
+     * @param journal     new journal state, or null to stop tracking the journal
+     */
+    private void replaceJournal(Path journalPath, StorageJournal journal) {
+        StorageJournal oldJournal;
+        synchronized (journals) {
+            if (journal == null) {
+                oldJournal = journals.remove(journalPath);
+            } else {
+                oldJournal = journals.put(journalPath, journal);
+            }
+        }
+        if (oldJournal != null && oldJournal != journal) {
+            oldJournal.close();
+        }
+    }
+
+    private void deleteLeftoverFile(Path path) throws StorageException {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException exception) {
+            LOGGER.log(Level.SEVERE, LOG_ACCESS_ERROR);
+            String errorMessage = ERROR_CANNOT_DELETE_FILE;
+            errorMessage = errorMessage.concat(exception.getMessage());
+            throw new StorageException(errorMessage);
+        }
+    }
+
+    /**
+     * Appends the changed entries to the data file's journal.
+     * The journal is compacted into the data file instead once it grows too big.
+     *
+     * @param tokenizedManager ArrayList of tokenized Manager data string
+     * @param file             data file that the journal belongs to
+     * @throws StorageException when there are unexpected IO errors
+     */
+    private void saveToJournal(ArrayList<String> tokenizedManager, File file) throws StorageException {
+        StorageJournal journal;
+        synchronized (journals) {
+            journal = journals.get(getJournalPath(file));
+        }
+        // We have not loaded this file before, so there is nothing to diff against
+        if (journal == null || journal.needsCompaction()) {
+            writeSnapshot(tokenizedManager, file);
+            return;
+        }
+        journal.append(tokenizedManager, shouldForceWrite());
+    }
+
+    /**
+     * Reads a data file in one pass and splits it into entries.
+     *
+     * @param file data file to read
+     * @return StorageSnapshot holding the entries of the data file
+     * @throws StorageException when the data file cannot be read
+     */
+    private StorageSnapshot loadDataFromDisk(File file) throws StorageException {
         assert file != null : ASSERT_FILE_NOT_NULL;
         // assume file exists
-        StringBuilder data = new StringBuilder();
         try {
-            Scanner reader = new Scanner(file);
-            while (reader.hasNextLine()) {
-                data.append(reader.nextLine()).append(NEWLINE);
-            }
-            reader.close();
-        } catch (FileNotFoundException exception) {
+            return StorageSnapshot.read(file.toPath(), Charset.defaultCharset());
+        } catch (IOException exception) {
             LOGGER.log(Level.SEVERE, LOG_ACCESS_ERROR);
             String errorMessage = ERROR_CANNOT_LOAD_FILE;
             errorMessage = errorMessage.concat(exception.getMessage());
             throw new StorageException(errorMessage);
-        } catch (IllegalStateException exception) {
+        }
+    }
+
+    /**
+     * Reads a data file in one pass and hands each entry to the Detokenizer as soon as it is found.
+     *
+     * @param file        data file to read
+     * @param detokenizer receiver of every entry in the data file
+     * @throws StorageException   when the data file cannot be read
+     * @throws TokenizerException when the Detokenizer does not accept an entry
+     */
+    private void streamDataFromDisk(File file, StreamingTokenizer.Detokenizer<?> detokenizer)
+            throws StorageException, TokenizerException {
+        assert file != null : ASSERT_FILE_NOT_NULL;
+        try {
+            StorageSnapshot.stream(file.toPath(), Charset.defaultCharset(), detokenizer);
+        } catch (IOException exception) {
             LOGGER.log(Level.SEVERE, LOG_ACCESS_ERROR);
-            String errorMessage = ERROR_GENERAL;
+            String errorMessage = ERROR_CANNOT_LOAD_FILE;
             errorMessage = errorMessage.concat(exception.getMessage());
             throw new StorageException(errorMessage);
         }
-        return data.toString();
     }
 
     /**
@@ -321,15 +712,132 @@ public class Storage {
             LOGGER.log(Level.WARNING, LOG_INVALID_FILENAME);
             throw new StorageException(ERROR_INVALID_FILENAME);
         }
-        File file = getFile(fileName);
-        String tokenizedString = tokenizeStringList(tokenizedManager);
-        writeDataToDisk(tokenizedString, file);
+        synchronized (diskLock) {
+            File file = getFile(fileName);
+            try {
+                if (isJournaled) {
+                    saveToJournal(tokenizedManager, file);
+                } else {
+                    writeSnapshot(tokenizedManager, file);
+                }
+                LOGGER.log(Level.FINE, () -> String.format(LOG_SAVED_ENTRIES, tokenizedManager.size(), fileName));
+            } catch (StorageException exception) {
+                // The data directory may have been removed behind our back, so check it again next time
+                verifiedFileNames.remove(fileName);
+                throw exception;
+            }
+        }
+    }
+
+    /**
+     * Schedule the pre-tokenized data to be saved onto Disk by the StorageFlusher. <br>
+     * <p>
+     * Returns without waiting for the write. Saves scheduled for the same file within one flush window
+     * are coalesced, so only the latest one is written.
+     * Call <code>StorageFlusher.getInstance().flush()</code> to write every pending save right away.
+     *
+     * @param tokenizedManager ArrayList of tokenized Manager data string, which must not be modified afterwards
+     * @param fileName         name of the file to be saved
+     * @throws StorageException when the fileName is invalid, or write-behind is off and the write fails
+     */
+    public void scheduleSave(ArrayList<String> tokenizedManager, String fileName) throws StorageException {
+        assert fileName != null : ASSERT_FILENAME_NOT_NULL;
+        assert fileName.length() > FILENAME_EMPTY : ASSERT_FILENAME_NOT_EMPTY;
+        assert tokenizedManager != null : ASSERT_LIST_NOT_NULL;
+        if (!isValidFileName(fileName)) {
+            LOGGER.log(Level.WARNING, LOG_INVALID_FILENAME);
+            throw new StorageException(ERROR_INVALID_FILENAME);
+        }
+        StorageFlusher.getInstance().schedule(fileName, () -> saveData(tokenizedManager, fileName));
+    }
+
+    /**
+     * Schedule the data objects to be saved onto Disk by the StorageFlusher,
+     * in the format selected by <code>setStorageFormat()</code>. <br>
+     * <p>
+     * Returns without waiting for the write, like <code>scheduleSave(ArrayList, String)</code>.
+     * The data objects are tokenized when the save is written, so they must not be modified afterwards:
+     * pass a copy of any data object that may still change.
+     *
+     * @param dataObjects data objects of the feature, in the order they are to be saved
+     * @param tokenizer   StreamingTokenizer of the feature
+     * @param fileName    name of the file to be saved
+     * @param <T>         data type of the feature
+     * @throws StorageException when the fileName is invalid, or write-behind is off and the write fails
+     */
+    public <T> void scheduleSave(Iterable<T> dataObjects, StreamingTokenizer<T> tokenizer, String fileName)
+            throws StorageException {
+        assert fileName != null : ASSERT_FILENAME_NOT_NULL;
+        assert fileName.length() > FILENAME_EMPTY : ASSERT_FILENAME_NOT_EMPTY;
+        assert dataObjects != null : ASSERT_LIST_NOT_NULL;
+        if (!isValidFileName(fileName)) {
+            LOGGER.log(Level.WARNING, LOG_INVALID_FILENAME);
+            throw new StorageException(ERROR_INVALID_FILENAME);
+        }
+        StorageFlusher.getInstance().schedule(fileName, () -> writeObjects(dataObjects, tokenizer, fileName));
+    }
+
+    /**
+     * Save a feature's data objects onto Disk, tokenizing them as they are written. <br>
+     * <p>
+     * Unlike <code>saveData()</code>, the data objects never exist as a list of Strings:
+     * each one is tokenized and written out before the next, unless journaled mode needs the entries to diff.
+     * A save of the same file still waiting in the StorageFlusher is dropped, as this save supersedes it.
+     * The data objects are written in the format selected by <code>setStorageFormat()</code>.
+     *
+     * @param dataObjects data objects of the feature, in the order they are to be saved
+     * @param tokenizer   StreamingTokenizer of the feature
+     * @param fileName    name of the file to be saved
+     * @param <T>         data type of the feature
+     * @throws StorageException when there are unexpected IO errors
+     */
+    public <T> void saveObjects(Iterable<T> dataObjects, StreamingTokenizer<T> tokenizer, String fileName)
+            throws StorageException {
+        assert fileName != null : ASSERT_FILENAME_NOT_NULL;
+        assert fileName.length() > FILENAME_EMPTY : ASSERT_FILENAME_NOT_EMPTY;
+        assert dataObjects != null : ASSERT_LIST_NOT_NULL;
+        if (!isValidFileName(fileName)) {
+            LOGGER.log(Level.WARNING, LOG_INVALID_FILENAME);
+            throw new StorageException(ERROR_INVALID_FILENAME);
+        }
+        StorageFlusher.getInstance().supersede(fileName);
+        writeObjects(dataObjects, tokenizer, fileName);
+    }
+
+    private <T> void writeObjects(Iterable<T> dataObjects, StreamingTokenizer<T> tokenizer, String fileName)
+            throws StorageException {
+        synchronized (diskLock) {
+            if (storageFormat == StorageFormat.BINARY && tokenizer instanceof BinaryTokenizer) {
+                // The text data file is deleted, so it has to be checked again before it is used
+                verifiedFileNames.remove(fileName);
+                writeBinarySnapshot(dataObjects, (BinaryTokenizer<T>) tokenizer, dataPaths.get(fileName).toFile());
+                return;
+            }
+            File file = getFile(fileName);
+            try {
+                if (isJournaled) {
+                    ArrayList<String> tokenizedManager = new ArrayList<>();
+                    tokenizer.tokenize(dataObjects, tokenizedManager::add);
+                    saveToJournal(tokenizedManager, file);
+                    return;
+                }
+                writeDataToDisk(consumer -> tokenizer.tokenize(dataObjects, consumer), file);
+                Path journalPath = getJournalPath(file);
+                replaceJournal(journalPath, null);
+                deleteLeftoverFile(journalPath);
+                deleteLeftoverFile(getBinaryPath(file.toPath()));
+            } catch (StorageException exception) {
+                // The data directory may have been removed behind our back, so check it again next time
+                verifiedFileNames.remove(fileName);
+                throw exception;
+            }
+        }
     }
 
     /**
      * Load a feature's data from the Disk. <br>
      * <p>
-     * The data will be laoded from the /data folder. <br>
+     * The data will be laoded from the /data folder, with any changes left in its journal applied. <br>
      * Each entry in the ArrayList will be an instance of the underlying data structure being `Managed`,
      * with each instance being tokenized into a String beforehand <br>
      * The fileName should be accessed via the public constant Storage.FILE_[feature].
@@ -346,9 +854,95 @@ public class Storage {
             LOGGER.log(Level.WARNING, LOG_INVALID_FILENAME);
             throw new StorageException(ERROR_INVALID_FILENAME);
         }
+        // A save that is still waiting in the StorageFlusher is newer than what is on disk
+        StorageFlusher.getInstance().flush(fileName);
+        synchronized (diskLock) {
+            File file = getFileToLoad(fileName);
+            ArrayList<String> entries = new ArrayList<>(loadJournaledEntries(file));
+            LOGGER.log(Level.FINE, () -> String.format(LOG_LOADED_ENTRIES, entries.size(), fileName));
+            return entries;
+        }
+    }
+
+    /**
+     * Load a feature's data objects from the Disk, detokenizing each entry as it is read. <br>
+     * <p>
+     * Unlike <code>loadData()</code>, the data file is never held in memory as a whole:
+     * it is read in chunks and each entry is passed to the tokenizer as soon as it is found.
+     * The exception is a file with a journal, or journaled mode, which keeps the entries to diff later saves.
+     * If the feature's data is in the binary format instead, it is read from the binary data file.
+     *
+     * @param fileName  name of the file to be loaded
+     * @param tokenizer StreamingTokenizer of the feature
+     * @param <T>       data type of the feature
+     * @return ArrayList of the feature's data objects
+     * @throws StorageException   when there are unexpected IO errors
+     * @throws TokenizerException when the data file cannot be detokenized
+     */
+    public <T> ArrayList<T> loadObjects(String fileName, StreamingTokenizer<T> tokenizer)
+            throws StorageException, TokenizerException {
+        assert fileName != null : ASSERT_FILENAME_NOT_NULL;
+        assert fileName.length() > FILENAME_EMPTY : ASSERT_FILENAME_NOT_EMPTY;
+        if (!isValidFileName(fileName)) {
+            LOGGER.log(Level.WARNING, LOG_INVALID_FILENAME);
+            throw new StorageException(ERROR_INVALID_FILENAME);
+        }
+        StreamingTokenizer.Detokenizer<T> detokenizer = tokenizer.newDetokenizer();
+        // A save that is still waiting in the StorageFlusher is newer than what is on disk
+        StorageFlusher.getInstance().flush(fileName);
+        synchronized (diskLock) {
+            Path dataPath = dataPaths.get(fileName);
+            if (isBinaryLoaded(dataPath, tokenizer)) {
+                ArrayList<T> dataObjects = loadBinaryFromDisk(getBinaryPath(dataPath), (BinaryTokenizer<T>) tokenizer);
+                LOGGER.log(Level.FINE, () -> String.format(LOG_LOADED_BINARY_ENTRIES, dataObjects.size(), fileName));
+                return dataObjects;
+            }
+            File file = getFileToLoad(fileName);
+            Path journalPath = getJournalPath(file);
+            if (isJournaled || Files.exists(journalPath)) {
+                for (String entry : loadJournaledEntries(file)) {
+                    detokenizer.accept(entry);
+                }
+            } else {
+                replaceJournal(journalPath, null);
+                streamDataFromDisk(file, detokenizer);
+            }
+        }
+        ArrayList<T> dataObjects = detokenizer.finish();
+        LOGGER.log(Level.FINE, () -> String.format(LOG_LOADED_ENTRIES, dataObjects.size(), fileName));
+        return dataObjects;
+    }
+
+    private File getFileToLoad(String fileName) throws StorageException {
+        // Loading is rare, so always check that the data file is still there
+        verifiedFileNames.remove(fileName);
         File file = getFile(fileName);
-        String data = loadDataFromDisk(file);
-        return detokenizeDataString(data);
+        // A temporary file that is still around was left behind by a write that never completed
+        deleteLeftoverFile(getTempPath(file.toPath()));
+        return file;
+    }
+
+    /**
+     * Reads a data file and applies any changes left in its journal.
+     * The returned entries are shared with the journal, so they must not be modified.
+     *
+     * @param file data file to read
+     * @return ArrayList of the entries in the data file
+     * @throws StorageException when there are unexpected IO errors
+     */
+    private ArrayList<String> loadJournaledEntries(File file) throws StorageException {
+        StorageSnapshot snapshot = loadDataFromDisk(file);
+        Path journalPath = getJournalPath(file);
+        StorageJournal journal = new StorageJournal(journalPath, snapshot.getEntries(),
+                snapshot.getChecksum(), snapshot.getSize());
+        boolean hasReplayedJournal = journal.replay();
+        ArrayList<String> entries = journal.getEntries();
+        replaceJournal(journalPath, isJournaled ? journal : null);
+        // Fold the replayed changes into the data file so the journal does not have to be replayed again
+        if (hasReplayedJournal) {
+            writeSnapshot(entries, file);
+        }
+        return entries;
     }
 
     /**
@@ -365,11 +959,28 @@ public class Storage {
             LOGGER.log(Level.WARNING, LOG_INVALID_FILENAME);
             throw new StorageException(ERROR_INVALID_FILENAME);
         }
-        File file = getFile(fileName);
-        boolean isDeleted = file.delete();
-        if (!isDeleted) {
-            throw new StorageException(ERROR_CANNOT_DELETE_FILE);
+        // A pending save would otherwise bring the file back
+        StorageFlusher.getInstance().discard(fileName);
+        synchronized (diskLock) {
+            File file = getFile(fileName);
+            verifiedFileNames.remove(fileName);
+            Path journalPath = getJournalPath(file);
+            replaceJournal(journalPath, null);
+            deleteLeftoverFile(journalPath);
+            deleteLeftoverFile(getBinaryPath(file.toPath()));
+            boolean isDeleted = file.delete();
+            if (!isDeleted) {
+                throw new StorageException(ERROR_CANNOT_DELETE_FILE);
+            }
         }
     }
 
+    /**
+     * Writes the new contents of a file to its temporary sibling.
+     *
+     * @param <R> result of the write
+     */
+    private interface TempFileWriter<R> {
+        R write(Path tempPath, boolean isForced) throws IOException;
+    }
 }
@@ -0,0 +1,230 @@
+package wellnus.storage;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import wellnus.common.WellNusLogger;
+import wellnus.exception.StorageException;
+
+/**
+ * StorageFlusher writes scheduled saves to disk on a background thread, shared by every feature. <br>
+ * <p>
+ * Features call <code>Storage.scheduleSave()</code> instead of <code>Storage.saveData()</code>, which
+ * marks the file as dirty and returns immediately. The first save scheduled for a clean file starts
+ * the flush window; every save scheduled for the same file within that window replaces the previous one,
+ * so a burst of changes ends up as a single write per file.
+ * <p>
+ * Pending saves are flushed when the user exits WellNUS++ and, as a safety net, when the JVM shuts down.
+ * A flush window of 0 turns write-behind off and makes <code>scheduleSave()</code> write immediately.
+ */
+public class StorageFlusher {
+    private static final String FLUSH_WINDOW_PROPERTY = "wellnus.storage.flushWindowMillis";
+    private static final long DEFAULT_FLUSH_WINDOW_MILLIS = 200;
+    private static final String THREAD_NAME = "WellNUS++ storage flusher";
+    private static final Logger LOGGER = WellNusLogger.getLogger("StorageFlusherLogger");
+    private static final String LOG_FLUSH_FAILED = "Scheduled save of '%s' failed, it will be retried: %s";
+    private static final String LOG_INVALID_FLUSH_WINDOW = "Invalid flush window '%s', using %d ms instead.";
+    private static final String ASSERT_WINDOW_NOT_NEGATIVE = "Flush window should not be negative!";
+    private static StorageFlusher instance;
+    // Key: name of a dirty file. Value: the latest save scheduled for it
+    private final LinkedHashMap<String, PendingSave> pendingSaves = new LinkedHashMap<>();
+    // Only one flush may write to disk at a time, be it the background thread or an explicit flush()
+    private final Object flushLock = new Object();
+    private final ScheduledExecutorService executor;
+    private long flushWindowMillis;
+    private boolean isFlushScheduled = false;
+
+    private StorageFlusher() {
+        this.flushWindowMillis = getFlushWindowFromProperty();
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns the StorageFlusher shared by all of WellNUS++, creating it on first use.
+     *
+     * @return the process-wide StorageFlusher
+     */
+    public static synchronized StorageFlusher getInstance() {
+        if (instance == null) {
+            instance = new StorageFlusher();
+            Runtime.getRuntime().addShutdownHook(new Thread(instance::flushQuietly));
+        }
+        return instance;
+    }
+
+    private static long getFlushWindowFromProperty() {
+        String flushWindow = System.getProperty(FLUSH_WINDOW_PROPERTY);
+        if (flushWindow == null) {
+            return DEFAULT_FLUSH_WINDOW_MILLIS;
+        }
+        try {
+            return Math.max(0, Long.parseLong(flushWindow.strip()));
+        } catch (NumberFormatException exception) {
+            LOGGER.log(Level.WARNING, () -> String.format(LOG_INVALID_FLUSH_WINDOW, flushWindow,
+                    DEFAULT_FLUSH_WINDOW_MILLIS));
+            return DEFAULT_FLUSH_WINDOW_MILLIS;
+        }
+    }
+
+    public synchronized long getFlushWindowMillis() {
+        return flushWindowMillis;
+    }
+
+    /**
+     * Sets how long a dirty file may wait before it is written to disk. <br>
+     * <p>
+     * The default can also be set with the <code>wellnus.storage.flushWindowMillis</code> system property.
+     *
+     * @param flushWindowMillis flush window in milliseconds, or 0 to write every save immediately
+     */
+    public synchronized void setFlushWindowMillis(long flushWindowMillis) {
+        assert flushWindowMillis >= 0 : ASSERT_WINDOW_NOT_NEGATIVE;
+        this.flushWindowMillis = flushWindowMillis;
+    }
+
+    /**
+     * Marks a file as dirty with the given save, to be written by the background thread. <br>
+     * <p>
+     * The save runs as is at flush time, so whatever it writes must not be modified after being scheduled.
+     *
+     * @param fileName    name of the file to be saved
+     * @param pendingSave save that writes the file
+     * @throws StorageException when write-behind is off and the immediate write fails
+     */
+    void schedule(String fileName, PendingSave pendingSave) throws StorageException {
+        synchronized (this) {
+            if (flushWindowMillis > 0) {
+                pendingSaves.put(fileName, pendingSave);
+                if (!isFlushScheduled) {
+                    isFlushScheduled = true;
+                    executor.schedule(this::flushQuietly, flushWindowMillis, TimeUnit.MILLISECONDS);
+                }
+                return;
+            }
+        }
+        synchronized (flushLock) {
+            pendingSave.write();
+        }
+    }
+
+    /**
+     * Checks whether a file has a save that has not been written to disk yet.
+     *
+     * @param fileName name of the file to check
+     * @return boolean representing if the file is dirty
+     */
+    public synchronized boolean isDirty(String fileName) {
+        return pendingSaves.containsKey(fileName);
+    }
+
+    /**
+     * Drops the pending save of one file without writing it, e.g. because the file is being deleted.
+     *
+     * @param fileName name of the file whose pending save is dropped
+     */
+    synchronized void discard(String fileName) {
+        pendingSaves.remove(fileName);
+    }
+
+    /**
+     * Drops the pending save of one file and waits for any save of it that is being written,
+     * so that a newer write of the whole file cannot be overwritten by an older save afterwards.
+     *
+     * @param fileName name of the file that is about to be written
+     */
+    void supersede(String fileName) {
+        synchronized (flushLock) {
+            discard(fileName);
+        }
+    }
+
+    /**
+     * Writes the pending save of one file to disk right away, if it has one.
+     *
+     * @param fileName name of the file to flush
+     * @throws StorageException when the pending save cannot be written
+     */
+    public void flush(String fileName) throws StorageException {
+        synchronized (flushLock) {
+            PendingSave pendingSave;
+            synchronized (this) {
+                pendingSave = pendingSaves.remove(fileName);
+            }
+            if (pendingSave != null) {
+                write(fileName, pendingSave);
+            }
+        }
+    }
+
+    /**
+     * Writes every pending save to disk right away.
+     * Every file is attempted even if an earlier one fails; the first failure is then rethrown.
+     *
+     * @throws StorageException when any pending save cannot be written
+     */
+    public void flush() throws StorageException {
+        StorageException firstException = null;
+        synchronized (flushLock) {
+            LinkedHashMap<String, PendingSave> savesToWrite;
+            synchronized (this) {
+                savesToWrite = new LinkedHashMap<>(pendingSaves);
+                pendingSaves.clear();
+                isFlushScheduled = false;
+            }
+            for (Map.Entry<String, PendingSave> save : savesToWrite.entrySet()) {
+                try {
+                    write(save.getKey(), save.getValue());
+                } catch (StorageException exception) {
+                    if (firstException == null) {
+                        firstException = exception;
+                    }
+                }
+            }
+        }
+        if (firstException != null) {
+            throw firstException;
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (StorageException exception) {
+            // Already logged and queued for retry by write()
+        }
+    }
+
+    private void write(String fileName, PendingSave pendingSave) throws StorageException {
+        try {
+            pendingSave.write();
+        } catch (StorageException exception) {
+            LOGGER.log(Level.SEVERE, () -> String.format(LOG_FLUSH_FAILED, fileName, exception.getMessage()));
+            synchronized (this) {
+                // Retry on the next flush, unless a newer save has been scheduled in the meantime
+                pendingSaves.putIfAbsent(fileName, pendingSave);
+            }
+            throw exception;
+        }
+    }
+
+    /**
+     * A save waiting to be written, which holds everything it writes.
+     */
+    interface PendingSave {
+        /**
+         * Writes the save to disk.
+         *
+         * @throws StorageException when the save cannot be written
+         */
+        void write() throws StorageException;
+    }
+}
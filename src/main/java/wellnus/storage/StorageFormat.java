@@ -0,0 +1,20 @@
+package wellnus.storage;
+
+/**
+ * StorageFormat decides the format Storage writes data objects in. <br>
+ * <p>
+ * Data is always loaded from whichever format is on disk, preferring the selected one,
+ * and the next save writes it in the selected format and removes the other file.
+ * Switching the format therefore converts every data file the next time its feature saves.
+ */
+public enum StorageFormat {
+    /**
+     * Human-readable <code>.txt</code> files of tokenized entries. Supports journaled saves.
+     */
+    TEXT,
+    /**
+     * Compact, versioned <code>.bin</code> files that need no string parsing to load.
+     * Only features whose tokenizer supports it are written in binary, the others stay in text.
+     */
+    BINARY
+}
@@ -0,0 +1,319 @@
+package wellnus.storage;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import wellnus.exception.StorageException;
+
+/**
+ * StorageJournal records the changes made to one of Storage's data files as small append-only records. <br>
+ * <p>
+ * Instead of rewriting a whole data file on every save, Storage compares the new entries with the
+ * entries it last persisted and appends a single <code>splice</code> record describing the range that changed.
+ * Every so often the journal is compacted: the full list of entries is written to the snapshot file
+ * and the journal is cleared.
+ * <p>
+ * A journal file looks like this:
+ * <pre>
+ * journal [checksum of the snapshot file this journal applies to]
+ * splice [start index] [number of entries removed] [number of entries inserted]
+ * [inserted entry]
+ * ...
+ * end
+ * </pre>
+ * A record only counts once its <code>end</code> line is written, so a record cut short by a crash is ignored.
+ * A record that fails to be written is cut off again, so that later records are not appended after it.
+ * A journal whose checksum does not match the current snapshot belongs to an older snapshot and is discarded.
+ */
+class StorageJournal {
+    private static final String HEADER_KEYWORD = "journal";
+    private static final String SPLICE_KEYWORD = "splice";
+    private static final String END_KEYWORD = "end";
+    private static final String WORD_DELIMITER = " ";
+    private static final String NEWLINE = "\n";
+    private static final int NUM_HEADER_WORDS = 2;
+    private static final int NUM_SPLICE_WORDS = 4;
+    // Compact once this many records have piled up, even if each of them is small
+    private static final int MAX_RECORDS_BEFORE_COMPACTION = 256;
+    // Journals smaller than this are never worth compacting on size alone
+    private static final long MIN_COMPACTION_BYTES = 64 * 1024;
+    private static final String ERROR_CANNOT_WRITE_JOURNAL = "WellNUS++ couldn't write to a journal file!";
+    private static final String ERROR_CANNOT_READ_JOURNAL = "WellNUS++ couldn't read a journal file!";
+    private static final String ERROR_CANNOT_DELETE_JOURNAL = "WellNUS++ couldn't delete a journal file!";
+    private static final String ASSERT_ENTRIES_NOT_NULL = "entries should not be null!";
+    // Opens journal files for appending; replaced in tests to simulate a disk that fills up mid-write
+    static ChannelOpener channelOpener = journalPath -> FileChannel.open(journalPath, StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    private final Path journalPath;
+    // Kept open between appends so that a save costs a single write instead of an open, write and close
+    private FileChannel channel;
+    private ArrayList<String> entries;
+    private long snapshotChecksum;
+    private long snapshotLength;
+    private long journalLength;
+    private int recordCount;
+    // Set when a failed record could not be cut off, so the journal must not be appended to anymore
+    private boolean isDamaged = false;
+
+    /**
+     * Constructs the journal state for a data file whose snapshot currently holds the given entries.
+     *
+     * @param journalPath      path of the journal file belonging to the data file
+     * @param entries          entries currently held by the snapshot file
+     * @param snapshotChecksum checksum of the snapshot file's bytes, used to tie the journal to this snapshot
+     * @param snapshotLength   size of the snapshot file in bytes
+     */
+    StorageJournal(Path journalPath, ArrayList<String> entries, long snapshotChecksum, long snapshotLength) {
+        assert entries != null : ASSERT_ENTRIES_NOT_NULL;
+        this.journalPath = journalPath;
+        this.entries = new ArrayList<>(entries);
+        this.snapshotChecksum = snapshotChecksum;
+        this.snapshotLength = snapshotLength;
+        this.journalLength = 0;
+        this.recordCount = 0;
+    }
+
+    /**
+     * Returns the entries persisted so far, i.e. the snapshot with every journal record applied.
+     *
+     * @return ArrayList of persisted entries
+     */
+    ArrayList<String> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Checks whether the journal has grown enough that it should be folded back into the snapshot.
+     *
+     * @return boolean representing if the journal should be compacted
+     */
+    boolean needsCompaction() {
+        return isDamaged
+                || recordCount >= MAX_RECORDS_BEFORE_COMPACTION
+                || journalLength > Math.max(snapshotLength, MIN_COMPACTION_BYTES);
+    }
+
+    /**
+     * Appends a record describing how <code>newEntries</code> differs from the persisted entries.
+     *
+     * @param newEntries entries that should be persisted
+     * @param isForced   whether the record should be forced onto the disk before returning
+     * @return boolean representing if a record was appended, which is false when nothing changed
+     * @throws StorageException when the record cannot be written to the journal file
+     */
+    boolean append(ArrayList<String> newEntries, boolean isForced) throws StorageException {
+        assert newEntries != null : ASSERT_ENTRIES_NOT_NULL;
+        int oldSize = entries.size();
+        int newSize = newEntries.size();
+        int start = 0;
+        while (start < oldSize && start < newSize && entries.get(start).equals(newEntries.get(start))) {
+            start += 1;
+        }
+        int oldEnd = oldSize;
+        int newEnd = newSize;
+        while (oldEnd > start && newEnd > start && entries.get(oldEnd - 1).equals(newEntries.get(newEnd - 1))) {
+            oldEnd -= 1;
+            newEnd -= 1;
+        }
+        int removeCount = oldEnd - start;
+        List<String> inserted = newEntries.subList(start, newEnd);
+        if (removeCount == 0 && inserted.isEmpty()) {
+            return false;
+        }
+        StringBuilder record = new StringBuilder();
+        if (journalLength == 0) {
+            record.append(HEADER_KEYWORD).append(WORD_DELIMITER)
+                    .append(Long.toHexString(snapshotChecksum)).append(NEWLINE);
+        }
+        record.append(SPLICE_KEYWORD).append(WORD_DELIMITER).append(start)
+                .append(WORD_DELIMITER).append(removeCount)
+                .append(WORD_DELIMITER).append(inserted.size()).append(NEWLINE);
+        for (String entry : inserted) {
+            record.append(entry).append(NEWLINE);
+        }
+        record.append(END_KEYWORD).append(NEWLINE);
+        write(record.toString(), isForced);
+        splice(start, removeCount, inserted);
+        recordCount += 1;
+        return true;
+    }
+
+    /**
+     * Applies every complete record in the journal file onto the persisted entries. <br>
+     * <p>
+     * A journal that belongs to another snapshot is deleted without being applied,
+     * as is a journal that holds no complete record.
+     *
+     * @return boolean representing if any record was applied
+     * @throws StorageException when the journal file cannot be read
+     */
+    boolean replay() throws StorageException {
+        int recordsApplied = 0;
+        try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+            String[] header = splitWords(reader.readLine());
+            boolean isStale = header.length != NUM_HEADER_WORDS || !header[0].equals(HEADER_KEYWORD)
+                    || !header[1].equals(Long.toHexString(snapshotChecksum));
+            while (!isStale && applyNextRecord(reader)) {
+                recordsApplied += 1;
+            }
+        } catch (NoSuchFileException exception) {
+            return false;
+        } catch (IOException exception) {
+            throw new StorageException(ERROR_CANNOT_READ_JOURNAL + exception.getMessage());
+        }
+        if (recordsApplied == 0) {
+            delete();
+        }
+        recordCount += recordsApplied;
+        return recordsApplied > 0;
+    }
+
+    /**
+     * Closes the channel kept open for appending, if there is one.
+     * The journal is reopened by the next append.
+     */
+    void close() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException exception) {
+            // Nothing was left to write, so failing to close the channel loses no data
+        }
+        channel = null;
+    }
+
+    /**
+     * Deletes the journal file, if there is one.
+     *
+     * @throws StorageException when the journal file exists but cannot be deleted
+     */
+    void delete() throws StorageException {
+        close();
+        try {
+            Files.deleteIfExists(journalPath);
+        } catch (IOException exception) {
+            throw new StorageException(ERROR_CANNOT_DELETE_JOURNAL + exception.getMessage());
+        }
+        journalLength = 0;
+    }
+
+    private void write(String record, boolean isForced) throws StorageException {
+        ByteBuffer buffer = StandardCharsets.UTF_8.encode(record);
+        int recordLength = buffer.remaining();
+        long lengthBeforeRecord = -1;
+        try {
+            if (channel == null) {
+                channel = channelOpener.open(journalPath);
+            }
+            lengthBeforeRecord = channel.size();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (isForced) {
+                channel.force(false);
+            }
+        } catch (IOException exception) {
+            discardFailedRecord(lengthBeforeRecord);
+            close();
+            throw new StorageException(ERROR_CANNOT_WRITE_JOURNAL + exception.getMessage());
+        }
+        journalLength += recordLength;
+    }
+
+    /**
+     * Cuts off whatever part of a failed record reached the journal file, so that the file ends with
+     * the last complete record. Replay stops at the first incomplete record, so a record appended after
+     * a torn one would never be replayed.
+     * If the file cannot be cut, the journal is marked as damaged and the next save rewrites the snapshot.
+     *
+     * @param lengthBeforeRecord size of the journal file before the record was written, or -1 if unknown
+     */
+    private void discardFailedRecord(long lengthBeforeRecord) {
+        if (channel == null || lengthBeforeRecord < 0) {
+            isDamaged = channel != null;
+            return;
+        }
+        try {
+            channel.truncate(lengthBeforeRecord);
+        } catch (IOException exception) {
+            isDamaged = true;
+        }
+    }
+
+    /**
+     * Reads one record from the journal and applies it if it is complete and consistent.
+     *
+     * @param reader reader positioned at the start of a record
+     * @return boolean representing if a record was applied
+     * @throws IOException when the journal cannot be read
+     */
+    private boolean applyNextRecord(BufferedReader reader) throws IOException {
+        String[] words = splitWords(reader.readLine());
+        if (words.length != NUM_SPLICE_WORDS || !words[0].equals(SPLICE_KEYWORD)) {
+            return false;
+        }
+        int start;
+        int removeCount;
+        int insertCount;
+        try {
+            start = Integer.parseInt(words[1]);
+            removeCount = Integer.parseInt(words[2]);
+            insertCount = Integer.parseInt(words[3]);
+        } catch (NumberFormatException exception) {
+            return false;
+        }
+        if (start < 0 || removeCount < 0 || insertCount < 0 || start + removeCount > entries.size()) {
+            return false;
+        }
+        ArrayList<String> inserted = new ArrayList<>();
+        for (int i = 0; i < insertCount; i += 1) {
+            String entry = reader.readLine();
+            if (entry == null) {
+                return false;
+            }
+            inserted.add(entry);
+        }
+        if (!END_KEYWORD.equals(reader.readLine())) {
+            return false;
+        }
+        splice(start, removeCount, inserted);
+        return true;
+    }
+
+    private void splice(int start, int removeCount, List<String> inserted) {
+        entries.subList(start, start + removeCount).clear();
+        entries.addAll(start, inserted);
+    }
+
+    private String[] splitWords(String line) {
+        if (line == null) {
+            return new String[0];
+        }
+        return line.split(WORD_DELIMITER);
+    }
+
+    /**
+     * Opens a journal file for appending records to it.
+     */
+    interface ChannelOpener {
+        /**
+         * Opens the journal file at the given path for appending, creating it if needed.
+         *
+         * @param journalPath path of the journal file
+         * @return FileChannel that appends to the journal file
+         * @throws IOException when the journal file cannot be opened
+         */
+        FileChannel open(Path journalPath) throws IOException;
+    }
+}
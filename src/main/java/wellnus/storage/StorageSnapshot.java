@@ -0,0 +1,205 @@
+package wellnus.storage;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import wellnus.storage.StreamingTokenizer.EntryConsumer;
+
+/**
+ * StorageSnapshot is the contents of one of Storage's data files, read or written in a single pass. <br>
+ * <p>
+ * The file is read through a <code>FileChannel</code> in fixed-size chunks, which an EntryScanner splits into
+ * entries by the <code>" --"</code> delimiter followed by a line break.
+ * Each entry is decoded straight from the file's bytes, so the file never exists as one big String,
+ * and <code>stream()</code> hands every entry on as soon as it is found instead of keeping it.
+ * <p>
+ * Entries are split the same way <code>String.split()</code> splits the file's contents by the delimiter:
+ * a file without any delimiter is a single entry, and empty entries at the end of the file are dropped.
+ */
+class StorageSnapshot {
+    private static final String ASCII_SAMPLE = " --\r\n";
+    private static final int CHUNK_SIZE_BYTES = 64 * 1024;
+    private final ArrayList<String> entries;
+    private final long checksum;
+    private final long size;
+
+    /**
+     * Supplies the entries of a snapshot that is being written, one at a time.
+     */
+    interface EntrySource {
+        /**
+         * Passes every entry of the snapshot to the consumer, in order.
+         *
+         * @param consumer receiver of the entries
+         * @throws IOException when an entry cannot be written
+         */
+        void forEachEntry(EntryConsumer<IOException> consumer) throws IOException;
+    }
+
+    private StorageSnapshot(ArrayList<String> entries, long checksum, long size) {
+        this.entries = entries;
+        this.checksum = checksum;
+        this.size = size;
+    }
+
+    /**
+     * Reads a data file and splits it into entries.
+     *
+     * @param dataPath path of the data file
+     * @param charset  charset the data file was written in
+     * @return StorageSnapshot holding the file's entries
+     * @throws IOException when the data file cannot be read
+     */
+    static StorageSnapshot read(Path dataPath, Charset charset) throws IOException {
+        ArrayList<String> entries = new ArrayList<>();
+        StorageSnapshot snapshot = stream(dataPath, charset, entries::add);
+        return new StorageSnapshot(entries, snapshot.checksum, snapshot.size);
+    }
+
+    /**
+     * Reads a data file and hands each of its entries to the consumer as soon as it is found.
+     * The entries are not kept, so the returned StorageSnapshot has none.
+     *
+     * @param dataPath path of the data file
+     * @param charset  charset the data file was written in
+     * @param consumer receiver of every entry in the data file
+     * @param <E>      Exception the consumer may throw
+     * @return StorageSnapshot holding the checksum and size of the file
+     * @throws IOException when the data file cannot be read
+     * @throws E           when the consumer does not accept an entry
+     */
+    static <E extends Exception> StorageSnapshot stream(Path dataPath, Charset charset,
+            EntryConsumer<E> consumer) throws IOException, E {
+        if (!isAsciiCompatible(charset)) {
+            // The delimiter cannot be found byte by byte, so convert the whole file to a charset where it can
+            ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(dataPath));
+            long checksum = getChecksumOf(bytes);
+            scanEntries(StandardCharsets.UTF_8.encode(charset.decode(bytes.duplicate())), StandardCharsets.UTF_8,
+                    consumer);
+            return new StorageSnapshot(new ArrayList<>(), checksum, bytes.remaining());
+        }
+        EntryScanner<E> scanner = new EntryScanner<>(charset, consumer);
+        CRC32 checksum = new CRC32();
+        long size = 0;
+        ByteBuffer chunk = ByteBuffer.allocate(CHUNK_SIZE_BYTES);
+        try (FileChannel channel = FileChannel.open(dataPath, StandardOpenOption.READ)) {
+            while (channel.read(chunk) >= 0) {
+                chunk.flip();
+                size += chunk.remaining();
+                checksum.update(chunk.duplicate());
+                scanner.scan(chunk);
+                chunk.clear();
+            }
+        }
+        scanner.finish();
+        return new StorageSnapshot(new ArrayList<>(), checksum.getValue(), size);
+    }
+
+    /**
+     * Writes the entries of a snapshot to a file, each followed by the delimiter.
+     * The entries are encoded as they are written, so the snapshot never exists as one big String.
+     *
+     * @param dataPath path of the file to write, which is replaced if it exists
+     * @param source   supplier of the entries to write
+     * @param charset  charset to write the file in
+     * @param isForced whether the file should be forced onto the disk before returning
+     * @return StorageSnapshot holding the checksum and size of the written file
+     * @throws IOException when the file cannot be written
+     */
+    static StorageSnapshot write(Path dataPath, EntrySource source, Charset charset, boolean isForced)
+            throws IOException {
+        CRC32 checksum = new CRC32();
+        long size;
+        try (FileChannel channel = FileChannel.open(dataPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            // Not closed on its own, as closing it would close the channel before it can be forced
+            Writer writer = new OutputStreamWriter(new CheckedOutputStream(Channels.newOutputStream(channel),
+                    checksum), charset);
+            source.forEachEntry(entry -> {
+                writer.write(entry);
+                writer.write(Storage.DELIMITER);
+            });
+            writer.flush();
+            size = channel.position();
+            if (isForced) {
+                channel.force(false);
+            }
+        }
+        return new StorageSnapshot(new ArrayList<>(), checksum.getValue(), size);
+    }
+
+    /**
+     * Computes the checksum of a snapshot's bytes, which ties a journal to the snapshot it applies to.
+     * The buffer's position is left untouched.
+     *
+     * @param bytes bytes of the snapshot file
+     * @return CRC32 checksum of the bytes
+     */
+    static long getChecksumOf(ByteBuffer bytes) {
+        CRC32 checksum = new CRC32();
+        checksum.update(bytes.duplicate());
+        return checksum.getValue();
+    }
+
+    /**
+     * Splits the bytes of a data file into entries by the <code>" --"</code> delimiter
+     * followed by <code>\n</code>, <code>\r\n</code> or <code>\r</code>.
+     *
+     * @param bytes   bytes of the data file, from its position to its limit
+     * @param charset charset the bytes were written in
+     * @return ArrayList of entries in the data file
+     */
+    static ArrayList<String> splitEntries(ByteBuffer bytes, Charset charset) {
+        ArrayList<String> entries = new ArrayList<>();
+        if (!isAsciiCompatible(charset)) {
+            // The delimiter cannot be found byte by byte, so convert the bytes to a charset where it can
+            bytes = StandardCharsets.UTF_8.encode(charset.decode(bytes.duplicate()));
+            charset = StandardCharsets.UTF_8;
+        }
+        scanEntries(bytes.duplicate(), charset, entries::add);
+        return entries;
+    }
+
+    private static <E extends Exception> void scanEntries(ByteBuffer bytes, Charset charset,
+            EntryConsumer<E> consumer) throws E {
+        EntryScanner<E> scanner = new EntryScanner<>(charset, consumer);
+        scanner.scan(bytes);
+        scanner.finish();
+    }
+
+    private static boolean isAsciiCompatible(Charset charset) {
+        byte[] expected = ASCII_SAMPLE.getBytes(StandardCharsets.US_ASCII);
+        return Arrays.equals(expected, ASCII_SAMPLE.getBytes(charset));
+    }
+
+    /**
+     * Returns the entries of the data file.
+     * Snapshots that were streamed or written do not keep their entries, so theirs are empty.
+     *
+     * @return ArrayList of entries
+     */
+    ArrayList<String> getEntries() {
+        return entries;
+    }
+
+    long getChecksum() {
+        return checksum;
+    }
+
+    long getSize() {
+        return size;
+    }
+}
@@ -0,0 +1,59 @@
+package wellnus.storage;
+
+import java.util.ArrayList;
+
+import wellnus.exception.TokenizerException;
+
+/**
+ * Tokenizer that converts data objects one entry at a time, so that Storage can write them to disk
+ *     as they are tokenized and detokenize them as they are read, without a list of every tokenized
+ *     entry in between.<br/>
+ *
+ * Use it with <code>Storage.saveObjects()</code> and <code>Storage.loadObjects()</code>.
+ * @param <T> Data type of the corresponding feature, e.g. <code>AtomicHabit</code>
+ *     the atomic habit feature
+ */
+public interface StreamingTokenizer<T> extends Tokenizer<T> {
+    /**
+     * Converts the given data objects into String entries and passes them on one by one, in the order
+     *     they are to be saved in.
+     * @param dataObjects Objects which represent data we want to convert into a String representation
+     * @param consumer Receiver of every tokenized entry
+     * @param <E> Exception the consumer may throw
+     * @throws E If the consumer does not accept an entry
+     */
+    <E extends Exception> void tokenize(Iterable<T> dataObjects, EntryConsumer<E> consumer) throws E;
+
+    /**
+     * Returns a Detokenizer that restores data objects from the entries fed to it.
+     *     Every load needs a new Detokenizer.
+     * @return Detokenizer for a single load
+     */
+    Detokenizer<T> newDetokenizer();
+
+    /**
+     * Receives String entries one at a time and in order.
+     * @param <E> Exception thrown when an entry cannot be accepted
+     */
+    interface EntryConsumer<E extends Exception> {
+        /**
+         * Accepts the next entry.
+         * @param entry Entry without its delimiter
+         * @throws E If the entry cannot be accepted
+         */
+        void accept(String entry) throws E;
+    }
+
+    /**
+     * Restores data objects from the entries of a data file as they are read.
+     * @param <T> Data type of the corresponding feature
+     */
+    interface Detokenizer<T> extends EntryConsumer<TokenizerException> {
+        /**
+         * Returns the data objects restored from every entry accepted so far, once the data file has been read.
+         * @return ArrayList containing all the data from the previously saved state
+         * @throws TokenizerException If the entries as a whole do not form a valid state
+         */
+        ArrayList<T> finish() throws TokenizerException;
+    }
+}
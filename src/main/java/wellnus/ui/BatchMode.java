@@ -0,0 +1,148 @@
+package wellnus.ui;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import wellnus.exception.EndOfScriptException;
+
+/**
+ * BatchMode runs WellNUS++ non-interactively, reading its commands from a script instead of the user. <br>
+ * <p>
+ * It is started with <code>--script (file)</code>, or <code>--script -</code> to read the script from stdin.
+ * Every line of the script goes through the same Managers as a command typed by the user, but
+ * no cursors or greetings are printed, and output is buffered instead of being written line by line.
+ * Blank lines and lines starting with <code>#</code> are skipped.
+ * <p>
+ * Every error printed while the script runs is recorded against the line that caused it,
+ * so that a summary of failures can be given once the script ends.
+ */
+public class BatchMode {
+    public static final String SCRIPT_FLAG = "--script";
+    private static final String STDIN_SCRIPT = "-";
+    private static final String STDIN_SCRIPT_NAME = "stdin";
+    private static final String COMMENT_PREFIX = "#";
+    private static final String END_OF_SCRIPT_MESSAGE = "Reached the end of script '%s'";
+    private static final String READ_ERROR_MESSAGE = "Could not read the next line of the script: %s";
+    private static final String FAILURE_FORMAT = "line %d (%s): %s";
+    private static final String SUMMARY_FORMAT = "Ran %d commands from '%s', %d failed";
+    private static final String NEWLINE = System.lineSeparator();
+    private static BatchMode instance;
+    private final BufferedReader scriptReader;
+    private final String scriptName;
+    private final List<String> failures = new ArrayList<>();
+    private int lineNumber = 0;
+    private int numOfCommands = 0;
+    private String currentCommand = "";
+
+    private BatchMode(BufferedReader scriptReader, String scriptName) {
+        this.scriptReader = scriptReader;
+        this.scriptName = scriptName;
+    }
+
+    /**
+     * Switches WellNUS++ to batch mode, reading commands from the given script from now on. <br>
+     * <p>
+     * Output is batched by the OutputSink until <code>finish()</code>.
+     *
+     * @param scriptPath Path of the script, or <code>-</code> to read the script from stdin
+     * @throws IOException If the script cannot be opened
+     */
+    public static synchronized void start(String scriptPath) throws IOException {
+        assert instance == null : "Batch mode has already been started";
+        if (scriptPath.equals(STDIN_SCRIPT)) {
+            instance = new BatchMode(new BufferedReader(new InputStreamReader(System.in)), STDIN_SCRIPT_NAME);
+        } else {
+            instance = new BatchMode(Files.newBufferedReader(Path.of(scriptPath)), scriptPath);
+        }
+        OutputSink.getInstance().setBatched(true);
+    }
+
+    /**
+     * Returns whether WellNUS++ is running a script instead of reading commands from the user.
+     *
+     * @return true if batch mode has been started
+     */
+    public static synchronized boolean isActive() {
+        return instance != null;
+    }
+
+    /**
+     * Returns the running BatchMode.
+     *
+     * @return the BatchMode started by <code>start()</code>
+     */
+    public static synchronized BatchMode getInstance() {
+        assert instance != null : "Batch mode has not been started";
+        return instance;
+    }
+
+    /**
+     * Reads the next command of the script, skipping blank lines and comments.
+     *
+     * @return Next command with leading/dangling whitespace being removed
+     * @throws EndOfScriptException If the script has no more commands or cannot be read
+     */
+    public synchronized String nextCommand() {
+        String line;
+        do {
+            try {
+                line = scriptReader.readLine();
+            } catch (IOException exception) {
+                recordFailure(String.format(READ_ERROR_MESSAGE, exception.getMessage()));
+                line = null;
+            }
+            if (line == null) {
+                throw new EndOfScriptException(String.format(END_OF_SCRIPT_MESSAGE, scriptName));
+            }
+            lineNumber += 1;
+            line = line.trim();
+        } while (line.isEmpty() || line.startsWith(COMMENT_PREFIX));
+        numOfCommands += 1;
+        currentCommand = line;
+        return line;
+    }
+
+    /**
+     * Records an error against the command of the script that is currently running.
+     *
+     * @param errorMessage Message of the error, of which only the first line is kept
+     */
+    public synchronized void recordFailure(String errorMessage) {
+        String firstLine = errorMessage.strip().lines().findFirst().orElse("");
+        failures.add(String.format(FAILURE_FORMAT, lineNumber, currentCommand, firstLine));
+    }
+
+    /**
+     * Returns whether any command of the script has failed so far.
+     *
+     * @return true if at least one failure has been recorded
+     */
+    public synchronized boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+
+    /**
+     * Ends the script: flushes buffered output, closes the script and returns a summary of the run.
+     *
+     * @return Number of commands run and failed, followed by one line for every failure
+     */
+    public synchronized String finish() {
+        OutputSink.getInstance().setBatched(false);
+        try {
+            scriptReader.close();
+        } catch (IOException exception) {
+            // Nothing more will be read from the script, so there is nothing to recover
+        }
+        StringBuilder summary = new StringBuilder(String.format(SUMMARY_FORMAT, numOfCommands, scriptName,
+                failures.size()));
+        for (String failure : failures) {
+            summary.append(NEWLINE).append(failure);
+        }
+        return summary.toString();
+    }
+}
@@ -0,0 +1,125 @@
+package wellnus.ui;
+
+import java.nio.charset.Charset;
+
+/**
+ * OutputSink collects everything that WellNUS++ prints to the user's screen. <br>
+ * <p>
+ * UIs render a whole message into the sink with <code>append()</code> and then call <code>flush()</code>,
+ * which hands the message to <code>System.out</code> as a single block of bytes. A message of any length,
+ * such as a list of thousands of habits, is therefore written at once instead of character by character.
+ * <p>
+ * In batch mode nobody is waiting for a prompt, so flushes are held back until a large enough block
+ * of output has been collected.
+ */
+public class OutputSink implements Appendable {
+    private static final int INITIAL_CAPACITY = 1 << 12;
+    private static final int BATCHED_FLUSH_THRESHOLD = 1 << 16;
+    // Buffers grown by very long messages are not kept around after they are written
+    private static final int MAX_RETAINED_CAPACITY = 1 << 20;
+    private static final String NEWLINE = System.lineSeparator();
+    private static OutputSink instance;
+    private final StringBuilder buffer = new StringBuilder(INITIAL_CAPACITY);
+    private boolean isBatched = false;
+
+    private OutputSink() {
+    }
+
+    /**
+     * Returns the OutputSink shared by all of WellNUS++, creating it on first use.
+     *
+     * @return the process-wide OutputSink
+     */
+    public static synchronized OutputSink getInstance() {
+        if (instance == null) {
+            instance = new OutputSink();
+        }
+        return instance;
+    }
+
+    @Override
+    public synchronized OutputSink append(CharSequence text) {
+        buffer.append(text);
+        return this;
+    }
+
+    @Override
+    public synchronized OutputSink append(CharSequence text, int start, int end) {
+        buffer.append(text, start, end);
+        return this;
+    }
+
+    @Override
+    public synchronized OutputSink append(char character) {
+        buffer.append(character);
+        return this;
+    }
+
+    /**
+     * Appends the given text followed by a line separator.
+     *
+     * @param text Text to append
+     * @return This OutputSink, so that appends can be chained
+     */
+    public synchronized OutputSink appendLine(CharSequence text) {
+        buffer.append(text).append(NEWLINE);
+        return this;
+    }
+
+    /**
+     * Appends the given text a number of times, e.g. to draw a separator.
+     *
+     * @param text  Text to append
+     * @param count Number of times to append it
+     * @return This OutputSink, so that appends can be chained
+     */
+    public synchronized OutputSink appendRepeated(String text, int count) {
+        for (int i = 0; i < count; i += 1) {
+            buffer.append(text);
+        }
+        return this;
+    }
+
+    /**
+     * Writes everything appended so far to the user's screen. <br>
+     * <p>
+     * In batch mode, output is only written once a large enough block of it has been collected.
+     */
+    public synchronized void flush() {
+        if (isBatched && buffer.length() < BATCHED_FLUSH_THRESHOLD) {
+            return;
+        }
+        forceFlush();
+    }
+
+    /**
+     * Writes everything appended so far to the user's screen, even in batch mode.
+     */
+    public synchronized void forceFlush() {
+        if (buffer.length() == 0) {
+            return;
+        }
+        // PrintStream writes a String in small chunks, but a byte array that fills its buffer in one call
+        byte[] bytes = buffer.toString().getBytes(Charset.defaultCharset());
+        buffer.setLength(0);
+        if (buffer.capacity() > MAX_RETAINED_CAPACITY) {
+            buffer.trimToSize();
+            buffer.ensureCapacity(INITIAL_CAPACITY);
+        }
+        System.out.write(bytes, 0, bytes.length);
+        System.out.flush();
+    }
+
+    /**
+     * Sets whether output is held back until a large block of it can be written at once.
+     * Pending output is written when batching is turned off.
+     *
+     * @param isBatched Whether output should be batched
+     */
+    public synchronized void setBatched(boolean isBatched) {
+        this.isBatched = isBatched;
+        if (!isBatched) {
+            forceFlush();
+        }
+    }
+}
@@ -7,6 +7,7 @@ import java.util.Scanner;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import wellnus.common.StartupTimer;
 import wellnus.common.WellNusLogger;
 
 //@@author wenxin-c
@@ -15,7 +16,9 @@ import wellnus.common.WellNusLogger;
  * TextUi class for reading user inputs and printing outputs.<br/>
  * <br/>
  * Subclasses of TextUI class can override separator, printErrorFor and printOutputMessage.<br/>
- * This is to accommodate to the uniqueness of each feature.
+ * This is to accommodate to the uniqueness of each feature.<br/>
+ * <br/>
+ * Each message is rendered whole into the shared OutputSink and written to the screen in one go.
  */
 public class TextUi {
     private static final Logger LOGGER = WellNusLogger.getLogger("TextUiLogger");
@@ -31,17 +34,17 @@ public class TextUi {
             + "please key in input!";
     private static final String BUFFER_OVERFLOW_MSG = "Input is too long, please shorten your input!";
     private static final String CURSOR_CARET = "(%s):~$ ";
-    private Scanner scanner;
+    private final UiContext context;
     private String separator = "-";
     private int separatorLength;
     private String cursor = CURSOR_CARET;
 
     /**
      * Returns a new instance of TextUi that reads user input from the default
-     * System.in InputStream.
+     * System.in InputStream, sharing its Scanner with every other such TextUi.
      */
     public TextUi() {
-        this(System.in);
+        this(UiContext.getStandard());
     }
 
     /**
@@ -51,7 +54,16 @@ public class TextUi {
      * @param inputStream InputStream that WellNUS++ will read user input(commands) from
      */
     public TextUi(InputStream inputStream) {
-        this.scanner = new Scanner(inputStream);
+        this(new UiContext(inputStream));
+    }
+
+    /**
+     * Returns a new instance of TextUi that reads from and writes to the given UiContext.
+     *
+     * @param context UiContext shared by the UIs of WellNUS++
+     */
+    public TextUi(UiContext context) {
+        this.context = context;
         this.separatorLength = DEFAULT_SEPARATOR_LENGTH;
     }
 
@@ -61,19 +73,26 @@ public class TextUi {
      * Print spaces before output message for better formatting.
      */
     public void printIndentation() {
-        System.out.print(INDENTATION_SPACES);
+        getOutput().append(INDENTATION_SPACES);
+        getOutput().flush();
     }
 
     /**
      * Read user's input command and return back the command string.<br/>
+     * <br/>
+     * In batch mode, the command is read from the script instead.
      *
      * @return User input command with leading/dangling whitespace being removed
      */
     public String getCommand() {
+        StartupTimer.markPrompt();
+        if (BatchMode.isActive()) {
+            return BatchMode.getInstance().nextCommand();
+        }
         printCursor();
         String userCommand = "";
         try {
-            String inputLine = scanner.nextLine();
+            String inputLine = getScanner().nextLine();
             userCommand = inputLine.trim();
         } catch (BufferOverflowException bufferOverFlowException) {
             LOGGER.log(Level.INFO, BUFFER_OVERFLOW_MSG);
@@ -113,10 +132,12 @@ public class TextUi {
      * Each subclass inherited from this class can override this method to vary the interface.
      */
     public void printSeparator() {
-        for (int i = 0; i < separatorLength; i += 1) {
-            System.out.print(separator);
-        }
-        System.out.print(System.lineSeparator());
+        appendSeparator();
+        getOutput().flush();
+    }
+
+    private void appendSeparator() {
+        getOutput().appendRepeated(separator, separatorLength).appendLine("");
     }
 
     /**
@@ -137,17 +158,16 @@ public class TextUi {
     }
 
     /**
-     * Print each new line of message on a separate line with indentation being added.<br/>
+     * Append each new line of message on a separate line with indentation being added.<br/>
      * <br/>
      * Output message with one line is also accepted.
      *
      * @param message Output message to be printed
      */
-    private void printMultiLineMessage(String message) {
+    private void appendMultiLineMessage(String message) {
         String[] newLineMessages = splitOutputMessage(message);
         for (String msg : newLineMessages) {
-            printIndentation();
-            System.out.println(msg);
+            getOutput().append(INDENTATION_SPACES).appendLine(msg);
         }
     }
 
@@ -164,15 +184,20 @@ public class TextUi {
      * @param additionalMessage Suggestions or notes that help users figure out what causes error
      */
     public void printErrorFor(Exception exception, String additionalMessage) {
-        System.out.println(ALERT_SEPARATOR);
+        OutputSink output = getOutput();
+        output.appendLine(ALERT_SEPARATOR);
         String exceptionMsg = exception.getMessage();
+        if (BatchMode.isActive()) {
+            BatchMode.getInstance().recordFailure(exceptionMsg);
+        }
         if (exceptionMsg.length() > EMPTY_MESSAGE) {
-            System.out.println(ERROR_MESSAGE_LABEL);
-            printMultiLineMessage(exceptionMsg);
-            System.out.println(EXTRA_MESSAGE_LABEL);
-            printMultiLineMessage(additionalMessage);
+            output.appendLine(ERROR_MESSAGE_LABEL);
+            appendMultiLineMessage(exceptionMsg);
+            output.appendLine(EXTRA_MESSAGE_LABEL);
+            appendMultiLineMessage(additionalMessage);
         }
-        System.out.println(ALERT_SEPARATOR);
+        output.appendLine(ALERT_SEPARATOR);
+        output.flush();
     }
 
     /**
@@ -185,11 +210,12 @@ public class TextUi {
      * @param message The exception being thrown in the program
      */
     public void printOutputMessage(String message) {
-        printSeparator();
+        appendSeparator();
         if (message.length() > EMPTY_MESSAGE) {
-            printMultiLineMessage(message);
+            appendMultiLineMessage(message);
         }
-        printSeparator();
+        appendSeparator();
+        getOutput().flush();
     }
 
     //@@author nichyjt
@@ -207,17 +233,22 @@ public class TextUi {
     }
 
     /**
-     * Utility function to print the cursor to screen
+     * Utility function to print the cursor to screen. No cursor is printed in batch mode.
      */
     public void printCursor() {
-        System.out.print(cursor);
+        if (BatchMode.isActive()) {
+            return;
+        }
+        getOutput().append(cursor);
+        getOutput().flush();
     }
 
     /**
      * Utility function to print a newline
      */
     public void printNewline() {
-        System.out.println(System.lineSeparator());
+        getOutput().appendLine(System.lineSeparator());
+        getOutput().flush();
     }
 
     /**
@@ -226,7 +257,16 @@ public class TextUi {
      * @return Scanner tagged to this instance of TextUi
      */
     public Scanner getScanner() {
-        return scanner;
+        return context.getInput();
+    }
+
+    /**
+     * Returns the sink that all output of WellNUS++ is rendered into before being written to the screen.
+     *
+     * @return OutputSink shared by every TextUi
+     */
+    protected OutputSink getOutput() {
+        return context.getOutput();
     }
 
 }
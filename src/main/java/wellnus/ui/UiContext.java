@@ -0,0 +1,64 @@
+package wellnus.ui;
+
+import java.io.InputStream;
+import java.util.Scanner;
+
+/**
+ * UiContext holds what every UI of WellNUS++ reads from and writes to: one input reader and the output sink. <br>
+ * <p>
+ * MainManager hands its UiContext to the feature Managers, which build their UI on it once and pass that UI
+ * on to their Commands. Every UI built on the same UiContext shares one Scanner, so no two Scanners
+ * ever compete for buffered input when commands are piped in.
+ * <p>
+ * The Scanner is only created when input is first read, as creating one takes a noticeable part of
+ * startup time; the first prompt is then already on the user's screen.
+ * <p>
+ * Code that is not handed a UiContext uses the standard one, which reads from <code>System.in</code>.
+ */
+public class UiContext {
+    private static UiContext standardContext;
+    private static InputStream standardInputStream;
+    private final InputStream inputStream;
+    private Scanner input;
+    private final OutputSink output;
+
+    /**
+     * Returns a new UiContext that reads user input from the given InputStream.
+     *
+     * @param inputStream InputStream that WellNUS++ will read user input(commands) from
+     */
+    public UiContext(InputStream inputStream) {
+        this.inputStream = inputStream;
+        this.output = OutputSink.getInstance();
+    }
+
+    /**
+     * Returns the UiContext that reads from <code>System.in</code>, creating it on first use.
+     * A new one is created if <code>System.in</code> has been replaced since, e.g. by a test.
+     *
+     * @return UiContext shared by all UIs that read from <code>System.in</code>
+     */
+    public static synchronized UiContext getStandard() {
+        if (standardContext == null || standardInputStream != System.in) {
+            standardInputStream = System.in;
+            standardContext = new UiContext(standardInputStream);
+        }
+        return standardContext;
+    }
+
+    /**
+     * Returns the Scanner that reads user input, creating it on first use.
+     *
+     * @return Scanner shared by every UI built on this UiContext
+     */
+    public synchronized Scanner getInput() {
+        if (input == null) {
+            input = new Scanner(inputStream);
+        }
+        return input;
+    }
+
+    public OutputSink getOutput() {
+        return output;
+    }
+}
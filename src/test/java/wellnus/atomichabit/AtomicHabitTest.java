@@ -12,12 +12,14 @@ import wellnus.atomichabit.command.AddCommand;
 import wellnus.atomichabit.command.DeleteCommand;
 import wellnus.atomichabit.command.ListCommand;
 import wellnus.atomichabit.command.UpdateCommand;
+import wellnus.atomichabit.feature.AtomicHabit;
 import wellnus.atomichabit.feature.AtomicHabitList;
 import wellnus.atomichabit.feature.AtomicHabitManager;
 import wellnus.atomichabit.feature.AtomicHabitUi;
 import wellnus.command.Command;
 import wellnus.command.CommandParser;
 import wellnus.exception.AtomicHabitException;
+import wellnus.exception.StorageException;
 import wellnus.exception.WellNusException;
 import wellnus.gamification.util.GamificationData;
 
@@ -30,12 +32,14 @@ public class AtomicHabitTest {
     private final ByteArrayOutputStream outputStreamCaptor;
     private final CommandParser parser;
     private final GamificationData gamificationData;
+    private final AtomicHabitUi atomicHabitUi;
 
     public AtomicHabitTest() {
         this.habitList = new AtomicHabitList();
         this.outputStreamCaptor = new ByteArrayOutputStream();
         this.parser = new CommandParser();
         this.gamificationData = new GamificationData();
+        this.atomicHabitUi = new AtomicHabitUi();
     }
 
     private String getMessageFrom(String uiOutput) {
@@ -74,7 +78,7 @@ public class AtomicHabitTest {
                 + " was successfully added";
         String testCommand = String.format("%s --name %s", ADD_HABIT_COMMAND, payload);
         HashMap<String, String> arguments = parser.parseUserInput(testCommand);
-        Command command = new AddCommand(arguments, habitList);
+        Command command = new AddCommand(arguments, habitList, atomicHabitUi);
         command.execute();
         Assertions.assertEquals(expectedOutput, getMessageFrom(outputStreamCaptor.toString()));
     }
@@ -103,7 +107,7 @@ public class AtomicHabitTest {
         String payload = "junit test";
         String testAddCommand = String.format("%s --name %s", ADD_HABIT_COMMAND, payload + System.lineSeparator());
         HashMap<String, String> arguments = parser.parseUserInput(testAddCommand);
-        Command addCommand = new AddCommand(arguments, habitList);
+        Command addCommand = new AddCommand(arguments, habitList, atomicHabitUi);
         addCommand.execute();
         Assertions.assertThrows(AtomicHabitException.class, addCommand::execute);
     }
@@ -119,7 +123,7 @@ public class AtomicHabitTest {
         String testUpdateCommand = String.format("%s --id %s", UPDATE_HABIT_COMMAND, habitIndex)
                 + System.lineSeparator();
         HashMap<String, String> arguments = parser.parseUserInput(testUpdateCommand);
-        Command updateCommand = new UpdateCommand(arguments, habitList, gamificationData);
+        Command updateCommand = new UpdateCommand(arguments, habitList, gamificationData, atomicHabitUi);
         String expectedUpdateHabitOutput = "The following habit has been incremented! Keep up the good work!"
                 + System.lineSeparator()
                 + habitIndex + "." + payload + " " + "[1]";
@@ -141,7 +145,7 @@ public class AtomicHabitTest {
         String testUpdateCommand = String.format("%s --id %s --by %s", UPDATE_HABIT_COMMAND, habitIndex, increment)
                 + System.lineSeparator();
         HashMap<String, String> arguments = parser.parseUserInput(testUpdateCommand);
-        Command updateCommand = new UpdateCommand(arguments, habitList, gamificationData);
+        Command updateCommand = new UpdateCommand(arguments, habitList, gamificationData, atomicHabitUi);
         String expectedUpdateHabitOutput = "The following habit has been incremented! Keep up the good work!"
                 + System.lineSeparator()
                 + habitIndex + "." + payload + " " + "[3]";
@@ -162,7 +166,7 @@ public class AtomicHabitTest {
         String testIndexCommand = String.format("%s --id %s", UPDATE_HABIT_COMMAND, habitIndex)
                 + System.lineSeparator();
         HashMap<String, String> arguments = parser.parseUserInput(testIndexCommand);
-        Command updateCommand = new UpdateCommand(arguments, habitList, gamificationData);
+        Command updateCommand = new UpdateCommand(arguments, habitList, gamificationData, atomicHabitUi);
         Assertions.assertThrows(AtomicHabitException.class, updateCommand::execute);
     }
 
@@ -181,11 +185,12 @@ public class AtomicHabitTest {
         String testNegativeIndexCommand = String.format("%s --id %s", UPDATE_HABIT_COMMAND, negativeHabitIndex)
                 + System.lineSeparator();
         HashMap<String, String> arguments = parser.parseUserInput(testLargeIndexCommand);
-        Command updateCommandForLargeIndex = new UpdateCommand(arguments, habitList, gamificationData);
+        Command updateCommandForLargeIndex = new UpdateCommand(arguments, habitList, gamificationData, atomicHabitUi);
         Assertions.assertThrows(AtomicHabitException.class, updateCommandForLargeIndex::execute);
 
         arguments = parser.parseUserInput(testNegativeIndexCommand);
-        Command updateCommandForNegativeIndex = new UpdateCommand(arguments, habitList, gamificationData);
+        Command updateCommandForNegativeIndex = new UpdateCommand(arguments, habitList, gamificationData,
+                atomicHabitUi);
         Assertions.assertThrows(AtomicHabitException.class, updateCommandForNegativeIndex::execute);
     }
 
@@ -203,7 +208,7 @@ public class AtomicHabitTest {
         String testUpdateCommand = String.format("%s --id %s --by %s", UPDATE_HABIT_COMMAND, habitIndex, decrement)
                 + System.lineSeparator();
         HashMap<String, String> arguments = parser.parseUserInput(testUpdateCommand);
-        Command updateCommand = new UpdateCommand(arguments, habitList, gamificationData);
+        Command updateCommand = new UpdateCommand(arguments, habitList, gamificationData, atomicHabitUi);
         String expectedUpdateHabitOutput = "The following habit has been decremented."
                 + System.lineSeparator()
                 + habitIndex + "." + payload + " " + "[0]";
@@ -226,7 +231,7 @@ public class AtomicHabitTest {
         String testUpdateCommand = String.format("%s --id %s --by %s", UPDATE_HABIT_COMMAND, habitIndex, decrement)
                 + System.lineSeparator();
         HashMap<String, String> arguments = parser.parseUserInput(testUpdateCommand);
-        Command updateCommand = new UpdateCommand(arguments, habitList, gamificationData);
+        Command updateCommand = new UpdateCommand(arguments, habitList, gamificationData, atomicHabitUi);
         Assertions.assertThrows(AtomicHabitException.class, updateCommand::execute);
     }
 
@@ -242,7 +247,7 @@ public class AtomicHabitTest {
         String testUpdateCommand = String.format("%s --id %s --by %s", UPDATE_HABIT_COMMAND, habitIndex, decrement)
                 + System.lineSeparator();
         HashMap<String, String> arguments = parser.parseUserInput(testUpdateCommand);
-        Command updateCommand = new UpdateCommand(arguments, habitList, gamificationData);
+        Command updateCommand = new UpdateCommand(arguments, habitList, gamificationData, atomicHabitUi);
         ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
         System.setOut(new PrintStream(outputStream));
         updateCommand.execute();
@@ -264,7 +269,7 @@ public class AtomicHabitTest {
         String testDeleteCommand = String.format("%s --id %s", DELETE_HABIT_COMMAND, habitIndex)
                 + System.lineSeparator();
         HashMap<String, String> arguments = parser.parseUserInput(testDeleteCommand);
-        Command deleteCommand = new DeleteCommand(arguments, habitList);
+        Command deleteCommand = new DeleteCommand(arguments, habitList, atomicHabitUi);
         String expectedDeleteHabitOutput = "The following habit has been deleted:"
                 + System.lineSeparator()
                 + "junit test" + " " + "[0]" + " has been successfully deleted";
@@ -287,7 +292,7 @@ public class AtomicHabitTest {
         String testDeleteCommand = String.format("%s --id %s", DELETE_HABIT_COMMAND, habitIndex)
                 + System.lineSeparator();
         HashMap<String, String> arguments = parser.parseUserInput(testDeleteCommand);
-        Command deleteCommand = new DeleteCommand(arguments, habitList);
+        Command deleteCommand = new DeleteCommand(arguments, habitList, atomicHabitUi);
         Assertions.assertThrows(AtomicHabitException.class, deleteCommand::execute);
     }
 
@@ -302,7 +307,7 @@ public class AtomicHabitTest {
         String testDeleteCommand = String.format("%s --id %s", DELETE_HABIT_COMMAND, habitIndex)
                 + System.lineSeparator();
         HashMap<String, String> arguments = parser.parseUserInput(testDeleteCommand);
-        Command deleteCommand = new DeleteCommand(arguments, habitList);
+        Command deleteCommand = new DeleteCommand(arguments, habitList, atomicHabitUi);
         ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
         System.setOut(new PrintStream(outputStream));
         deleteCommand.execute();
@@ -322,7 +327,7 @@ public class AtomicHabitTest {
         String testListCommand = String.format("%s", LIST_HABIT_COMMAND)
                 + System.lineSeparator();
         HashMap<String, String> arguments = parser.parseUserInput(testListCommand);
-        Command listCommand = new ListCommand(arguments, habitList);
+        Command listCommand = new ListCommand(arguments, habitList, atomicHabitUi);
         ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
         System.setOut(new PrintStream(outputStream));
         listCommand.execute();
@@ -331,5 +336,40 @@ public class AtomicHabitTest {
         Assertions.assertEquals(expectedOutput, getMessageFrom(outputStream.toString()));
     }
 
+    /**
+     * Test that read-only commands leave the habit list unmodified, so nothing needs to be stored.
+     *
+     * @throws WellNusException
+     */
+    @Test
+    public void listHabit_readOnly_notModified() throws WellNusException {
+        long versionBeforeList = habitList.getVersion();
+        HashMap<String, String> arguments = parser.parseUserInput(LIST_HABIT_COMMAND);
+        Command listCommand = new ListCommand(arguments, habitList, atomicHabitUi);
+        listCommand.execute();
+        Assertions.assertEquals(versionBeforeList, habitList.getVersion());
+        Assertions.assertFalse(habitList.isModified());
+    }
 
+    /**
+     * Test that adding a habit marks the list as modified until it is stored.
+     *
+     * @throws WellNusException
+     * @throws StorageException
+     */
+    @Test
+    public void addHabit_storeHabitData_modifiedUntilStored() throws WellNusException, StorageException {
+        Assertions.assertFalse(habitList.isModified());
+        addHabit_checkOutput_success();
+        Assertions.assertTrue(habitList.isModified());
+        habitList.storeHabitData();
+        Assertions.assertFalse(habitList.isModified());
+        // Only remove the habit this test added, the list also holds the habits already in the data file
+        int addedHabitIndex = habitList.getAllHabits().size() - 1;
+        AtomicHabit addedHabit = habitList.getHabitByIndex(addedHabitIndex);
+        Assertions.assertEquals("junit test", addedHabit.getDescription());
+        habitList.deleteAtomicHabit(addedHabit);
+        habitList.storeHabitData();
+        Assertions.assertFalse(habitList.isModified());
+    }
 }
@@ -1,10 +1,13 @@
 package wellnus.command;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -36,6 +39,8 @@ public class CommandParserTest {
     private static final String EMPTY_STRING = "";
     private static final String WHITESPACE_PAYLOAD = " \n \t ";
     private static final String TARGET_COMMAND = "maincommand";
+    private static final String LONG_PAYLOAD_WORD = "word ";
+    private static final int NUM_LONG_PAYLOAD_WORDS = 100000;
     private static final String ERROR_EXCEPTION_THROWN = "CommandParser threw exception on valid input:";
     private static final String ERROR_EXPECTED_EXCEPTION = "Expected BadCommandException to be thrown. ";
 
@@ -229,4 +234,61 @@ public class CommandParserTest {
         }, ERROR_EXPECTED_EXCEPTION);
     }
 
+    /**
+     * Test that parse keeps the arguments in the order they were given, each with its stripped payload
+     */
+    @Test
+    public void parse_validInput_argumentsInOrder() throws BadCommandException {
+        CommandParser parser = new CommandParser();
+        ParsedCommand command = parser.parse(VALID_COMMAND_7);
+        assertEquals(TARGET_COMMAND, command.getMainArgument());
+        assertEquals(3, command.getNumOfArguments());
+        assertEquals(TARGET_COMMAND, command.getArgument(0));
+        assertEquals(EMPTY_STRING, command.getPayload(0));
+        assertEquals("arg--1", command.getArgument(1));
+        assertEquals("pay1", command.getPayload(1));
+        assertEquals("arg2", command.getArgument(2));
+        assertEquals("pay2", command.getPayload("arg2"));
+        assertFalse(command.hasArgument("arg3"));
+        assertNull(command.getPayload("arg3"));
+    }
+
+    /**
+     * Test that parse and parseUserInput agree on every valid input
+     */
+    @Test
+    public void parse_validInputs_sameAsParseUserInput() throws BadCommandException {
+        CommandParser parser = new CommandParser();
+        ArrayList<String> validCommands = getValidCommandInputs();
+        validCommands.addAll(getValidTrickyInputs());
+        validCommands.add(VALID_COMMAND_SPECIAL_WHITESPACE);
+        for (String validCommand : validCommands) {
+            HashMap<String, String> expected = parser.parseUserInput(validCommand);
+            assertEquals(expected, parser.parse(validCommand).toHashMap());
+        }
+    }
+
+    /**
+     * Test that a very long payload is parsed whole
+     */
+    @Test
+    public void parse_longPayload_success() throws BadCommandException {
+        CommandParser parser = new CommandParser();
+        String longPayload = LONG_PAYLOAD_WORD.repeat(NUM_LONG_PAYLOAD_WORDS).strip();
+        ParsedCommand command = parser.parse("add --name " + longPayload);
+        assertEquals(longPayload, command.getPayload("name"));
+    }
+
+    /**
+     * Test that a malformed argument is reported before a repeated argument, whichever comes first
+     */
+    @Test
+    public void parse_repeatedAndEmptyArgument_emptyArgumentReported() {
+        CommandParser parser = new CommandParser();
+        BadCommandException exception = assertThrows(BadCommandException.class, () -> {
+            parser.parse(INVALID_COMMAND_REPEATED_ARGS + " --");
+        }, ERROR_EXPECTED_EXCEPTION);
+        assertFalse(exception.getMessage().contains("repeated"));
+    }
+
 }
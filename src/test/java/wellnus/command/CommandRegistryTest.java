@@ -0,0 +1,80 @@
+package wellnus.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import wellnus.exception.BadCommandException;
+import wellnus.ui.TextUi;
+
+/**
+ * Test that CommandRegistry finds the Command of full and abbreviated keywords.
+ */
+public class CommandRegistryTest {
+    private static final String EXIT_KEYWORD = "exit";
+    private static final String HELP_KEYWORD = "help";
+    private static final String HOME_KEYWORD = "home";
+    private static final String AMBIGUOUS_ABBREVIATION = "h";
+    private static final String HELP_ABBREVIATION = "he";
+    private static final String EXIT_ABBREVIATION = "ex";
+    private static final String UNKNOWN_KEYWORD = "test";
+    private static final String HELP_PAYLOAD = "hb";
+
+    private CommandRegistry getRegistry() {
+        return new CommandRegistry()
+                .register(EXIT_KEYWORD, arguments -> new ExitCommand(arguments, new TextUi()))
+                .register(HELP_KEYWORD, arguments -> new HelpCommand(arguments, new TextUi()))
+                .register(HOME_KEYWORD, arguments -> new ExitCommand(arguments, new TextUi()));
+    }
+
+    /**
+     * Test that full keywords and unique abbreviations resolve to the registered keyword
+     */
+    @Test
+    public void resolveKeyword_fullOrUniqueAbbreviation_registeredKeyword() {
+        CommandRegistry registry = getRegistry();
+        assertEquals(Optional.of(HELP_KEYWORD), registry.resolveKeyword(HELP_KEYWORD));
+        assertEquals(Optional.of(HELP_KEYWORD), registry.resolveKeyword(HELP_ABBREVIATION));
+        assertEquals(Optional.of(EXIT_KEYWORD), registry.resolveKeyword(EXIT_ABBREVIATION));
+    }
+
+    /**
+     * Test that ambiguous abbreviations and unknown keywords do not resolve
+     */
+    @Test
+    public void resolveKeyword_ambiguousOrUnknown_empty() {
+        CommandRegistry registry = getRegistry();
+        assertTrue(registry.resolveKeyword(AMBIGUOUS_ABBREVIATION).isEmpty());
+        assertTrue(registry.resolveKeyword(UNKNOWN_KEYWORD).isEmpty());
+        assertTrue(registry.resolveKeyword(HELP_KEYWORD + HELP_KEYWORD).isEmpty());
+    }
+
+    /**
+     * Test that the Command of an abbreviation gets its payload under the full keyword
+     */
+    @Test
+    public void getCommandFor_abbreviation_payloadUnderFullKeyword() throws BadCommandException {
+        CommandRegistry registry = getRegistry();
+        HashMap<String, String> arguments = new HashMap<>();
+        arguments.put(HELP_ABBREVIATION, HELP_PAYLOAD);
+        Command command = registry.getCommandFor(HELP_ABBREVIATION, arguments);
+        assertTrue(command instanceof HelpCommand);
+        assertEquals(HELP_PAYLOAD, command.getArguments().get(HELP_KEYWORD));
+    }
+
+    /**
+     * Test that unknown and ambiguous keywords throw an exception
+     */
+    @Test
+    public void getCommandFor_unknownOrAmbiguous_throwsException() {
+        CommandRegistry registry = getRegistry();
+        CommandParser parser = new CommandParser();
+        assertThrows(BadCommandException.class, () -> registry.getCommandFor(parser.parse(UNKNOWN_KEYWORD)));
+        assertThrows(BadCommandException.class, () -> registry.getCommandFor(parser.parse(AMBIGUOUS_ABBREVIATION)));
+    }
+}
@@ -0,0 +1,134 @@
+package wellnus.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that <code>AsyncLogHandler</code> writes every record it accepts, in order, and applies its overflow policy.
+ */
+public class AsyncLogHandlerTest {
+    private static final String DROPPED_NOTICE = "5 log records were dropped because the log buffer was full.";
+
+    private static LogRecord getRecord(Level level, int index) {
+        return new LogRecord(level, "record " + index);
+    }
+
+    /**
+     * Checks that closing the handler writes every buffered record, in the order it was logged.
+     */
+    @Test
+    public void close_manyBufferedRecords_allWrittenInOrder() throws InterruptedException {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(target, 4, LogOverflowPolicy.BLOCK, 1);
+        for (int i = 0; i < 100; i += 1) {
+            handler.publish(getRecord(Level.INFO, i));
+        }
+        handler.close();
+        List<String> messages = target.getMessages();
+        assertEquals(100, messages.size());
+        for (int i = 0; i < 100; i += 1) {
+            assertEquals("record " + i, messages.get(i));
+        }
+        assertTrue(target.isClosed());
+    }
+
+    /**
+     * Checks that records logged while the buffer is full are dropped under the DROP policy,
+     * and that the number of dropped records is written to the log.
+     */
+    @Test
+    public void publish_dropPolicyWithFullBuffer_droppedRecordsCounted() throws InterruptedException {
+        RecordingHandler target = new RecordingHandler();
+        target.holdWriter();
+        AsyncLogHandler handler = new AsyncLogHandler(target, 2, LogOverflowPolicy.DROP, 1);
+        handler.publish(getRecord(Level.INFO, 0));
+        target.awaitWriterHeld();
+        // Records 1 and 2 fill the buffer while the writer is held, records 3 to 7 are dropped
+        for (int i = 1; i < 8; i += 1) {
+            handler.publish(getRecord(Level.INFO, i));
+        }
+        target.releaseWriter();
+        handler.close();
+        assertEquals(List.of("record 0", DROPPED_NOTICE, "record 1", "record 2"), target.getMessages());
+    }
+
+    /**
+     * Checks that warnings wait for space instead of being dropped, even under the DROP policy.
+     */
+    @Test
+    public void publish_warningWithFullBuffer_notDropped() throws InterruptedException {
+        RecordingHandler target = new RecordingHandler();
+        target.holdWriter();
+        AsyncLogHandler handler = new AsyncLogHandler(target, 1, LogOverflowPolicy.DROP, 1);
+        handler.publish(getRecord(Level.INFO, 0));
+        target.awaitWriterHeld();
+        handler.publish(getRecord(Level.INFO, 1));
+        Thread warningThread = new Thread(() -> handler.publish(getRecord(Level.WARNING, 2)));
+        warningThread.start();
+        target.releaseWriter();
+        warningThread.join();
+        handler.close();
+        assertEquals(List.of("record 0", "record 1", "record 2"), target.getMessages());
+    }
+
+    /**
+     * Handler that keeps the messages it is given, and can hold the writer thread on the first one.
+     */
+    private static class RecordingHandler extends Handler {
+        private final List<String> messages = new ArrayList<>();
+        private final CountDownLatch writerHeld = new CountDownLatch(1);
+        private CountDownLatch writerReleased = new CountDownLatch(0);
+        private boolean isClosed = false;
+
+        void holdWriter() {
+            writerReleased = new CountDownLatch(1);
+        }
+
+        void awaitWriterHeld() throws InterruptedException {
+            writerHeld.await();
+        }
+
+        void releaseWriter() {
+            writerReleased.countDown();
+        }
+
+        @Override
+        public void publish(LogRecord record) {
+            synchronized (this) {
+                messages.add(record.getMessage());
+            }
+            writerHeld.countDown();
+            try {
+                writerReleased.await();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public synchronized void close() {
+            isClosed = true;
+        }
+
+        synchronized List<String> getMessages() {
+            return new ArrayList<>(messages);
+        }
+
+        synchronized boolean isClosed() {
+            return isClosed;
+        }
+    }
+}
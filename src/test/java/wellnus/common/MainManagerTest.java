@@ -1,6 +1,7 @@
 package wellnus.common;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -125,6 +126,18 @@ public class MainManagerTest {
         }
     }
 
+    /**
+     * Checks that a feature's Manager is only created once, however often the feature is entered.
+     */
+    @Test
+    public void getManagerFor_featureEnteredTwice_sameManager() {
+        MainManager mainManager = new MainManager();
+        Optional<Manager> firstHbManager = mainManager.getManagerFor(HB_KEYWORD);
+        Optional<Manager> secondHbManager = mainManager.getManagerFor(HB_KEYWORD);
+        assertTrue(firstHbManager.isPresent());
+        assertSame(firstHbManager.get(), secondHbManager.orElse(null));
+    }
+
     /**
      * Checks that <code>MainManager</code> can detect unrecognised keywords/commands
      * successfully and throw the correct <code>Exception</code>.
@@ -0,0 +1,42 @@
+package wellnus.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that loggers returned by <code>WellNusLogger</code> log at their configured levels.
+ */
+public class WellNusLoggerTest {
+
+    /**
+     * Checks that a logger without a configured level only logs warnings and above.
+     */
+    @Test
+    public void getLogger_noConfiguredLevel_warningAndAbove() {
+        Logger logger = WellNusLogger.getLogger("WellNusLoggerTestDefaultLogger");
+        assertEquals(Level.WARNING, logger.getLevel());
+        assertTrue(logger.isLoggable(Level.SEVERE));
+        assertFalse(logger.isLoggable(Level.INFO));
+        assertFalse(logger.isLoggable(Level.FINE));
+    }
+
+    /**
+     * Checks that the level of a logger can be changed at runtime, also for loggers created afterwards.
+     */
+    @Test
+    public void setLevel_traceOneLogger_onlyThatLoggerTraced() {
+        Logger tracedLogger = WellNusLogger.getLogger("WellNusLoggerTestTracedLogger");
+        Logger otherLogger = WellNusLogger.getLogger("WellNusLoggerTestOtherLogger");
+        WellNusLogger.setLevel("WellNusLoggerTestTracedLogger", Level.FINE);
+        assertTrue(tracedLogger.isLoggable(Level.FINE));
+        assertFalse(otherLogger.isLoggable(Level.FINE));
+        WellNusLogger.setLevel("WellNusLoggerTestLaterLogger", Level.FINE);
+        assertTrue(WellNusLogger.getLogger("WellNusLoggerTestLaterLogger").isLoggable(Level.FINE));
+    }
+}
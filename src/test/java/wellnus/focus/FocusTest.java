@@ -3,6 +3,8 @@ package wellnus.focus;
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 import java.util.HashMap;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,8 +14,14 @@ import wellnus.command.CommandParser;
 import wellnus.exception.BadCommandException;
 import wellnus.exception.WellNusException;
 import wellnus.focus.command.StartCommand;
+import wellnus.focus.feature.Countdown;
 import wellnus.focus.feature.FocusManager;
+import wellnus.focus.feature.FocusUi;
+import wellnus.focus.feature.ManualClock;
 import wellnus.focus.feature.Session;
+import wellnus.focus.feature.SessionSnapshot;
+import wellnus.focus.feature.SessionStorage;
+import wellnus.storage.Storage;
 import wellnus.ui.TextUi;
 
 
@@ -61,10 +69,146 @@ public class FocusTest {
     @Test
     void startTimer_checkResult_success() throws WellNusException {
         HashMap<String, String> arguments = parser.parseUserInput(START_COMMAND);
-        StartCommand startCommand = new StartCommand(arguments, session);
+        StartCommand startCommand = new StartCommand(arguments, session, new FocusUi());
         startCommand.execute();
-        Assertions.assertEquals(true, session.getSession().get(0).getIsRunning());
-        session.getSession().get(0).setStop();
+        Assertions.assertEquals(true, session.getCurrentCountdown().getIsRunning());
+        session.getCurrentCountdown().setStop();
+    }
+
+    /**
+     * Test whether countdowns of several sessions share one scheduler thread instead of a thread each.
+     *
+     * @throws WellNusException
+     */
+    @Test
+    void startTimer_manySessions_oneSchedulerThread() throws WellNusException {
+        Session[] sessions = new Session[5];
+        for (int i = 0; i < sessions.length; i += 1) {
+            sessions[i] = new Session();
+            new StartCommand(parser.parseUserInput(START_COMMAND), sessions[i], new FocusUi()).execute();
+        }
+        long numSchedulerThreads = Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().equals("WellNUS++ focus timer"))
+                .count();
+        Assertions.assertEquals(1, numSchedulerThreads);
+        for (Session startedSession : sessions) {
+            startedSession.getCurrentCountdown().setStop();
+        }
+    }
+
+    /**
+     * Test whether a paused countdown keeps the time it had left, and counts down from there when resumed.
+     *
+     * @throws InterruptedException
+     */
+    @Test
+    void pauseTimer_timePasses_remainingTimeKept() throws InterruptedException {
+        Countdown countdown = new Countdown(1, "", false, new FocusUi());
+        countdown.start();
+        countdown.setStart();
+        Assertions.assertEquals("1:00", countdown.getRemainingTime());
+        countdown.setPause();
+        long remainingNanos = countdown.getRemainingNanos();
+        Thread.sleep(50);
+        Assertions.assertEquals(remainingNanos, countdown.getRemainingNanos());
+        countdown.setStart();
+        Thread.sleep(50);
+        Assertions.assertTrue(countdown.getRemainingNanos() < remainingNanos);
+        countdown.setStop();
+        Assertions.assertFalse(countdown.getIsRunning());
+    }
+
+    /**
+     * Test whether a whole session runs to completion on a manual clock, without waiting for real time.
+     */
+    @Test
+    void startTimer_manualClock_sessionCompletesInstantly() {
+        ManualClock clock = new ManualClock();
+        Session manualSession = new Session(new FocusUi(), clock);
+        int numCountdowns = 0;
+        do {
+            manualSession.startTimer();
+            Assertions.assertTrue(manualSession.isSessionCounting());
+            clock.advance(50, TimeUnit.SECONDS);
+            Assertions.assertEquals("0:10", manualSession.getCurrentCountdown().getRemainingTime());
+            clock.advanceUntilIdle();
+            Assertions.assertTrue(manualSession.isSessionWaiting());
+            numCountdowns += 1;
+        } while (!manualSession.isSessionReady());
+        Assertions.assertEquals(manualSession.getCountdownCount(), numCountdowns);
+        Assertions.assertEquals(TimeUnit.MINUTES.toNanos(numCountdowns), clock.nanoTime());
+        String output = outputStreamCaptor.toString();
+        Assertions.assertTrue(output.contains("1 seconds left"));
+        Assertions.assertTrue(output.contains("Congrats! That's a session done and dusted!"));
+    }
+
+    /**
+     * Test whether changing the number of cycles replaces the session's plan instead of adding to it,
+     * and whether the countdowns follow the plan: work and break, with a long break last.
+     */
+    @Test
+    void setCycle_configuredTwice_countdownsFollowLatestPlan() {
+        ManualClock clock = new ManualClock();
+        Session manualSession = new Session(new FocusUi(), clock);
+        manualSession.setCycle(5);
+        manualSession.setCycle(2);
+        Assertions.assertEquals(4, manualSession.getCountdownCount());
+        Assertions.assertTrue(manualSession.isSessionReady());
+        StringBuilder descriptions = new StringBuilder();
+        do {
+            manualSession.startTimer();
+            descriptions.append(manualSession.getCurrentCountdown().getDescription().charAt(0));
+            clock.advanceUntilIdle();
+        } while (!manualSession.isSessionReady());
+        Assertions.assertEquals("TBTL", descriptions.toString());
+    }
+
+    /**
+     * Test whether a paused session is restored as it was saved, and whether ticking countdowns are not saved.
+     */
+    @Test
+    void restoreSession_pausedSession_restoredPaused() {
+        ManualClock clock = new ManualClock();
+        MemorySessionStorage sessionStorage = new MemorySessionStorage();
+        Session savedSession = new Session(new FocusUi(), clock, sessionStorage);
+        savedSession.setCycle(3);
+        savedSession.startTimer();
+        savedSession.getCurrentCountdown().setStop();
+        savedSession.startTimer();
+        int numSavesAtStart = sessionStorage.getNumSaves();
+        clock.advance(20, TimeUnit.SECONDS);
+        Assertions.assertEquals(numSavesAtStart, sessionStorage.getNumSaves());
+        savedSession.getCurrentCountdown().setPause();
+        clock.advance(1, TimeUnit.HOURS);
+
+        Session restoredSession = new Session(new FocusUi(), clock, sessionStorage);
+        Assertions.assertEquals(3, restoredSession.getCycle());
+        Assertions.assertEquals(1, restoredSession.getCurrentCountdownIndex());
+        Assertions.assertTrue(restoredSession.isSessionPaused());
+        Assertions.assertEquals("0:40", restoredSession.getCurrentCountdown().getRemainingTime());
+    }
+
+    /**
+     * Test whether a session that was counting down is restored paused, less the time that passed since.
+     */
+    @Test
+    void restoreSession_countingSession_restoredPausedWithTimePassed() {
+        ManualClock clock = new ManualClock();
+        MemorySessionStorage sessionStorage = new MemorySessionStorage();
+        Session savedSession = new Session(new FocusUi(), clock, sessionStorage);
+        savedSession.startTimer();
+        clock.advance(15, TimeUnit.SECONDS);
+        // The terminal dies here: the session is not saved again and its countdown is never stopped
+        ManualClock clockAfterRestart = new ManualClock();
+        clockAfterRestart.advance(25, TimeUnit.SECONDS);
+
+        Session restoredSession = new Session(new FocusUi(), clockAfterRestart, sessionStorage);
+        Assertions.assertTrue(restoredSession.isSessionPaused());
+        Assertions.assertEquals("0:35", restoredSession.getCurrentCountdown().getRemainingTime());
+        restoredSession.getCurrentCountdown().setStart();
+        clockAfterRestart.advanceUntilIdle();
+        Assertions.assertTrue(restoredSession.isSessionWaiting());
+        savedSession.getCurrentCountdown().setStop();
     }
 
     /**
@@ -79,5 +223,31 @@ public class FocusTest {
             focusManager.testInvalidCommand(command);
         });
     }
-}
 
+    /**
+     * SessionStorage that keeps the snapshot saved last in memory instead of writing it to the data directory.
+     */
+    private static class MemorySessionStorage extends SessionStorage {
+        private SessionSnapshot savedSnapshot;
+        private int numSaves = 0;
+
+        MemorySessionStorage() {
+            super(Storage.getInstance());
+        }
+
+        @Override
+        public Optional<SessionSnapshot> load() {
+            return Optional.ofNullable(savedSnapshot);
+        }
+
+        @Override
+        public void store(SessionSnapshot snapshot) {
+            savedSnapshot = snapshot;
+            numSaves += 1;
+        }
+
+        int getNumSaves() {
+            return numSaves;
+        }
+    }
+}
@@ -129,6 +129,7 @@ public class ConfigCommandTest {
     private static final String INVALID_CYCLE_NEGATIVE = "-5";
     private static final String INVALID_PAYLOAD = "foo";
     private static final String INVALID_PAYLOAD_1 = "bar";
+    private final FocusUi focusUi = new FocusUi();
 
     private String getMessageFrom(String uiOutput) {
         FocusUi ui = new FocusUi();
@@ -184,7 +185,7 @@ public class ConfigCommandTest {
         Session session = new Session();
         // Test with missing arguments
         HashMap<String, String> argumentPayload = generateArguments(VALID_CYCLE, VALID_TIME, null, null);
-        command = new ConfigCommand(argumentPayload, session);
+        command = new ConfigCommand(argumentPayload, session, focusUi);
         try {
             command.execute();
         } catch (WellNusException exception) {
@@ -195,7 +196,7 @@ public class ConfigCommandTest {
 
         // Test with numbers within range
         argumentPayload = generateArguments(VALID_CYCLE, VALID_TIME_2, VALID_TIME_1, VALID_TIME_2);
-        command = new ConfigCommand(argumentPayload, session);
+        command = new ConfigCommand(argumentPayload, session, focusUi);
         try {
             command.execute();
         } catch (WellNusException exception) {
@@ -215,7 +216,7 @@ public class ConfigCommandTest {
         // Test with edge values (max accepted values)
         HashMap<String, String> argumentPayload = generateArguments(MAX_CYCLE,
                 VALID_TIME_MAX, VALID_TIME_MAX, VALID_TIME_MAX);
-        command = new ConfigCommand(argumentPayload, session);
+        command = new ConfigCommand(argumentPayload, session, focusUi);
         try {
             command.execute();
         } catch (WellNusException exception) {
@@ -226,7 +227,7 @@ public class ConfigCommandTest {
 
         // Test with edge values (min accepted values)
         argumentPayload = generateArguments(MIN_CYCLE, DEFAULT_TIME, DEFAULT_TIME, DEFAULT_TIME);
-        command = new ConfigCommand(argumentPayload, session);
+        command = new ConfigCommand(argumentPayload, session, focusUi);
         try {
             command.execute();
         } catch (WellNusException exception) {
@@ -247,7 +248,7 @@ public class ConfigCommandTest {
         // Test with negative time values
         HashMap<String, String> argumentPayload = generateArguments(MAX_CYCLE, VALID_TIME,
                 INVALID_TIME_NEGATIVE, VALID_TIME_2);
-        command = new ConfigCommand(argumentPayload, session);
+        command = new ConfigCommand(argumentPayload, session, focusUi);
         ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
         System.setOut(new PrintStream(outputStream));
         try {
@@ -259,7 +260,7 @@ public class ConfigCommandTest {
         // Test with negative cycle values
         argumentPayload = generateArguments(INVALID_CYCLE_NEGATIVE, VALID_TIME,
                 VALID_TIME, VALID_TIME);
-        command = new ConfigCommand(argumentPayload, session);
+        command = new ConfigCommand(argumentPayload, session, focusUi);
         outputStream = new ByteArrayOutputStream();
         System.setOut(new PrintStream(outputStream));
         try {
@@ -280,7 +281,7 @@ public class ConfigCommandTest {
         // Test with large time values
         HashMap<String, String> argumentPayload = generateArguments(MAX_CYCLE, INVALID_TIME_MAX,
                 VALID_TIME, VALID_TIME_2);
-        command = new ConfigCommand(argumentPayload, session);
+        command = new ConfigCommand(argumentPayload, session, focusUi);
         ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
         System.setOut(new PrintStream(outputStream));
         try {
@@ -293,7 +294,7 @@ public class ConfigCommandTest {
         // Test with large cycle values
         outputStream = new ByteArrayOutputStream();
         argumentPayload = generateArguments(INVALID_CYCLE_MAX, VALID_TIME, VALID_TIME, VALID_TIME_2);
-        command = new ConfigCommand(argumentPayload, session);
+        command = new ConfigCommand(argumentPayload, session, focusUi);
         System.setOut(new PrintStream(outputStream));
         try {
             command.execute();
@@ -313,7 +314,7 @@ public class ConfigCommandTest {
         // Test with NaN time value
         HashMap<String, String> argumentPayload = generateArguments(MAX_CYCLE, INVALID_PAYLOAD,
                 VALID_TIME, VALID_TIME_2);
-        command = new ConfigCommand(argumentPayload, session);
+        command = new ConfigCommand(argumentPayload, session, focusUi);
         ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
         System.setOut(new PrintStream(outputStream));
         try {
@@ -326,7 +327,7 @@ public class ConfigCommandTest {
         // Test with NaN cycle value
         argumentPayload = generateArguments(INVALID_PAYLOAD_1, VALID_TIME,
                 VALID_TIME, VALID_TIME_2);
-        command = new ConfigCommand(argumentPayload, session);
+        command = new ConfigCommand(argumentPayload, session, focusUi);
         outputStream = new ByteArrayOutputStream();
         System.setOut(new PrintStream(outputStream));
         try {
@@ -348,7 +349,7 @@ public class ConfigCommandTest {
         HashMap<String, String> argumentPayload = generateArguments(MAX_CYCLE,
                 VALID_TIME, VALID_TIME, VALID_TIME_2);
         argumentPayload.put(INVALID_PAYLOAD, INVALID_PAYLOAD_1);
-        command = new ConfigCommand(argumentPayload, session);
+        command = new ConfigCommand(argumentPayload, session, focusUi);
         ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
         System.setOut(new PrintStream(outputStream));
         try {
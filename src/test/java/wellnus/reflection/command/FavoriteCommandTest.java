@@ -12,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import wellnus.command.CommandParser;
 import wellnus.exception.BadCommandException;
 import wellnus.reflection.feature.QuestionList;
+import wellnus.reflection.feature.ReflectUi;
 
 // @@author wenxin-c
 /**
@@ -38,10 +39,10 @@ class FavoriteCommandTest {
     void validateCommand_getCommand_expectException() throws BadCommandException {
         CommandParser commandParser = new CommandParser();
         HashMap<String, String> favCmdWrongPayload = commandParser.parseUserInput(FAV_COMMAND_WRONG_PAYLOAD);
-        FavoriteCommand favWrongPayload = new FavoriteCommand(favCmdWrongPayload, QUESTION_LIST);
+        FavoriteCommand favWrongPayload = new FavoriteCommand(favCmdWrongPayload, QUESTION_LIST, new ReflectUi());
         assertThrows(BadCommandException.class, () -> favWrongPayload.validateCommand(favCmdWrongPayload));
         HashMap<String, String> favCmdWrongArgument = commandParser.parseUserInput(FAV_COMMAND_WRONG_ARGUMENT);
-        FavoriteCommand favWrongArgument = new FavoriteCommand(favCmdWrongPayload, QUESTION_LIST);
+        FavoriteCommand favWrongArgument = new FavoriteCommand(favCmdWrongPayload, QUESTION_LIST, new ReflectUi());
         assertThrows(BadCommandException.class, () -> favWrongArgument.validateCommand(favCmdWrongArgument));
     }
 
@@ -56,7 +57,7 @@ class FavoriteCommandTest {
         questionList.setRandomQuestionIndexes(RANDOM_INDEXES);
         CommandParser commandParser = new CommandParser();
         HashMap<String, String> argumentPayloadLikeCmd = commandParser.parseUserInput(LIKE_COMMAND);
-        LikeCommand likeCmd = new LikeCommand(argumentPayloadLikeCmd, questionList);
+        LikeCommand likeCmd = new LikeCommand(argumentPayloadLikeCmd, questionList, new ReflectUi());
         likeCmd.execute();
         String favQuestions = questionList.getFavQuestions();
         assertEquals(IS_CORRECT_LENGTH, favQuestions.length() >= MIN_QUESTION_LENGTH);
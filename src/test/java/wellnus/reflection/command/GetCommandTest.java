@@ -13,6 +13,7 @@ import wellnus.command.CommandParser;
 import wellnus.exception.BadCommandException;
 import wellnus.exception.StorageException;
 import wellnus.reflection.feature.QuestionList;
+import wellnus.reflection.feature.ReflectUi;
 import wellnus.reflection.feature.ReflectionManager;
 import wellnus.reflection.feature.ReflectionQuestion;
 
@@ -55,7 +56,7 @@ class GetCommandTest {
     void getRandomQuestions_checkLength_expectFive() throws BadCommandException, StorageException {
         CommandParser commandParser = new CommandParser();
         HashMap<String, String> getCmdArgumentPayload = commandParser.parseUserInput(GET_COMMAND);
-        GetCommand get = new GetCommand(getCmdArgumentPayload, QUESTION_LIST);
+        GetCommand get = new GetCommand(getCmdArgumentPayload, QUESTION_LIST, new ReflectUi());
         ArrayList<ReflectionQuestion> selectedQuestions = get.getRandomQuestions();
         assertEquals(EXPECTED_ARRAY_LENGTH, selectedQuestions.size());
     }
@@ -70,10 +71,10 @@ class GetCommandTest {
     void validateCommand_getCommand_expectException() throws BadCommandException {
         CommandParser commandParser = new CommandParser();
         HashMap<String, String> getCmdWrongPayload = commandParser.parseUserInput(GET_COMMAND_WRONG_PAYLOAD);
-        GetCommand getWrongPayload = new GetCommand(getCmdWrongPayload, QUESTION_LIST);
+        GetCommand getWrongPayload = new GetCommand(getCmdWrongPayload, QUESTION_LIST, new ReflectUi());
         assertThrows(BadCommandException.class, () -> getWrongPayload.validateCommand(getCmdWrongPayload));
         HashMap<String, String> getCmdWrongArgument = commandParser.parseUserInput(GET_COMMAND_WRONG_ARGUMENT);
-        GetCommand getWrongArgument = new GetCommand(getCmdWrongArgument, QUESTION_LIST);
+        GetCommand getWrongArgument = new GetCommand(getCmdWrongArgument, QUESTION_LIST, new ReflectUi());
         assertThrows(BadCommandException.class, () -> getWrongArgument.validateCommand(getCmdWrongArgument));
     }
 }
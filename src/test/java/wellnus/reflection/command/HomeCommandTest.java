@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import wellnus.command.CommandParser;
 import wellnus.exception.BadCommandException;
 import wellnus.reflection.feature.QuestionList;
+import wellnus.reflection.feature.ReflectUi;
 import wellnus.reflection.feature.ReflectionManager;
 
 //@@author wenxin-c
@@ -36,7 +37,7 @@ class HomeCommandTest {
         ReflectionManager reflectionManager = new ReflectionManager();
         reflectionManager.setArgumentPayload(HOME_COMMAND);
         HashMap<String, String> returnArgumentPayload = reflectionManager.getArgumentPayload();
-        HomeCommand homeCmd = new HomeCommand(returnArgumentPayload, QUESTION_LIST);
+        HomeCommand homeCmd = new HomeCommand(returnArgumentPayload, QUESTION_LIST, new ReflectUi());
         homeCmd.execute();
         assertEquals(IS_EXIT, reflectionManager.getIsExit());
     }
@@ -51,10 +52,10 @@ class HomeCommandTest {
     void execute_checkWrongCmdFormat_expectException() throws BadCommandException {
         CommandParser commandParser = new CommandParser();
         HashMap<String, String> homeCmdWrongPayload = commandParser.parseUserInput(HOME_COMMAND_WRONG_PAYLOAD);
-        HomeCommand homeWrongPayload = new HomeCommand(homeCmdWrongPayload, QUESTION_LIST);
+        HomeCommand homeWrongPayload = new HomeCommand(homeCmdWrongPayload, QUESTION_LIST, new ReflectUi());
         assertThrows(BadCommandException.class, () -> homeWrongPayload.validateCommand(homeCmdWrongPayload));
         HashMap<String, String> homeCmdWrongArgument = commandParser.parseUserInput(HOME_COMMAND_WRONG_ARGUMENT);
-        HomeCommand homeWrongArgument = new HomeCommand(homeCmdWrongArgument, QUESTION_LIST);
+        HomeCommand homeWrongArgument = new HomeCommand(homeCmdWrongArgument, QUESTION_LIST, new ReflectUi());
         assertThrows(BadCommandException.class, () -> homeWrongArgument.validateCommand(homeCmdWrongArgument));
     }
 
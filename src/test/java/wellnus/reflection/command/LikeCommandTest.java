@@ -15,6 +15,7 @@ import wellnus.exception.BadCommandException;
 import wellnus.exception.ReflectionException;
 import wellnus.reflection.feature.IndexMapper;
 import wellnus.reflection.feature.QuestionList;
+import wellnus.reflection.feature.ReflectUi;
 
 // @@author wenxin-c
 /**
@@ -46,11 +47,11 @@ class LikeCommandTest {
         QuestionList questionList = new QuestionList();
         CommandParser commandParser = new CommandParser();
         HashMap<String, String> argumentPayloadMissingParam = commandParser.parseUserInput(LIKE_COMMAND_MISSING_PARAM);
-        LikeCommand likeCmdMissingParam = new LikeCommand(argumentPayloadMissingParam, questionList);
+        LikeCommand likeCmdMissingParam = new LikeCommand(argumentPayloadMissingParam, questionList, new ReflectUi());
         HashMap<String, String> argumentPayloadWrongParam = commandParser.parseUserInput(LIKE_COMMAND_WRONG_PARAM);
-        LikeCommand likeCmdWrongParam = new LikeCommand(argumentPayloadWrongParam, questionList);
+        LikeCommand likeCmdWrongParam = new LikeCommand(argumentPayloadWrongParam, questionList, new ReflectUi());
         HashMap<String, String> argumentPayloadOutBound = commandParser.parseUserInput(LIKE_COMMAND_OUT_OF_BOUND);
-        LikeCommand likeCmdOutBound = new LikeCommand(argumentPayloadOutBound, questionList);
+        LikeCommand likeCmdOutBound = new LikeCommand(argumentPayloadOutBound, questionList, new ReflectUi());
         assertThrows(NumberFormatException.class, (
         ) -> likeCmdMissingParam.addFavQuestion(argumentPayloadMissingParam.get(LIKE_COMMAND_KEYWORD)));
         assertThrows(NumberFormatException.class, (
@@ -92,7 +93,7 @@ class LikeCommandTest {
         questionList.setRandomQuestionIndexes(RANDOM_INDEXES);
         CommandParser commandParser = new CommandParser();
         HashMap<String, String> argumentPayloadLikeCmd = commandParser.parseUserInput(LIKE_COMMAND);
-        LikeCommand likeCmd = new LikeCommand(argumentPayloadLikeCmd, questionList);
+        LikeCommand likeCmd = new LikeCommand(argumentPayloadLikeCmd, questionList, new ReflectUi());
         likeCmd.execute();
         Set<Integer> favList = questionList.getDataIndex().get(INDEX_ZERO);
         for (int index : favList) {
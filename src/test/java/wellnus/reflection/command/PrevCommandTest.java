@@ -9,6 +9,7 @@ import org.junit.jupiter.api.Test;
 import wellnus.command.CommandParser;
 import wellnus.exception.BadCommandException;
 import wellnus.reflection.feature.QuestionList;
+import wellnus.reflection.feature.ReflectUi;
 
 // @@author wenxin-c
 /**
@@ -30,10 +31,10 @@ public class PrevCommandTest {
     void validateCommand_getCommand_expectException() throws BadCommandException {
         CommandParser commandParser = new CommandParser();
         HashMap<String, String> prevCmdWrongPayload = commandParser.parseUserInput(PREV_COMMAND_WRONG_PAYLOAD);
-        GetCommand prevWrongPayload = new GetCommand(prevCmdWrongPayload, QUESTION_LIST);
+        GetCommand prevWrongPayload = new GetCommand(prevCmdWrongPayload, QUESTION_LIST, new ReflectUi());
         assertThrows(BadCommandException.class, () -> prevWrongPayload.validateCommand(prevCmdWrongPayload));
         HashMap<String, String> prevCmdWrongArgument = commandParser.parseUserInput(PREV_COMMAND_WRONG_ARGUMENT);
-        GetCommand prevWrongArgument = new GetCommand(prevCmdWrongArgument, QUESTION_LIST);
+        GetCommand prevWrongArgument = new GetCommand(prevCmdWrongArgument, QUESTION_LIST, new ReflectUi());
         assertThrows(BadCommandException.class, () -> prevWrongArgument.validateCommand(prevCmdWrongArgument));
     }
 }
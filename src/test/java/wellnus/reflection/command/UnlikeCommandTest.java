@@ -11,6 +11,7 @@ import wellnus.command.CommandParser;
 import wellnus.exception.BadCommandException;
 import wellnus.exception.ReflectionException;
 import wellnus.reflection.feature.QuestionList;
+import wellnus.reflection.feature.ReflectUi;
 
 // @@author wenxin-c
 /**
@@ -36,7 +37,7 @@ class UnlikeCommandTest {
         QuestionList questionList = new QuestionList();
         CommandParser commandParser = new CommandParser();
         HashMap<String, String> argumentsUnlikeCmdOutBound = commandParser.parseUserInput(UNLIKE_CMD_OUT_BOUND_INDEX);
-        UnlikeCommand unlikeCmd = new UnlikeCommand(argumentsUnlikeCmdOutBound, questionList);
+        UnlikeCommand unlikeCmd = new UnlikeCommand(argumentsUnlikeCmdOutBound, questionList, new ReflectUi());
         if (questionList.hasFavQuestions()) {
             assertThrows(ReflectionException.class, (
             ) -> unlikeCmd.removeFavQuestion(argumentsUnlikeCmdOutBound.get(UNLIKE_KEYWORD)));
@@ -56,7 +57,7 @@ class UnlikeCommandTest {
         QuestionList questionList = new QuestionList();
         CommandParser commandParser = new CommandParser();
         HashMap<String, String> argumentsUnlikeCmdOutBound = commandParser.parseUserInput(UNLIKE_COMMAND);
-        UnlikeCommand unlikeCmd = new UnlikeCommand(argumentsUnlikeCmdOutBound, questionList);
+        UnlikeCommand unlikeCmd = new UnlikeCommand(argumentsUnlikeCmdOutBound, questionList, new ReflectUi());
         unlikeCmd.execute();
         assertEquals(EMPTY_LIST, questionList.getDataIndex().get(INDEX_ZERO).size());
     }
@@ -1,10 +1,14 @@
 package wellnus.reflection.feature;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 
 import org.junit.jupiter.api.Test;
 
+import wellnus.exception.StorageException;
+
 // @@author wenxin-c
 /**
  * Class to test different tests for `QuestionList` Class utilising JUnit tests.
@@ -25,5 +29,20 @@ class QuestionListTest {
         int fullArrayLength = questions.size();
         assertEquals(FULL_ARRAY_LENGTH, fullArrayLength);
     }
-}
 
+    /**
+     * Test that question indexes loaded from the data file are not stored again until they are changed.<br/>
+     * Expect the list to be modified only between a change and the next store.
+     */
+    @Test
+    void storeQuestionData_afterChange_modifiedUntilStored() throws StorageException {
+        QuestionList questionList = new QuestionList();
+        assertFalse(questionList.isModified());
+        questionList.storeQuestionData();
+        assertFalse(questionList.isModified());
+        questionList.markModified();
+        assertTrue(questionList.isModified());
+        questionList.storeQuestionData();
+        assertFalse(questionList.isModified());
+    }
+}
@@ -18,6 +18,9 @@ class ReflectionManagerTest {
     private static final String EMPTY_STRING = "";
     private static final String GET_COMMAND = "get";
     private static final String INVALID_COMMAND = "test";
+    private static final String LIKE_COMMAND = "  LIKE 2 ";
+    private static final String LIKE_COMMAND_TYPE = "like";
+    private static final String LIKE_PAYLOAD = "2";
     private static final String SEPARATOR = " ";
 
     /**
@@ -60,5 +63,18 @@ class ReflectionManagerTest {
         String value = argumentPayload.get(GET_COMMAND);
         assertEquals(EMPTY_STRING, value);
     }
-}
 
+    /**
+     * Test whether the command type and argument_payload pair are both set from a single parse.<br/>
+     *
+     * @throws BadCommandException If an invalid command is given.
+     */
+    @Test
+    void setCommand_paddedCommand_expectTypeAndPayload() throws BadCommandException {
+        ReflectionManager reflectionManager = new ReflectionManager();
+        reflectionManager.setCommand(LIKE_COMMAND);
+        assertEquals(LIKE_COMMAND_TYPE, reflectionManager.getCommandType());
+        assertEquals(LIKE_PAYLOAD, reflectionManager.getArgumentPayload().get(LIKE_COMMAND_TYPE));
+        assertThrows(BadCommandException.class, () -> reflectionManager.setCommand(EMPTY_STRING));
+    }
+}
@@ -35,6 +35,13 @@ public class AtomicHabitTokenizerTest {
     private static final String INVALID_STRING_FOUR = "--description --count";
     private static final String INVALID_STRING_FIVE = "--description foo --count bar";
     private static final String INVALID_STRING_SIX = "--description foo --count 1 --baz baz";
+    private static final String INVALID_STRING_SEVEN = "--description 12$%^ --count 1";
+    private static final String INVALID_STRING_EIGHT = "--description foo --count";
+    private static final String TOKENIZED_HABIT_LEADING_TEXT = "ignored --count 3 --description foo  bar ";
+    private static final String TOKENIZED_HABIT_REPEATED_KEY = "--description foo --count 1 --description bar";
+    private static final String EXPECTED_DESCRIPTION_LEADING_TEXT = "foo  bar";
+    private static final String EXPECTED_DESCRIPTION_REPEATED_KEY = "bar";
+    private static final int EXPECTED_COUNT_LEADING_TEXT = 3;
 
     private ArrayList<String> getInvalidTokenizedArrayList(String invalidString) {
         ArrayList<String> invalidTokenizedArrayList = new ArrayList<>();
@@ -125,5 +132,32 @@ public class AtomicHabitTokenizerTest {
         Assertions.assertThrows(TokenizerException.class, () -> {
             habitTokenizer.detokenize(getInvalidTokenizedArrayList(INVALID_STRING_SIX));
         });
+
+        Assertions.assertThrows(TokenizerException.class, () -> {
+            habitTokenizer.detokenize(getInvalidTokenizedArrayList(INVALID_STRING_SEVEN));
+        });
+
+        Assertions.assertThrows(TokenizerException.class, () -> {
+            habitTokenizer.detokenize(getInvalidTokenizedArrayList(INVALID_STRING_EIGHT));
+        });
+    }
+
+    /**
+     * Tests that {@link AtomicHabitTokenizer#detokenize(ArrayList)} ignores text before the first parameter,
+     * accepts parameters in any order and uses the last value of a repeated parameter.
+     *
+     * @throws TokenizerException if an error occurs during tokenization.
+     */
+    @Test
+    void detokenizeHabit_unusualParameterLayout_success() throws TokenizerException {
+        ArrayList<String> tokenizedHabits = new ArrayList<>();
+        tokenizedHabits.add(TOKENIZED_HABIT_LEADING_TEXT);
+        tokenizedHabits.add(TOKENIZED_HABIT_REPEATED_KEY);
+        AtomicHabitTokenizer habitTokenizer = new AtomicHabitTokenizer();
+        ArrayList<AtomicHabit> actualDetokenizedAtomicHabits = habitTokenizer.detokenize(tokenizedHabits);
+        assertEquals(EXPECTED_DESCRIPTION_LEADING_TEXT, actualDetokenizedAtomicHabits.get(INDEX_ZERO).getDescription());
+        assertEquals(EXPECTED_COUNT_LEADING_TEXT, actualDetokenizedAtomicHabits.get(INDEX_ZERO).getCount());
+        assertEquals(EXPECTED_DESCRIPTION_REPEATED_KEY, actualDetokenizedAtomicHabits.get(INDEX_ONE).getDescription());
+        assertEquals(EXPECTED_COUNT_TEST_ONE, actualDetokenizedAtomicHabits.get(INDEX_ONE).getCount());
     }
 }
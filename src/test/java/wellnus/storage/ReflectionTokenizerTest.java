@@ -1,5 +1,10 @@
 package wellnus.storage;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Set;
@@ -26,6 +31,8 @@ public class ReflectionTokenizerTest {
     private static final String EXPECTED_TOKENIZED_PREV_EMPTY = "prev:";
     private static final String TOKENIZED_LIKE_TEST = "like:1,2";
     private static final String TOKENIZED_PREV_TEST = "prev:1,2,3,4,5";
+    // Bitset of the like indexes 1 and 2, followed by a bitset of only 3 prev indexes
+    private static final byte[] INVALID_BINARY_PREV = {0b110, 0b1110};
 
     /**
      * Tests the {@link ReflectionTokenizer#tokenize(ArrayList)} method to ensure that it correctly
@@ -111,4 +118,26 @@ public class ReflectionTokenizerTest {
         Assertions.assertEquals(expectedDetokenizedLikes, actualDetokenizedIndex.get(NUMBER_ZERO));
         Assertions.assertEquals(expectedDetokenizedPrevs, actualDetokenizedIndex.get(NUMBER_ONE));
     }
+
+    /**
+     * Tests that {@link ReflectionTokenizer#writeBinary} and {@link ReflectionTokenizer#readBinary} restore the same
+     * like and prev indexes, and that a bitset with the wrong number of prev indexes is rejected.
+     *
+     * @throws IOException if an error occurs while writing or reading the bitsets.
+     * @throws TokenizerException if an error occurs during detokenization.
+     */
+    @Test
+    void readBinaryReflect_writtenIndexes_sameIndexes() throws IOException, TokenizerException {
+        ReflectionTokenizer reflectionTokenizer = new ReflectionTokenizer();
+        ArrayList<String> stringsToDetokenize = new ArrayList<>();
+        stringsToDetokenize.add(TOKENIZED_LIKE_TEST);
+        stringsToDetokenize.add(TOKENIZED_PREV_TEST);
+        ArrayList<Set<Integer>> expectedIndexes = reflectionTokenizer.detokenize(stringsToDetokenize);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        reflectionTokenizer.writeBinary(expectedIndexes, new DataOutputStream(bytes));
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        Assertions.assertEquals(expectedIndexes, reflectionTokenizer.readBinary(input));
+        DataInputStream invalidInput = new DataInputStream(new ByteArrayInputStream(INVALID_BINARY_PREV));
+        Assertions.assertThrows(TokenizerException.class, () -> reflectionTokenizer.readBinary(invalidInput));
+    }
 }
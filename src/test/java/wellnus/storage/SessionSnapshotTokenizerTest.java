@@ -0,0 +1,86 @@
+package wellnus.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import wellnus.exception.TokenizerException;
+import wellnus.focus.feature.SessionSnapshot;
+
+/**
+ * Tests that <code>SessionSnapshotTokenizer</code> restores the snapshots it tokenizes,
+ * and rejects snapshots that do not describe a valid session.
+ */
+public class SessionSnapshotTokenizerTest {
+    private static final String TOKENIZED_SNAPSHOT = "--cycle 3 --work 25 --break 5 --longbreak 15 --index 4 "
+            + "--state paused --remaining 754321 --savedat 1700000000000";
+
+    /**
+     * Check that a tokenized snapshot is detokenized into the same snapshot.
+     */
+    @Test
+    public void detokenize_tokenizedSnapshot_sameSnapshot() throws TokenizerException {
+        SessionSnapshotTokenizer tokenizer = new SessionSnapshotTokenizer();
+        ArrayList<SessionSnapshot> snapshots = new ArrayList<>();
+        snapshots.add(new SessionSnapshot(3, 25, 5, 15, 4, SessionSnapshot.State.PAUSED, 754321, 1700000000000L));
+        ArrayList<String> tokenizedSnapshots = tokenizer.tokenize(snapshots);
+        assertEquals(TOKENIZED_SNAPSHOT, tokenizedSnapshots.get(0));
+        SessionSnapshot snapshot = tokenizer.detokenize(tokenizedSnapshots).get(0);
+        assertEquals(3, snapshot.getCycle());
+        assertEquals(25, snapshot.getWork());
+        assertEquals(5, snapshot.getBrk());
+        assertEquals(15, snapshot.getLongBrk());
+        assertEquals(4, snapshot.getCountdownIndex());
+        assertEquals(SessionSnapshot.State.PAUSED, snapshot.getState());
+        assertEquals(754321, snapshot.getRemainingMillis());
+        assertEquals(1700000000000L, snapshot.getSavedAtMillis());
+    }
+
+    /**
+     * Check that snapshots with an unknown state, a countdown outside the session or a missing value
+     * are rejected with a <code>TokenizerException</code>.
+     */
+    @Test
+    public void detokenize_invalidSnapshots_exceptionThrown() {
+        SessionSnapshotTokenizer tokenizer = new SessionSnapshotTokenizer();
+        String[] invalidSnapshots = {
+            TOKENIZED_SNAPSHOT.replace("paused", "sleeping"),
+            TOKENIZED_SNAPSHOT.replace("--index 4", "--index 6"),
+            TOKENIZED_SNAPSHOT.replace("--work 25", "--work -25"),
+            TOKENIZED_SNAPSHOT.replace("--savedat 1700000000000", ""),
+            "definitely not data"
+        };
+        assertAllRejected(tokenizer, invalidSnapshots);
+    }
+
+    /**
+     * Check that values beyond the limits of 'config' or the length of their countdown, including ones that
+     * would wrap around when narrowed to an int, are rejected with a <code>TokenizerException</code>.
+     */
+    @Test
+    public void detokenize_outOfRangeSnapshots_exceptionThrown() {
+        SessionSnapshotTokenizer tokenizer = new SessionSnapshotTokenizer();
+        String[] outOfRangeSnapshots = {
+            TOKENIZED_SNAPSHOT.replace("--work 25", "--work 4294967297"),
+            TOKENIZED_SNAPSHOT.replace("--break 5", "--break 2147483648"),
+            TOKENIZED_SNAPSHOT.replace("--index 4", "--index 4294967296"),
+            TOKENIZED_SNAPSHOT.replace("--cycle 3", "--cycle 100000").replace("--work 25", "--work 100000"),
+            TOKENIZED_SNAPSHOT.replace("--cycle 3", "--cycle 6"),
+            TOKENIZED_SNAPSHOT.replace("--cycle 3 ", "--cycle 1 ").replace("--index 4", "--index 1"),
+            TOKENIZED_SNAPSHOT.replace("--remaining 754321", "--remaining 1500001"),
+            TOKENIZED_SNAPSHOT.replace("--longbreak 15", "--longbreak 61")
+        };
+        assertAllRejected(tokenizer, outOfRangeSnapshots);
+    }
+
+    private void assertAllRejected(SessionSnapshotTokenizer tokenizer, String[] invalidSnapshots) {
+        for (String invalidSnapshot : invalidSnapshots) {
+            ArrayList<String> tokenizedSnapshots = new ArrayList<>();
+            tokenizedSnapshots.add(invalidSnapshot);
+            assertThrows(TokenizerException.class, () -> tokenizer.detokenize(tokenizedSnapshots));
+        }
+    }
+}
@@ -2,16 +2,30 @@ package wellnus.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 
+import wellnus.atomichabit.feature.AtomicHabit;
 import wellnus.exception.StorageException;
+import wellnus.exception.TokenizerException;
 
 //@@author nichyjt
 
@@ -31,10 +45,23 @@ public class StorageTest {
     private static final String ERROR_STORAGE_FAIL_SAVE = "Storage failed to save data!";
     private static final String ERROR_STORAGE_FAIL_DELETE = "Failed to delete file!";
     private static final String ERROR_STORAGE_FAIL_CREATE = "Failed to create and get new file!";
+    private static final String ERROR_CREATE_TEMP_FILE_FAIL = "Failed to create leftover temporary file!";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String DATA_DIRECTORY = "data";
+    private static final String DEBUG_TEXT_FILE_NAME = "debug.txt";
+    private static final String DEBUG_BINARY_FILE_NAME = "debug.bin";
+    // Enough habits for the data file to span several of the chunks it is streamed in
+    private static final int NUM_STREAMED_HABITS = 5000;
+    private static final String STREAMED_HABIT_PREFIX = "streamed habit ";
+    // Long enough that the background thread never flushes while a test is running
+    private static final long TEST_FLUSH_WINDOW_MILLIS = 60_000;
     private static final String DEBUG_PAYLOAD_0 = "attr0 p0";
     private static final String DEBUG_PAYLOAD_1 = "attr1 p1 --p2 p3";
     private static final String DEBUG_PAYLOAD_2 = "attr2 --p1 p2 --p3 --p4";
     private static final String DEBUG_PAYLOAD_3 = "attr3";
+    private static final String DEBUG_PAYLOAD_UPDATED = "attr1 p1 --p2 updated";
+    private static final String CRLF_DELIMITER = " --\r\n";
+    private static final String LF_DELIMITER = " --\n";
 
     private Storage getStorageInstance() {
 
@@ -48,6 +75,14 @@ public class StorageTest {
         return storage;
     }
 
+    private void cleanupDebugFile(Storage storage) {
+        try {
+            storage.deleteFile(Storage.FILE_DEBUG);
+        } catch (StorageException exception) {
+            fail(ERROR_CLEANUP_FILE_FAIL);
+        }
+    }
+
     private ArrayList<String> getDebugStringList() {
         ArrayList<String> stringList = new ArrayList<>();
         stringList.add(DEBUG_PAYLOAD_0);
@@ -250,4 +285,518 @@ public class StorageTest {
         }, EXPECTED_EXCEPTION_FILENAME);
     }
 
+    /**
+     * Test that changes appended to the journal are replayed by a fresh instance of Storage
+     */
+    @Test
+    @Order(11)
+    public void saveData_journaled_changesReplayedOnLoad() {
+        Storage storage = getStorageInstance();
+        assert storage != null;
+        storage.setJournaled(true);
+        ArrayList<String> expected = getDebugStringList();
+        try {
+            storage.saveData(expected, Storage.FILE_DEBUG);
+            expected.set(1, DEBUG_PAYLOAD_UPDATED);
+            storage.saveData(expected, Storage.FILE_DEBUG);
+            expected.remove(0);
+            storage.saveData(expected, Storage.FILE_DEBUG);
+            expected.add(DEBUG_PAYLOAD_0);
+            storage.saveData(expected, Storage.FILE_DEBUG);
+        } catch (StorageException exception) {
+            fail(ERROR_STORAGE_FAIL_SAVE);
+        }
+        Storage freshStorage = getStorageInstance();
+        assert freshStorage != null;
+        try {
+            assertEquals(expected, freshStorage.loadData(Storage.FILE_DEBUG));
+            // Loading folds the journal into the data file, so loading again must give the same result
+            assertEquals(expected, freshStorage.loadData(Storage.FILE_DEBUG));
+        } catch (StorageException exception) {
+            fail(ERROR_STORAGE_FAIL_LOAD);
+        }
+        cleanupDebugFile(storage);
+    }
+
+    /**
+     * Test that a full save supersedes any journal left behind by earlier journaled saves
+     */
+    @Test
+    @Order(12)
+    public void saveData_notJournaled_journalDiscarded() {
+        Storage journaledStorage = getStorageInstance();
+        Storage plainStorage = getStorageInstance();
+        assert journaledStorage != null && plainStorage != null;
+        journaledStorage.setJournaled(true);
+        plainStorage.setJournaled(false);
+        ArrayList<String> original = getDebugStringList();
+        ArrayList<String> updated = getDebugStringList();
+        updated.set(1, DEBUG_PAYLOAD_UPDATED);
+        try {
+            journaledStorage.saveData(original, Storage.FILE_DEBUG);
+            journaledStorage.saveData(updated, Storage.FILE_DEBUG);
+            plainStorage.saveData(original, Storage.FILE_DEBUG);
+            assertEquals(original, plainStorage.loadData(Storage.FILE_DEBUG));
+        } catch (StorageException exception) {
+            fail(ERROR_STORAGE_FAIL_SAVE);
+        }
+        cleanupDebugFile(plainStorage);
+    }
+
+    /**
+     * Test that every fsync policy saves data without leaving the temporary file behind
+     */
+    @Test
+    @Order(13)
+    public void saveData_everyFsyncPolicy_noTempFileLeft() {
+        Storage storage = getStorageInstance();
+        assert storage != null;
+        storage.setJournaled(false);
+        ArrayList<String> debugList = getDebugStringList();
+        for (FsyncPolicy fsyncPolicy : FsyncPolicy.values()) {
+            storage.setFsyncPolicy(fsyncPolicy);
+            try {
+                storage.saveData(debugList, Storage.FILE_DEBUG);
+                File debugFile = storage.getFile(Storage.FILE_DEBUG);
+                File tempFile = new File(debugFile.getPath() + TEMP_FILE_SUFFIX);
+                assertFalse(tempFile.exists());
+                assertEquals(debugList, storage.loadData(Storage.FILE_DEBUG));
+            } catch (StorageException exception) {
+                fail(ERROR_STORAGE_FAIL_SAVE);
+            }
+        }
+        cleanupDebugFile(storage);
+    }
+
+    /**
+     * Test that a temporary file left behind by an interrupted write does not affect loading
+     */
+    @Test
+    @Order(14)
+    public void loadData_leftoverTempFile_ignoredAndDeleted() {
+        Storage storage = getStorageInstance();
+        assert storage != null;
+        ArrayList<String> debugList = getDebugStringList();
+        File tempFile;
+        try {
+            storage.saveData(debugList, Storage.FILE_DEBUG);
+            File debugFile = storage.getFile(Storage.FILE_DEBUG);
+            tempFile = new File(debugFile.getPath() + TEMP_FILE_SUFFIX);
+            Files.writeString(tempFile.toPath(), DEBUG_PAYLOAD_3);
+        } catch (StorageException | IOException exception) {
+            fail(ERROR_CREATE_TEMP_FILE_FAIL);
+            return;
+        }
+        try {
+            assertEquals(debugList, storage.loadData(Storage.FILE_DEBUG));
+        } catch (StorageException exception) {
+            fail(ERROR_STORAGE_FAIL_LOAD);
+        }
+        assertFalse(tempFile.exists());
+        cleanupDebugFile(storage);
+    }
+
+    /**
+     * Test that saves scheduled in quick succession are coalesced and visible to loadData before being flushed
+     */
+    @Test
+    @Order(15)
+    public void scheduleSave_multipleSaves_latestLoaded() {
+        Storage storage = getStorageInstance();
+        assert storage != null;
+        StorageFlusher flusher = StorageFlusher.getInstance();
+        long originalFlushWindow = flusher.getFlushWindowMillis();
+        flusher.setFlushWindowMillis(TEST_FLUSH_WINDOW_MILLIS);
+        ArrayList<String> original = getDebugStringList();
+        ArrayList<String> updated = getDebugStringList();
+        updated.set(1, DEBUG_PAYLOAD_UPDATED);
+        try {
+            storage.scheduleSave(original, Storage.FILE_DEBUG);
+            storage.scheduleSave(updated, Storage.FILE_DEBUG);
+            assertTrue(flusher.isDirty(Storage.FILE_DEBUG));
+            assertEquals(updated, storage.loadData(Storage.FILE_DEBUG));
+            assertFalse(flusher.isDirty(Storage.FILE_DEBUG));
+        } catch (StorageException exception) {
+            fail(ERROR_STORAGE_FAIL_LOAD);
+        } finally {
+            flusher.setFlushWindowMillis(originalFlushWindow);
+        }
+        cleanupDebugFile(storage);
+    }
+
+    /**
+     * Test that flushing writes every pending save to the data file
+     */
+    @Test
+    @Order(16)
+    public void flush_pendingSave_writtenToDisk() {
+        Storage storage = getStorageInstance();
+        assert storage != null;
+        StorageFlusher flusher = StorageFlusher.getInstance();
+        long originalFlushWindow = flusher.getFlushWindowMillis();
+        flusher.setFlushWindowMillis(TEST_FLUSH_WINDOW_MILLIS);
+        try {
+            storage.scheduleSave(getDebugStringList(), Storage.FILE_DEBUG);
+            flusher.flush();
+            assertFalse(flusher.isDirty(Storage.FILE_DEBUG));
+            File debugFile = storage.getFile(Storage.FILE_DEBUG);
+            assertEquals(getDebugTokenizedString(), Files.readString(debugFile.toPath()));
+        } catch (StorageException | IOException exception) {
+            fail(ERROR_STORAGE_FAIL_SAVE);
+        } finally {
+            flusher.setFlushWindowMillis(originalFlushWindow);
+        }
+        cleanupDebugFile(storage);
+    }
+
+    /**
+     * Test that deleting a file drops its pending save, so the file is not written again afterwards
+     */
+    @Test
+    @Order(17)
+    public void deleteFile_pendingSave_discarded() {
+        Storage storage = getStorageInstance();
+        assert storage != null;
+        StorageFlusher flusher = StorageFlusher.getInstance();
+        long originalFlushWindow = flusher.getFlushWindowMillis();
+        flusher.setFlushWindowMillis(TEST_FLUSH_WINDOW_MILLIS);
+        try {
+            storage.scheduleSave(getDebugStringList(), Storage.FILE_DEBUG);
+            storage.deleteFile(Storage.FILE_DEBUG);
+            assertFalse(flusher.isDirty(Storage.FILE_DEBUG));
+            flusher.flush();
+            assertFalse(storage.checkFileExists(Storage.FILE_DEBUG));
+        } catch (StorageException exception) {
+            fail(ERROR_STORAGE_FAIL_DELETE);
+        } finally {
+            flusher.setFlushWindowMillis(originalFlushWindow);
+        }
+    }
+
+    /**
+     * Test that every feature gets the same shared instance of Storage
+     */
+    @Test
+    @Order(18)
+    public void getInstance_calledTwice_sameInstance() {
+        assertSame(Storage.getInstance(), Storage.getInstance());
+    }
+
+    /**
+     * Test that the shared Storage still saves and loads a file that another instance deleted after it was cached
+     */
+    @Test
+    @Order(19)
+    public void saveData_fileDeletedByOtherInstance_fileRecreated() {
+        Storage sharedStorage = Storage.getInstance();
+        Storage otherStorage = getStorageInstance();
+        assert otherStorage != null;
+        ArrayList<String> debugList = getDebugStringList();
+        try {
+            sharedStorage.saveData(debugList, Storage.FILE_DEBUG);
+            otherStorage.deleteFile(Storage.FILE_DEBUG);
+            debugList.set(1, DEBUG_PAYLOAD_UPDATED);
+            sharedStorage.saveData(debugList, Storage.FILE_DEBUG);
+            assertTrue(otherStorage.checkFileExists(Storage.FILE_DEBUG));
+            assertEquals(debugList, otherStorage.loadData(Storage.FILE_DEBUG));
+        } catch (StorageException exception) {
+            fail(ERROR_STORAGE_FAIL_SAVE);
+        }
+        cleanupDebugFile(sharedStorage);
+    }
+
+    /**
+     * Test that detokenizing follows String.split semantics for strings without delimiters and trailing delimiters
+     */
+    @Test
+    @Order(20)
+    public void detokenizeDataString_edgeCases_splitSemantics() {
+        Storage storage = getStorageInstance();
+        assert storage != null;
+        ArrayList<String> emptyEntry = new ArrayList<>();
+        emptyEntry.add("");
+        assertEquals(emptyEntry, storage.detokenizeDataString(""));
+        assertEquals(new ArrayList<String>(), storage.detokenizeDataString(Storage.DELIMITER + Storage.DELIMITER));
+        ArrayList<String> singleEntry = new ArrayList<>();
+        singleEntry.add(DEBUG_PAYLOAD_2);
+        assertEquals(singleEntry, storage.detokenizeDataString(DEBUG_PAYLOAD_2));
+    }
+
+    /**
+     * Test that a data file written with either line separator is split into the same entries
+     */
+    @Test
+    @Order(21)
+    public void loadData_mixedLineSeparators_entriesSplit() {
+        Storage storage = getStorageInstance();
+        assert storage != null;
+        String data = DEBUG_PAYLOAD_0 + CRLF_DELIMITER + DEBUG_PAYLOAD_1 + LF_DELIMITER
+                + DEBUG_PAYLOAD_2 + CRLF_DELIMITER + DEBUG_PAYLOAD_3;
+        try {
+            File debugFile = storage.getFile(Storage.FILE_DEBUG);
+            Files.writeString(debugFile.toPath(), data);
+            assertEquals(getDebugStringList(), storage.loadData(Storage.FILE_DEBUG));
+        } catch (StorageException | IOException exception) {
+            fail(ERROR_STORAGE_FAIL_LOAD);
+        }
+        cleanupDebugFile(storage);
+    }
+
+    private ArrayList<AtomicHabit> getStreamedHabits() {
+        ArrayList<AtomicHabit> habits = new ArrayList<>();
+        for (int i = 0; i < NUM_STREAMED_HABITS; i += 1) {
+            habits.add(new AtomicHabit(STREAMED_HABIT_PREFIX + i, i));
+        }
+        return habits;
+    }
+
+    private void assertSameHabits(ArrayList<AtomicHabit> expected, ArrayList<AtomicHabit> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i += 1) {
+            assertEquals(expected.get(i).getDescription(), actual.get(i).getDescription());
+            assertEquals(expected.get(i).getCount(), actual.get(i).getCount());
+        }
+    }
+
+    /**
+     * Test that objects written as they are tokenized are read back the same, across many read chunks
+     */
+    @Test
+    @Order(22)
+    public void saveObjects_notJournaled_loadObjectsRestoresObjects() {
+        Storage storage = getStorageInstance();
+        assert storage != null;
+        storage.setJournaled(false);
+        AtomicHabitTokenizer tokenizer = new AtomicHabitTokenizer();
+        ArrayList<AtomicHabit> habits = getStreamedHabits();
+        try {
+            storage.saveObjects(habits, tokenizer, Storage.FILE_DEBUG);
+            assertEquals(tokenizer.tokenize(habits), storage.loadData(Storage.FILE_DEBUG));
+            assertSameHabits(habits, storage.loadObjects(Storage.FILE_DEBUG, tokenizer));
+        } catch (StorageException | TokenizerException exception) {
+            fail(ERROR_STORAGE_FAIL_LOAD);
+        }
+        cleanupDebugFile(storage);
+    }
+
+    /**
+     * Test that loading objects still applies the changes left in a journal, even when not journaled
+     */
+    @Test
+    @Order(23)
+    public void saveObjects_journaled_changesReplayedOnLoadObjects() {
+        Storage journaledStorage = getStorageInstance();
+        Storage plainStorage = getStorageInstance();
+        assert journaledStorage != null && plainStorage != null;
+        journaledStorage.setJournaled(true);
+        plainStorage.setJournaled(false);
+        AtomicHabitTokenizer tokenizer = new AtomicHabitTokenizer();
+        ArrayList<AtomicHabit> habits = getStreamedHabits();
+        try {
+            journaledStorage.saveObjects(habits, tokenizer, Storage.FILE_DEBUG);
+            journaledStorage.loadObjects(Storage.FILE_DEBUG, tokenizer);
+            habits.get(1).increaseCount(1);
+            journaledStorage.saveObjects(habits, tokenizer, Storage.FILE_DEBUG);
+            assertSameHabits(habits, plainStorage.loadObjects(Storage.FILE_DEBUG, tokenizer));
+        } catch (StorageException | TokenizerException exception) {
+            fail(ERROR_STORAGE_FAIL_LOAD);
+        }
+        cleanupDebugFile(plainStorage);
+    }
+
+    /**
+     * Test that objects saved in the binary format replace the text data file and are read back the same
+     */
+    @Test
+    @Order(24)
+    public void saveObjects_binaryFormat_loadObjectsRestoresObjects() {
+        Storage storage = getStorageInstance();
+        assert storage != null;
+        storage.setStorageFormat(StorageFormat.BINARY);
+        AtomicHabitTokenizer tokenizer = new AtomicHabitTokenizer();
+        ArrayList<AtomicHabit> habits = getStreamedHabits();
+        try {
+            storage.saveData(getDebugStringList(), Storage.FILE_DEBUG);
+            storage.saveObjects(habits, tokenizer, Storage.FILE_DEBUG);
+            assertTrue(Files.exists(Paths.get(DATA_DIRECTORY, DEBUG_BINARY_FILE_NAME)));
+            assertFalse(Files.exists(Paths.get(DATA_DIRECTORY, DEBUG_TEXT_FILE_NAME)));
+            assertTrue(storage.checkFileExists(Storage.FILE_DEBUG));
+            assertSameHabits(habits, storage.loadObjects(Storage.FILE_DEBUG, tokenizer));
+        } catch (StorageException | TokenizerException exception) {
+            fail(ERROR_STORAGE_FAIL_LOAD);
+        }
+        cleanupDebugFile(storage);
+        assertFalse(Files.exists(Paths.get(DATA_DIRECTORY, DEBUG_BINARY_FILE_NAME)));
+    }
+
+    /**
+     * Test that switching the storage format converts the data file on its next save without losing data
+     */
+    @Test
+    @Order(25)
+    public void setStorageFormat_switched_dataConvertedOnSave() {
+        Storage textStorage = getStorageInstance();
+        Storage binaryStorage = getStorageInstance();
+        assert textStorage != null && binaryStorage != null;
+        textStorage.setStorageFormat(StorageFormat.TEXT);
+        binaryStorage.setStorageFormat(StorageFormat.BINARY);
+        AtomicHabitTokenizer tokenizer = new AtomicHabitTokenizer();
+        ArrayList<AtomicHabit> habits = getStreamedHabits();
+        Path textPath = Paths.get(DATA_DIRECTORY, DEBUG_TEXT_FILE_NAME);
+        Path binaryPath = Paths.get(DATA_DIRECTORY, DEBUG_BINARY_FILE_NAME);
+        try {
+            textStorage.saveObjects(habits, tokenizer, Storage.FILE_DEBUG);
+            ArrayList<AtomicHabit> convertedHabits = binaryStorage.loadObjects(Storage.FILE_DEBUG, tokenizer);
+            assertSameHabits(habits, convertedHabits);
+            binaryStorage.saveObjects(convertedHabits, tokenizer, Storage.FILE_DEBUG);
+            assertTrue(Files.exists(binaryPath) && !Files.exists(textPath));
+            ArrayList<AtomicHabit> exportedHabits = textStorage.loadObjects(Storage.FILE_DEBUG, tokenizer);
+            assertSameHabits(habits, exportedHabits);
+            textStorage.saveObjects(exportedHabits, tokenizer, Storage.FILE_DEBUG);
+            assertTrue(Files.exists(textPath) && !Files.exists(binaryPath));
+            assertEquals(tokenizer.tokenize(habits), textStorage.loadData(Storage.FILE_DEBUG));
+        } catch (StorageException | TokenizerException exception) {
+            fail(ERROR_STORAGE_FAIL_LOAD);
+        }
+        cleanupDebugFile(textStorage);
+    }
+
+    /**
+     * Test that a journal append that fails partway, e.g. on a full disk, leaves no torn record behind
+     * for the next save to be appended after
+     */
+    @Test
+    @Order(26)
+    public void saveData_journalAppendFailsPartway_laterSaveReplayedOnLoad() {
+        Storage storage = getStorageInstance();
+        assert storage != null;
+        storage.setJournaled(true);
+        ArrayList<String> original = getDebugStringList();
+        ArrayList<String> lost = getDebugStringList();
+        lost.set(1, DEBUG_PAYLOAD_UPDATED);
+        ArrayList<String> expected = getDebugStringList();
+        expected.remove(0);
+        StorageJournal.ChannelOpener defaultOpener = StorageJournal.channelOpener;
+        try {
+            storage.saveData(original, Storage.FILE_DEBUG);
+            StorageJournal.channelOpener = journalPath -> new TornWriteChannel(defaultOpener.open(journalPath));
+            assertThrows(StorageException.class, () -> storage.saveData(lost, Storage.FILE_DEBUG));
+            StorageJournal.channelOpener = defaultOpener;
+            storage.saveData(expected, Storage.FILE_DEBUG);
+        } catch (StorageException exception) {
+            fail(ERROR_STORAGE_FAIL_SAVE);
+        } finally {
+            StorageJournal.channelOpener = defaultOpener;
+        }
+        Storage freshStorage = getStorageInstance();
+        assert freshStorage != null;
+        try {
+            assertEquals(expected, freshStorage.loadData(Storage.FILE_DEBUG));
+        } catch (StorageException exception) {
+            fail(ERROR_STORAGE_FAIL_LOAD);
+        }
+        cleanupDebugFile(storage);
+    }
+
+    /**
+     * FileChannel that writes only half of the first buffer it is given, then fails like a full disk.
+     */
+    private static class TornWriteChannel extends FileChannel {
+        private final FileChannel channel;
+
+        TornWriteChannel(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        public int write(ByteBuffer source) throws IOException {
+            ByteBuffer half = source.duplicate();
+            half.limit(source.position() + source.remaining() / 2);
+            int written = channel.write(half);
+            source.position(source.position() + written);
+            throw new IOException("No space left on device");
+        }
+
+        @Override
+        public long write(ByteBuffer[] sources, int offset, int length) throws IOException {
+            throw new IOException("No space left on device");
+        }
+
+        @Override
+        public int write(ByteBuffer source, long position) throws IOException {
+            throw new IOException("No space left on device");
+        }
+
+        @Override
+        public int read(ByteBuffer destination) throws IOException {
+            return channel.read(destination);
+        }
+
+        @Override
+        public long read(ByteBuffer[] destinations, int offset, int length) throws IOException {
+            return channel.read(destinations, offset, length);
+        }
+
+        @Override
+        public int read(ByteBuffer destination, long position) throws IOException {
+            return channel.read(destination, position);
+        }
+
+        @Override
+        public long position() throws IOException {
+            return channel.position();
+        }
+
+        @Override
+        public FileChannel position(long newPosition) throws IOException {
+            channel.position(newPosition);
+            return this;
+        }
+
+        @Override
+        public long size() throws IOException {
+            return channel.size();
+        }
+
+        @Override
+        public FileChannel truncate(long size) throws IOException {
+            channel.truncate(size);
+            return this;
+        }
+
+        @Override
+        public void force(boolean isMetaData) throws IOException {
+            channel.force(isMetaData);
+        }
+
+        @Override
+        public long transferTo(long position, long count, WritableByteChannel target) throws IOException {
+            return channel.transferTo(position, count, target);
+        }
+
+        @Override
+        public long transferFrom(ReadableByteChannel source, long position, long count) throws IOException {
+            return channel.transferFrom(source, position, count);
+        }
+
+        @Override
+        public MappedByteBuffer map(MapMode mode, long position, long size) throws IOException {
+            return channel.map(mode, position, size);
+        }
+
+        @Override
+        public FileLock lock(long position, long size, boolean isShared) throws IOException {
+            return channel.lock(position, size, isShared);
+        }
+
+        @Override
+        public FileLock tryLock(long position, long size, boolean isShared) throws IOException {
+            return channel.tryLock(position, size, isShared);
+        }
+
+        @Override
+        protected void implCloseChannel() throws IOException {
+            channel.close();
+        }
+    }
 }